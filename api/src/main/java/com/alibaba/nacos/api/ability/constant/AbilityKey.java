@@ -47,6 +47,18 @@ public enum AbilityKey {
      */
     SERVER_TEST_2("test_2", "just for junit test", AbilityMode.SERVER),
     
+    /**
+     * Sdk client support apply delta push of naming instances.
+     */
+    SDK_CLIENT_SUPPORT_DELTA_PUSH("supportDeltaPush", "support apply delta push of naming instances",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support receive multiple changed configs in one notify request.
+     */
+    SDK_CLIENT_SUPPORT_BATCH_CONFIG_NOTIFY("supportBatchConfigNotify",
+            "support receive multiple changed configs in one notify request", AbilityMode.SDK_CLIENT),
+    
     /**
      * For Test temporarily.
      */
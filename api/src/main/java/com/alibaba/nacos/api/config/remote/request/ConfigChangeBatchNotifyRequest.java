@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.remote.ConfigChangeContext;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Notify multiple changed configs to client in one request, only sent to clients with ability
+ * {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SDK_CLIENT_SUPPORT_BATCH_CONFIG_NOTIFY}. The client responds
+ * with {@link com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse}.
+ *
+ * @author Nacos
+ */
+public class ConfigChangeBatchNotifyRequest extends ServerRequest {
+    
+    private List<ConfigChangeContext> changedConfigs = new ArrayList<>();
+    
+    /**
+     * add changed config.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     */
+    public void addChangedConfig(String dataId, String group, String tenant) {
+        ConfigChangeContext configContext = new ConfigChangeContext();
+        configContext.setDataId(dataId);
+        configContext.setGroup(group);
+        configContext.setTenant(tenant);
+        changedConfigs.add(configContext);
+    }
+    
+    public List<ConfigChangeContext> getChangedConfigs() {
+        return changedConfigs;
+    }
+    
+    public void setChangedConfigs(List<ConfigChangeContext> changedConfigs) {
+        this.changedConfigs = changedConfigs;
+    }
+    
+    @Override
+    public String getModule() {
+        return Constants.Config.CONFIG_MODULE;
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.api.config.remote.response;
 
+import com.alibaba.nacos.api.config.remote.ConfigChangeContext;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 
@@ -44,9 +45,9 @@ public class ConfigChangeBatchListenResponse extends Response {
      */
     public void addChangeConfig(String dataId, String group, String tenant) {
         ConfigContext configContext = new ConfigContext();
-        configContext.dataId = dataId;
-        configContext.group = group;
-        configContext.tenant = tenant;
+        configContext.setDataId(dataId);
+        configContext.setGroup(group);
+        configContext.setTenant(tenant);
         changedConfigs.add(configContext);
     }
     
@@ -81,77 +82,14 @@ public class ConfigChangeBatchListenResponse extends Response {
         return response;
     }
     
-    public static class ConfigContext {
-        
-        String group;
-        
-        String dataId;
-        
-        String tenant;
+    /**
+     * Kept for compatibility, same as {@link ConfigChangeContext}.
+     */
+    public static class ConfigContext extends ConfigChangeContext {
         
         public ConfigContext() {
         
         }
-        
-        /**
-         * Getter method for property <tt>groupId</tt>.
-         *
-         * @return property value of groupId
-         */
-        public String getGroup() {
-            return group;
-        }
-        
-        /**
-         * Setter method for property <tt>groupId</tt>.
-         *
-         * @param group value to be assigned to property groupId
-         */
-        public void setGroup(String group) {
-            this.group = group;
-        }
-        
-        /**
-         * Getter method for property <tt>dataId</tt>.
-         *
-         * @return property value of dataId
-         */
-        public String getDataId() {
-            return dataId;
-        }
-        
-        /**
-         * Setter method for property <tt>dataId</tt>.
-         *
-         * @param dataId value to be assigned to property dataId
-         */
-        public void setDataId(String dataId) {
-            this.dataId = dataId;
-        }
-        
-        /**
-         * Getter method for property <tt>tenant</tt>.
-         *
-         * @return property value of tenant
-         */
-        public String getTenant() {
-            return tenant;
-        }
-        
-        /**
-         * Setter method for property <tt>tenant</tt>.
-         *
-         * @param tenant value to be assigned to property tenant
-         */
-        public void setTenant(String tenant) {
-            this.tenant = tenant;
-        }
-        
-        @Override
-        public String toString() {
-            return "ConfigContext{" + "group='" + group + '\'' + ", dataId='" + dataId + '\'' + ", tenant='" + tenant
-                    + '\'' + '}';
-        }
     }
     
 }
@@ -17,6 +17,16 @@
 package com.alibaba.nacos.api.config.remote.response;
 
 import com.alibaba.nacos.api.remote.response.Response;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * ConfigQueryResponse.
@@ -32,6 +42,11 @@ public class ConfigQueryResponse extends Response {
     
     String content;
     
+    /**
+     * UTF-8 encoded content read by server, which is serialized as {@code content} without decoding to String.
+     */
+    byte[] contentBytes;
+    
     String encryptedDataKey;
     
     String contentType;
@@ -109,7 +124,11 @@ public class ConfigQueryResponse extends Response {
      *
      * @return property value of content
      */
+    @JsonIgnore
     public String getContent() {
+        if (content == null && contentBytes != null) {
+            return new String(contentBytes, StandardCharsets.UTF_8);
+        }
         return content;
     }
     
@@ -118,8 +137,32 @@ public class ConfigQueryResponse extends Response {
      *
      * @param content value to be assigned to property content
      */
+    @JsonProperty("content")
     public void setContent(String content) {
         this.content = content;
+        this.contentBytes = null;
+    }
+    
+    @JsonIgnore
+    public byte[] getContentBytes() {
+        return null != contentBytes || null == content ? contentBytes : content.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Set the UTF-8 encoded content, which will be written to serialized content directly.
+     *
+     * @param contentBytes UTF-8 encoded content
+     */
+    @JsonIgnore
+    public void setContentBytes(byte[] contentBytes) {
+        this.contentBytes = contentBytes;
+        this.content = null;
+    }
+    
+    @JsonProperty("content")
+    @JsonSerialize(using = ContentSerializer.class)
+    Object getSerializedContent() {
+        return null != content ? content : contentBytes;
     }
     
     public void setEncryptedDataKey(String encryptedDataKey) {
@@ -147,4 +190,25 @@ public class ConfigQueryResponse extends Response {
     public void setContentType(String contentType) {
         this.contentType = contentType;
     }
+    
+    /**
+     * Serialize String content or the escaped UTF-8 content bytes as JSON string.
+     */
+    static class ContentSerializer extends JsonSerializer<Object> {
+        
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            if (value instanceof byte[]) {
+                byte[] bytes = (byte[]) value;
+                // only byte based generator can write UTF-8 bytes directly, such as serializing to bytes.
+                if (gen instanceof UTF8JsonGenerator) {
+                    gen.writeUTF8String(bytes, 0, bytes.length);
+                } else {
+                    gen.writeString(new String(bytes, StandardCharsets.UTF_8));
+                }
+            } else {
+                gen.writeString(value.toString());
+            }
+        }
+    }
 }
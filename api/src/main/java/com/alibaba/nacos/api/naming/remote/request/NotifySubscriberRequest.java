@@ -16,14 +16,22 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 
+import java.util.List;
+
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 
 /**
  * Notify subscriber request.
  *
+ * <p>If {@link #isDelta()} is {@code true}, the hosts of {@link #getServiceInfo()} only contains the added or changed
+ * instances and {@link #getRemovedHosts()} contains the removed instances, which should be applied to the service info
+ * of {@link #getBaseRevision()}. Only sent to clients with ability
+ * {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SDK_CLIENT_SUPPORT_DELTA_PUSH}.
+ *
  * @author xiweng.yy
  */
 public class NotifySubscriberRequest extends ServerRequest {
@@ -36,6 +44,14 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    private long revision;
+    
+    private boolean delta;
+    
+    private long baseRevision;
+    
+    private List<Instance> removedHosts;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -52,6 +68,37 @@ public class NotifySubscriberRequest extends ServerRequest {
         return new NotifySubscriberRequest(serviceInfo);
     }
     
+    /**
+     * Build full notify subscriber request with revision.
+     *
+     * @param serviceInfo full service info
+     * @param revision    revision of service info
+     * @return notify subscriber request
+     */
+    public static NotifySubscriberRequest buildNotifySubscriberRequest(ServiceInfo serviceInfo, long revision) {
+        NotifySubscriberRequest result = new NotifySubscriberRequest(serviceInfo);
+        result.setRevision(revision);
+        return result;
+    }
+    
+    /**
+     * Build delta notify subscriber request.
+     *
+     * @param serviceInfo  service info whose hosts are the added or changed instances
+     * @param removedHosts removed instances
+     * @param baseRevision revision of service info which the delta based on
+     * @param revision     revision of service info after applying the delta
+     * @return notify subscriber request
+     */
+    public static NotifySubscriberRequest buildNotifySubscriberDeltaRequest(ServiceInfo serviceInfo,
+            List<Instance> removedHosts, long baseRevision, long revision) {
+        NotifySubscriberRequest result = buildNotifySubscriberRequest(serviceInfo, revision);
+        result.setDelta(true);
+        result.setBaseRevision(baseRevision);
+        result.setRemovedHosts(removedHosts);
+        return result;
+    }
+    
     public ServiceInfo getServiceInfo() {
         return serviceInfo;
     }
@@ -60,6 +107,38 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.serviceInfo = serviceInfo;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public boolean isDelta() {
+        return delta;
+    }
+    
+    public void setDelta(boolean delta) {
+        this.delta = delta;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+    
+    public void setRemovedHosts(List<Instance> removedHosts) {
+        this.removedHosts = removedHosts;
+    }
+    
     public String getNamespace() {
         return namespace;
     }
@@ -189,6 +189,17 @@ public class NamingUtils {
         }
     }
     
+    /**
+     * Get the key of instance which is unique in one service, used to match instances between different pushes.
+     *
+     * @param instance instance
+     * @return ip#port#clusterName
+     */
+    public static String getInstanceKey(Instance instance) {
+        return instance.getIp() + Constants.NAMING_INSTANCE_ID_SPLITTER + instance.getPort()
+                + Constants.NAMING_INSTANCE_ID_SPLITTER + instance.getClusterName();
+    }
+    
     /**
      * Check string is a number or not.
      *
@@ -21,6 +21,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -53,6 +55,18 @@ public class ConfigQueryResponseTest extends BasedConfigResponseTest {
         assertTrue(json.contains("\"lastModified\":1111111"));
     }
     
+    @Test
+    public void testSerializeContentBytes() throws JsonProcessingException {
+        String content = "key: \"value\"\n中文: \u0001";
+        configQueryResponse.setContentBytes(content.getBytes(StandardCharsets.UTF_8));
+        String json = new String(mapper.writeValueAsBytes(configQueryResponse), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"content\":\"key: \\\"value\\\"\\n中文: \\u0001\""));
+        ConfigQueryResponse actual = mapper.readValue(json, ConfigQueryResponse.class);
+        assertEquals(content, actual.getContent());
+        assertEquals(content, configQueryResponse.getContent());
+        assertEquals(json, mapper.writeValueAsString(configQueryResponse));
+    }
+    
     @Override
     @Test
     public void testSerializeFailResponse() throws JsonProcessingException {
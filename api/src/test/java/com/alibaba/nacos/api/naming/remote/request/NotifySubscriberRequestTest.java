@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -24,8 +25,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class NotifySubscriberRequestTest {
@@ -68,6 +72,40 @@ public class NotifySubscriberRequestTest {
         assertEquals(GROUP + "@@" + SERVICE, actual.getServiceInfo().getKey());
     }
     
+    @Test
+    public void testSerializeAndDeserializeDelta() throws JsonProcessingException {
+        ServiceInfo serviceInfo = new ServiceInfo(GROUP + "@@" + SERVICE);
+        Instance removed = new Instance();
+        removed.setIp("1.1.1.1");
+        removed.setPort(8848);
+        NotifySubscriberRequest request = NotifySubscriberRequest
+                .buildNotifySubscriberDeltaRequest(serviceInfo, Collections.singletonList(removed), 1L, 2L);
+        request.setServiceName(SERVICE);
+        request.setGroupName(GROUP);
+        request.setNamespace(NAMESPACE);
+        String json = mapper.writeValueAsString(request);
+        checkSerializeBasedInfo(json);
+        assertTrue(json.contains("\"delta\":true"));
+        assertTrue(json.contains("\"baseRevision\":1"));
+        assertTrue(json.contains("\"revision\":2"));
+        NotifySubscriberRequest actual = mapper.readValue(json, NotifySubscriberRequest.class);
+        checkRequestBasedInfo(actual);
+        assertTrue(actual.isDelta());
+        assertEquals(1L, actual.getBaseRevision());
+        assertEquals(2L, actual.getRevision());
+        assertEquals(1, actual.getRemovedHosts().size());
+        assertEquals("1.1.1.1", actual.getRemovedHosts().get(0).getIp());
+    }
+    
+    @Test
+    public void testDeserializeWithoutDelta() throws JsonProcessingException {
+        String json = "{\"headers\":{},\"namespace\":\"namespace\",\"serviceName\":\"service\",\"groupName\":\"group\","
+                + "\"serviceInfo\":{\"name\":\"service\",\"groupName\":\"group\",\"hosts\":[]},\"module\":\"naming\"}";
+        NotifySubscriberRequest actual = mapper.readValue(json, NotifySubscriberRequest.class);
+        assertFalse(actual.isDelta());
+        assertEquals(0L, actual.getRevision());
+    }
+    
     private void checkRequestBasedInfo(NotifySubscriberRequest request) {
         assertEquals(SERVICE, request.getServiceName());
         assertEquals(GROUP, request.getGroupName());
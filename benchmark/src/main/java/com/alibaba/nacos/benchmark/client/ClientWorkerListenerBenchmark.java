@@ -0,0 +1,123 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.client;
+
+import com.alibaba.nacos.api.config.listener.AbstractListener;
+import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.client.config.filter.impl.ConfigFilterChainManager;
+import com.alibaba.nacos.client.config.impl.ClientWorker;
+import com.alibaba.nacos.client.config.impl.ServerListManager;
+import com.alibaba.nacos.client.env.NacosClientProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of bulk listener registration of {@link ClientWorker}.
+ *
+ * <p>Each invocation registers listeners of all keys to a new client worker, like applications with many refreshable
+ * beans at startup. Snapshot loading is disabled to measure the registration only:
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar ClientWorkerListenerBenchmark -p keyCount=1000,5000
+ * </pre>
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dnacos.cache.data.init.snapshot=false")
+@State(Scope.Benchmark)
+public class ClientWorkerListenerBenchmark {
+    
+    private static final String GROUP = "DEFAULT_GROUP";
+    
+    @Param({"5000"})
+    private int keyCount;
+    
+    private String[] dataIds;
+    
+    private List<Listener> listeners;
+    
+    private ClientWorker clientWorker;
+    
+    /**
+     * Prepare keys and listener.
+     */
+    @Setup
+    public void setUp() {
+        dataIds = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            dataIds[i] = "dataId" + i;
+        }
+        listeners = Collections.singletonList(new AbstractListener() {
+            @Override
+            public void receiveConfigInfo(String configInfo) {
+            }
+        });
+    }
+    
+    /**
+     * Create a new client worker for each invocation.
+     *
+     * @throws NacosException if create client worker failed
+     */
+    @Setup(Level.Invocation)
+    public void setUpClientWorker() throws NacosException {
+        Properties properties = new Properties();
+        NacosClientProperties clientProperties = NacosClientProperties.PROTOTYPE.derive(properties);
+        clientWorker = new ClientWorker(new ConfigFilterChainManager(properties),
+                new ServerListManager(Collections.singletonList("127.0.0.1:8848")), clientProperties);
+    }
+    
+    @TearDown(Level.Invocation)
+    public void tearDownClientWorker() throws NacosException {
+        clientWorker.shutdown();
+    }
+    
+    /**
+     * Register listeners of all keys.
+     *
+     * @return client worker
+     * @throws NacosException if register failed
+     */
+    @Benchmark
+    public ClientWorker addListeners() throws NacosException {
+        for (String each : dataIds) {
+            clientWorker.addTenantListeners(each, GROUP, listeners);
+        }
+        return clientWorker;
+    }
+}
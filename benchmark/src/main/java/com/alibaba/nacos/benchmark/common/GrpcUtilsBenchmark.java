@@ -0,0 +1,145 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link GrpcUtils#convert} and {@link GrpcUtils#parse(Payload)} for the largest payloads of the server,
+ * naming push request and config query response.
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar GrpcUtilsBenchmark -p hostCount=10,1000 -p contentSize=1024,102400
+ * </pre>
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GrpcUtilsBenchmark {
+    
+    @Param({"100"})
+    private int hostCount;
+    
+    @Param({"10240"})
+    private int contentSize;
+    
+    private NotifySubscriberRequest pushRequest;
+    
+    private byte[] encodedPushBody;
+    
+    private Payload pushPayload;
+    
+    private ConfigQueryResponse queryResponse;
+    
+    private ConfigQueryResponse queryBytesResponse;
+    
+    private Payload queryPayload;
+    
+    /**
+     * Prepare request, response and their payloads.
+     */
+    @Setup
+    public void setUp() {
+        PayloadRegistry.init();
+        List<Instance> hosts = new ArrayList<>(hostCount);
+        for (int i = 0; i < hostCount; i++) {
+            Instance instance = new Instance();
+            instance.setIp("10.0." + (i >> 8) + "." + (i & 0xff));
+            instance.setPort(8080);
+            instance.setClusterName("DEFAULT");
+            instance.setServiceName("DEFAULT_GROUP@@benchmark");
+            instance.setMetadata(Collections.singletonMap("version", "1.0.0"));
+            hosts.add(instance);
+        }
+        ServiceInfo serviceInfo = new ServiceInfo("DEFAULT_GROUP@@benchmark");
+        serviceInfo.setHosts(hosts);
+        pushRequest = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        pushRequest.setRequestId("1");
+        encodedPushBody = GrpcUtils.encodeRequestBody(pushRequest);
+        pushPayload = GrpcUtils.convert(pushRequest);
+        
+        StringBuilder content = new StringBuilder(contentSize);
+        while (content.length() < contentSize) {
+            content.append("key").append(content.length()).append("=value\n");
+        }
+        queryResponse = ConfigQueryResponse.buildSuccessResponse(content.substring(0, contentSize));
+        queryResponse.setRequestId("1");
+        queryPayload = GrpcUtils.convert(queryResponse);
+        // content read from disk cache as bytes by the query handler.
+        queryBytesResponse = new ConfigQueryResponse();
+        queryBytesResponse.setRequestId("1");
+        queryBytesResponse.setContentBytes(queryResponse.getContent().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Benchmark
+    public Payload convertPushRequest() {
+        return GrpcUtils.convert(pushRequest);
+    }
+    
+    @Benchmark
+    public Payload convertEncodedPushRequest() {
+        return GrpcUtils.convert(pushRequest, encodedPushBody);
+    }
+    
+    @Benchmark
+    public Object parsePushRequest() {
+        return GrpcUtils.parse(pushPayload);
+    }
+    
+    @Benchmark
+    public Payload convertQueryResponse() {
+        return GrpcUtils.convert(queryResponse);
+    }
+    
+    @Benchmark
+    public Payload convertQueryResponseBytes() {
+        return GrpcUtils.convert(queryBytesResponse);
+    }
+    
+    @Benchmark
+    public Object parseQueryResponse() {
+        return GrpcUtils.parse(queryPayload);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.common.notify.BackpressurePolicy;
+import com.alibaba.nacos.common.notify.DefaultPublisher;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.RingBufferPublisher;
+import com.alibaba.nacos.common.notify.RingBufferPublisherFactory;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmark of {@link NotifyCenter#publishEvent(Event)} through the {@link DefaultPublisher} or the
+ * {@link RingBufferPublisher} of one event type.
+ *
+ * <p>The throughput is limited by the single consumer thread of the publisher once the queue is full, then the
+ * publishing threads deliver the events by themselves. Thread count is set by {@code -t}:
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar NotifyCenterBenchmark -t 8 -p subscriberCount=1,8
+ * java -jar benchmark/target/benchmarks.jar NotifyCenterBenchmark -p publisherType=BLOCK,DROP_OLDEST
+ * </pre>
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class NotifyCenterBenchmark {
+    
+    private static final String DEFAULT_PUBLISHER = "DEFAULT";
+    
+    @Param({"1", "8"})
+    private int subscriberCount;
+    
+    /**
+     * {@code DEFAULT} for {@link DefaultPublisher}, or the {@link BackpressurePolicy} of {@link RingBufferPublisher}.
+     */
+    @Param({"DEFAULT", "CALLER_RUNS"})
+    private String publisherType;
+    
+    private final List<Subscriber<BenchmarkEvent>> subscribers = new ArrayList<>();
+    
+    private final LongAdder received = new LongAdder();
+    
+    /**
+     * Register subscribers of the benchmark event.
+     */
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < subscriberCount; i++) {
+            Subscriber<BenchmarkEvent> subscriber = new Subscriber<BenchmarkEvent>() {
+                
+                @Override
+                public void onEvent(BenchmarkEvent event) {
+                    received.increment();
+                }
+                
+                @Override
+                public Class<? extends Event> subscribeType() {
+                    return BenchmarkEvent.class;
+                }
+            };
+            if (DEFAULT_PUBLISHER.equals(publisherType)) {
+                NotifyCenter.registerSubscriber(subscriber);
+            } else {
+                NotifyCenter.registerSubscriber(subscriber,
+                        new RingBufferPublisherFactory(BackpressurePolicy.valueOf(publisherType)));
+            }
+            subscribers.add(subscriber);
+        }
+    }
+    
+    /**
+     * Deregister subscribers and publisher.
+     */
+    @TearDown
+    public void tearDown() {
+        for (Subscriber<BenchmarkEvent> each : subscribers) {
+            NotifyCenter.deregisterSubscriber(each);
+        }
+        subscribers.clear();
+        NotifyCenter.deregisterPublisher(BenchmarkEvent.class);
+    }
+    
+    @Benchmark
+    public boolean publish() {
+        return NotifyCenter.publishEvent(new BenchmarkEvent());
+    }
+    
+    public static class BenchmarkEvent extends Event {
+        
+        private static final long serialVersionUID = 2936180364291047227L;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark of {@link ConfigCacheService#dumpWithMd5} for changed content, which updates the md5 cache and saves the
+ * content to the disk cache selected by {@code -Dconfig_disk_type=rawdisk|rocksdb}.
+ *
+ * <p>The nacos home is a temporary directory unless {@code -Dnacos.home} is set. For example:
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar ConfigCacheServiceBenchmark -jvmArgs -Dconfig_disk_type=rocksdb
+ * </pre>
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigCacheServiceBenchmark {
+    
+    private static final String NACOS_HOME_KEY = "nacos.home";
+    
+    private static final int CONTENT_VERSIONS = 2;
+    
+    @Param({"1000"})
+    private int configCount;
+    
+    @Param({"1024", "65536"})
+    private int contentSize;
+    
+    private String[] dataIds;
+    
+    private String[] contents;
+    
+    private String[] md5s;
+    
+    private final AtomicLong lastModifiedTs = new AtomicLong();
+    
+    /**
+     * Prepare the disk cache directory and contents.
+     *
+     * @throws IOException if create temporary directory failed
+     */
+    @Setup
+    public void setUp() throws IOException {
+        if (null == System.getProperty(NACOS_HOME_KEY)) {
+            System.setProperty(NACOS_HOME_KEY, Files.createTempDirectory("nacos-benchmark").toString());
+        }
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        dataIds = new String[configCount];
+        for (int i = 0; i < configCount; i++) {
+            dataIds[i] = "benchmark-data-" + i;
+        }
+        contents = new String[CONTENT_VERSIONS];
+        md5s = new String[CONTENT_VERSIONS];
+        for (int i = 0; i < CONTENT_VERSIONS; i++) {
+            StringBuilder builder = new StringBuilder(contentSize);
+            while (builder.length() < contentSize) {
+                builder.append("key").append(builder.length()).append('=').append(i).append('\n');
+            }
+            contents[i] = builder.substring(0, contentSize);
+            md5s[i] = MD5Utils.md5Hex(contents[i], "UTF-8");
+        }
+        lastModifiedTs.set(System.currentTimeMillis());
+    }
+    
+    /**
+     * Dump one random config with the content different from the last dump.
+     *
+     * @return dump result
+     */
+    @Benchmark
+    public boolean dumpChanged() {
+        long ts = lastModifiedTs.incrementAndGet();
+        int version = (int) (ts % CONTENT_VERSIONS);
+        String dataId = dataIds[ThreadLocalRandom.current().nextInt(configCount)];
+        return ConfigCacheService.dumpWithMd5(dataId, "DEFAULT_GROUP", "", contents[version], md5s[version], ts,
+                "text", null);
+    }
+}
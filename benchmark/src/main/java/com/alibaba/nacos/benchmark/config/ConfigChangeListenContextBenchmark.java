@@ -0,0 +1,120 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.config.server.remote.ConfigChangeListenContext;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link ConfigChangeListenContext} with mixed listen and notify.
+ *
+ * <p>Listen threads add and remove listen of random group keys like batch listen requests after server restart,
+ * notify threads get listeners of random group keys like {@code RpcConfigChangeNotifier}. Thread count is set by
+ * {@code -tg listenThreads,notifyThreads}, for example 16 and 64 threads:
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar ConfigChangeListenContextBenchmark -tg 8,8
+ * java -jar benchmark/target/benchmarks.jar ConfigChangeListenContextBenchmark -tg 32,32
+ * </pre>
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigChangeListenContextBenchmark {
+    
+    private static final String MD5 = "d41d8cd98f00b204e9800998ecf8427e";
+    
+    private static final int LISTEN_KEYS_PER_CONNECTION = 10;
+    
+    @Param({"1000"})
+    private int groupKeyCount;
+    
+    @Param({"10000"})
+    private int connectionCount;
+    
+    private ConfigChangeListenContext context;
+    
+    private String[] groupKeys;
+    
+    private String[] connectionIds;
+    
+    /**
+     * Prepare listen context with listened connections.
+     */
+    @Setup
+    public void setUp() {
+        context = new ConfigChangeListenContext();
+        groupKeys = new String[groupKeyCount];
+        for (int i = 0; i < groupKeyCount; i++) {
+            groupKeys[i] = GroupKey2.getKey("dataId" + i, "group", "tenant");
+        }
+        connectionIds = new String[connectionCount];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < connectionCount; i++) {
+            connectionIds[i] = System.currentTimeMillis() + "_127.0.0.1_" + i;
+            for (int j = 0; j < LISTEN_KEYS_PER_CONNECTION; j++) {
+                context.addListen(groupKeys[random.nextInt(groupKeyCount)], MD5, connectionIds[i]);
+            }
+        }
+    }
+    
+    /**
+     * Add or remove listen of random group key for random connection.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void listen() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String groupKey = groupKeys[random.nextInt(groupKeyCount)];
+        String connectionId = connectionIds[random.nextInt(connectionCount)];
+        if (random.nextBoolean()) {
+            context.addListen(groupKey, MD5, connectionId);
+        } else {
+            context.removeListen(groupKey, connectionId);
+        }
+    }
+    
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public Set<String> notifyListeners() {
+        return context.getListeners(groupKeys[ThreadLocalRandom.current().nextInt(groupKeyCount)]);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link ClientServiceIndexesManager} index updates with concurrent reads.
+ *
+ * <p>Update threads register, deregister, subscribe and unsubscribe random services for random clients, read threads
+ * get the publishers and subscribers of random services like the push and query paths. Thread count is set by
+ * {@code -tg updateThreads,readThreads}:
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar ClientServiceIndexesManagerBenchmark -tg 8,8
+ * </pre>
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientServiceIndexesManagerBenchmark {
+    
+    private static final int SERVICES_PER_CLIENT = 10;
+    
+    @Param({"1000"})
+    private int serviceCount;
+    
+    @Param({"10000"})
+    private int clientCount;
+    
+    private ClientServiceIndexesManager indexesManager;
+    
+    private Service[] services;
+    
+    private String[] clientIds;
+    
+    /**
+     * Prepare indexes with registered and subscribed clients.
+     */
+    @Setup
+    public void setUp() {
+        indexesManager = new ClientServiceIndexesManager();
+        services = new Service[serviceCount];
+        for (int i = 0; i < serviceCount; i++) {
+            services[i] = ServiceManager.getInstance()
+                    .getSingleton(Service.newService("public", "DEFAULT_GROUP", "benchmark-service-" + i));
+        }
+        clientIds = new String[clientCount];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < clientCount; i++) {
+            clientIds[i] = System.currentTimeMillis() + "_127.0.0.1_" + i;
+            for (int j = 0; j < SERVICES_PER_CLIENT; j++) {
+                Service service = services[random.nextInt(serviceCount)];
+                indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, clientIds[i]));
+                indexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(service, clientIds[i]));
+            }
+        }
+    }
+    
+    /**
+     * Remove the services created by set up.
+     */
+    @TearDown
+    public void tearDown() {
+        for (Service each : services) {
+            ServiceManager.getInstance().removeSingleton(each);
+        }
+    }
+    
+    /**
+     * Add or remove publisher or subscriber index of random service for random client.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void update() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Service service = services[random.nextInt(serviceCount)];
+        String clientId = clientIds[random.nextInt(clientCount)];
+        switch (random.nextInt(4)) {
+            case 0:
+                indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, clientId));
+                break;
+            case 1:
+                indexesManager.onEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(service, clientId));
+                break;
+            case 2:
+                indexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(service, clientId));
+                break;
+            default:
+                indexesManager.onEvent(new ClientOperationEvent.ClientUnsubscribeServiceEvent(service, clientId));
+        }
+    }
+    
+    /**
+     * Get publishers and subscribers of random service.
+     *
+     * @return count of publishers and subscribers
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public int read() {
+        Service service = services[ThreadLocalRandom.current().nextInt(serviceCount)];
+        return indexesManager.getAllClientsRegisteredService(service).size() + indexesManager
+                .getAllClientsSubscribeService(service).size();
+    }
+}
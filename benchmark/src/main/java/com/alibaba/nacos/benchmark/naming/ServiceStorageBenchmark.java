@@ -0,0 +1,140 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.constants.ClientConstants;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.ClientAttributes;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.client.manager.impl.ConnectionBasedClientManager;
+import com.alibaba.nacos.naming.core.v2.client.manager.impl.EphemeralIpPortClientManager;
+import com.alibaba.nacos.naming.core.v2.client.manager.impl.PersistentIpPortClientManager;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link ServiceStorage#getPushData(Service)} for one service with many publishing clients.
+ *
+ * <p>{@code unchanged} reads the push data without any change, {@code oneClientChanged} re-registers the instance of
+ * one random client before each read like a heartbeat metadata update or a re-register after reconnect.
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar ServiceStorageBenchmark -p instanceCount=100,1000,10000
+ * </pre>
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceStorageBenchmark {
+    
+    @Param({"100", "1000"})
+    private int instanceCount;
+    
+    private ConnectionBasedClientManager connectionBasedClientManager;
+    
+    private ClientServiceIndexesManager indexesManager;
+    
+    private ServiceStorage serviceStorage;
+    
+    private Service service;
+    
+    private String[] clientIds;
+    
+    /**
+     * Prepare clients which publish one instance of the service each.
+     */
+    @Setup
+    public void setUp() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        connectionBasedClientManager = new ConnectionBasedClientManager();
+        SwitchDomain switchDomain = new SwitchDomain();
+        ClientManagerDelegate clientManager = new ClientManagerDelegate(connectionBasedClientManager,
+                new EphemeralIpPortClientManager(null, switchDomain), new PersistentIpPortClientManager());
+        indexesManager = new ClientServiceIndexesManager();
+        serviceStorage = new ServiceStorage(indexesManager, clientManager, switchDomain, new NamingMetadataManager());
+        service = ServiceManager.getInstance()
+                .getSingleton(Service.newService("public", "DEFAULT_GROUP", "benchmark-" + instanceCount));
+        clientIds = new String[instanceCount];
+        for (int i = 0; i < instanceCount; i++) {
+            clientIds[i] = System.currentTimeMillis() + "_10.0." + (i >> 8) + "." + (i & 0xff) + "_8080";
+            ClientAttributes attributes = new ClientAttributes();
+            attributes.addClientAttribute(ClientConstants.CONNECTION_TYPE, ClientConstants.DEFAULT_FACTORY);
+            connectionBasedClientManager.clientConnected(clientIds[i], attributes);
+            register(i);
+        }
+        serviceStorage.getPushData(service);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        serviceStorage.removeData(service);
+        ServiceManager.getInstance().removeSingleton(service);
+    }
+    
+    @Benchmark
+    public ServiceInfo unchanged() {
+        return serviceStorage.getPushData(service);
+    }
+    
+    @Benchmark
+    public ServiceInfo oneClientChanged() {
+        register(ThreadLocalRandom.current().nextInt(instanceCount));
+        return serviceStorage.getPushData(service);
+    }
+    
+    private void register(int index) {
+        String clientId = clientIds[index];
+        Client client = connectionBasedClientManager.getClient(clientId);
+        InstancePublishInfo instance = new InstancePublishInfo("10.0." + (index >> 8) + "." + (index & 0xff), 8080);
+        instance.setCluster("DEFAULT");
+        instance.setHealthy(true);
+        client.addServiceInstance(service, instance);
+        // dispatch directly instead of through the notify center to measure the storage only.
+        ClientOperationEvent event = new ClientOperationEvent.ClientRegisterServiceEvent(service, clientId);
+        indexesManager.onEvent(event);
+        serviceStorage.onEvent(event);
+    }
+}
@@ -20,8 +20,10 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.api.config.remote.ConfigChangeContext;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
@@ -71,6 +73,7 @@ import com.google.gson.JsonObject;
 import org.slf4j.Logger;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -83,6 +86,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -92,7 +97,6 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.api.common.Constants.ENCODE;
 
@@ -118,9 +122,14 @@ public class ClientWorker implements Closeable {
     private static final String ENCRYPTED_DATA_KEY_PARAM = "encryptedDataKey";
     
     /**
-     * groupKey -> cacheData.
+     * groupKey -> cacheData. Iteration of the values is weakly consistent, which is enough for the listen loop.
      */
-    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new HashMap<>());
+    private final ConcurrentMap<String, CacheData> cacheMap = new ConcurrentHashMap<>(16);
+    
+    /**
+     * groupKeys of the cacheData which should be checked by the next listen execution.
+     */
+    private final Set<String> dirtyCacheKeys = ConcurrentHashMap.newKeySet();
     
     private final ConfigFilterChainManager configFilterChainManager;
     
@@ -160,6 +169,7 @@ public class ClientWorker implements Closeable {
             }
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
+            markDirty(cache);
             agent.notifyListenConfig();
             
         }
@@ -184,6 +194,7 @@ public class ClientWorker implements Closeable {
             }
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
+            markDirty(cache);
             agent.notifyListenConfig();
         }
         
@@ -212,6 +223,7 @@ public class ClientWorker implements Closeable {
             }
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
+            markDirty(cache);
             agent.notifyListenConfig();
         }
         
@@ -233,6 +245,7 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    markDirty(cache);
                     agent.removeCache(dataId, group);
                 }
             }
@@ -257,25 +270,33 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    markDirty(cache);
                     agent.removeCache(dataId, group);
                 }
             }
         }
     }
     
+    /**
+     * Mark the cache to be checked by the next listen execution, the caller should notify the listen executor.
+     *
+     * @param cacheData cache data
+     */
+    private void markDirty(CacheData cacheData) {
+        dirtyCacheKeys.add(GroupKey.getKeyTenant(cacheData.dataId, cacheData.group, cacheData.tenant));
+    }
+    
     void removeCache(String dataId, String group, String tenant) {
         String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            CacheData remove = copy.remove(groupKey);
+            CacheData remove = cacheMap.remove(groupKey);
             if (remove != null) {
                 decreaseTaskIdCount(remove.getTaskId());
             }
-            cacheMap.set(copy);
         }
         LOGGER.info("[{}] [unsubscribe] {}", agent.getName(), groupKey);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
     }
     
     /**
@@ -343,14 +364,12 @@ public class ClientWorker implements Closeable {
                 cache.setTaskId(taskId);
             }
             
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.put(key, cache);
         }
         
         LOGGER.info("[{}] [subscribe] {}", this.agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -391,13 +410,11 @@ public class ClientWorker implements Closeable {
                 }
             }
             
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.put(key, cache);
         }
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -429,7 +446,7 @@ public class ClientWorker implements Closeable {
         if (null == dataId || null == group) {
             throw new IllegalArgumentException();
         }
-        return cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+        return cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
     }
     
     public ConfigResponse getServerConfig(String dataId, String group, String tenant, long readTimeout, boolean notify)
@@ -466,8 +483,8 @@ public class ClientWorker implements Closeable {
     }
     
     private void refreshContentAndCheck(String groupKey, boolean notify) {
-        if (cacheMap.get() != null && cacheMap.get().containsKey(groupKey)) {
-            CacheData cache = cacheMap.get().get(groupKey);
+        CacheData cache = cacheMap.get(groupKey);
+        if (cache != null) {
             refreshContentAndCheck(cache, notify);
         }
     }
@@ -507,7 +524,7 @@ public class ClientWorker implements Closeable {
     
     private Map<String, Object> getMetrics(List<ClientConfigMetricRequest.MetricsKey> metricsKeys) {
         Map<String, Object> metric = new HashMap<>(16);
-        metric.put("listenConfigSize", String.valueOf(this.cacheMap.get().size()));
+        metric.put("listenConfigSize", String.valueOf(cacheMap.size()));
         metric.put("clientVersion", VersionUtils.getFullClientVersion());
         metric.put("snapshotDir", LocalConfigInfoProcessor.LOCAL_SNAPSHOT_PATH);
         boolean isFixServer = agent.serverListManager.isFixed;
@@ -530,7 +547,7 @@ public class ClientWorker implements Closeable {
         Map<ClientConfigMetricRequest.MetricsKey, Object> values = new HashMap<>(16);
         for (ClientConfigMetricRequest.MetricsKey metricsKey : metricsKeys) {
             if (ClientConfigMetricRequest.MetricsKey.CACHE_DATA.equals(metricsKey.getType())) {
-                CacheData cacheData = cacheMap.get().get(metricsKey.getKey());
+                CacheData cacheData = cacheMap.get(metricsKey.getKey());
                 values.putIfAbsent(metricsKey,
                         cacheData == null ? null : cacheData.getContent() + ":" + cacheData.getMd5());
             }
@@ -575,6 +592,10 @@ public class ClientWorker implements Closeable {
         
         private long lastAllSyncTime = System.currentTimeMillis();
         
+        private boolean lastFailoverExist = false;
+        
+        private LocalConfigFailoverWatcher failoverWatcher;
+        
         Subscriber subscriber = null;
     
         /**
@@ -615,9 +636,11 @@ public class ClientWorker implements Closeable {
                 
                 LOGGER.info("Shutdown executor {}", executor);
                 executor.shutdown();
-                Map<String, CacheData> stringCacheDataMap = cacheMap.get();
-                for (Map.Entry<String, CacheData> entry : stringCacheDataMap.entrySet()) {
-                    entry.getValue().setConsistentWithServer(false);
+                if (failoverWatcher != null) {
+                    failoverWatcher.close();
+                }
+                for (CacheData cacheData : cacheMap.values()) {
+                    cacheData.setConsistentWithServer(false);
                 }
                 if (subscriber != null) {
                     NotifyCenter.deregisterSubscriber(subscriber);
@@ -639,6 +662,19 @@ public class ClientWorker implements Closeable {
             return labels;
         }
         
+        private boolean markReceiveNotifyChanged(String groupKey) {
+            CacheData cacheData = cacheMap.get(groupKey);
+            if (cacheData == null) {
+                return false;
+            }
+            synchronized (cacheData) {
+                cacheData.getReceiveNotifyChanged().set(true);
+                cacheData.setConsistentWithServer(false);
+            }
+            markDirty(cacheData);
+            return true;
+        }
+        
         private void initRpcClientHandler(final RpcClient rpcClientInner) {
             /*
              * Register Config Change /Config ReSync Handler
@@ -652,14 +688,24 @@ public class ClientWorker implements Closeable {
                     String groupKey = GroupKey.getKeyTenant(configChangeNotifyRequest.getDataId(),
                             configChangeNotifyRequest.getGroup(), configChangeNotifyRequest.getTenant());
                     
-                    CacheData cacheData = cacheMap.get().get(groupKey);
-                    if (cacheData != null) {
-                        synchronized (cacheData) {
-                            cacheData.getReceiveNotifyChanged().set(true);
-                            cacheData.setConsistentWithServer(false);
-                            notifyListenConfig();
-                        }
-                        
+                    if (markReceiveNotifyChanged(groupKey)) {
+                        notifyListenConfig();
+                    }
+                    return new ConfigChangeNotifyResponse();
+                }
+                if (request instanceof ConfigChangeBatchNotifyRequest) {
+                    List<ConfigChangeContext> changedConfigs =
+                            ((ConfigChangeBatchNotifyRequest) request).getChangedConfigs();
+                    LOGGER.info("[{}] [server-push] {} configs changed.", rpcClientInner.getName(),
+                            changedConfigs.size());
+                    boolean changed = false;
+                    for (ConfigChangeContext each : changedConfigs) {
+                        String groupKey = GroupKey.getKeyTenant(each.getDataId(), each.getGroup(), each.getTenant());
+                        changed |= markReceiveNotifyChanged(groupKey);
+                    }
+                    // wake up the listen loop once for the whole batch.
+                    if (changed) {
+                        notifyListenConfig();
                     }
                     return new ConfigChangeNotifyResponse();
                 }
@@ -687,15 +733,17 @@ public class ClientWorker implements Closeable {
                 public void onDisConnect(Connection connection) {
                     String taskId = rpcClientInner.getLabels().get("taskId");
                     LOGGER.info("[{}] DisConnected,clear listen context...", rpcClientInner.getName());
-                    Collection<CacheData> values = cacheMap.get().values();
+                    Collection<CacheData> values = cacheMap.values();
                     
                     for (CacheData cacheData : values) {
                         if (StringUtils.isNotBlank(taskId)) {
                             if (Integer.valueOf(taskId).equals(cacheData.getTaskId())) {
                                 cacheData.setConsistentWithServer(false);
+                                markDirty(cacheData);
                             }
                         } else {
                             cacheData.setConsistentWithServer(false);
+                            markDirty(cacheData);
                         }
                     }
                 }
@@ -738,6 +786,9 @@ public class ClientWorker implements Closeable {
         
         @Override
         public void startInternal() {
+            failoverWatcher = new LocalConfigFailoverWatcher(LocalConfigInfoProcessor.getFailoverDir(getName()),
+                    this::onFailoverChanged);
+            failoverWatcher.start();
             executor.schedule(() -> {
                 while (!executor.isShutdown() && !executor.isTerminated()) {
                     try {
@@ -770,6 +821,13 @@ public class ClientWorker implements Closeable {
             listenExecutebell.offer(bellItem);
         }
         
+        /**
+         * Execute listen for the changed caches.
+         *
+         * <p>Only the caches marked dirty by listener changes, server notifies, disconnection and failover file
+         * changes are checked. All caches are checked every {@link #ALL_SYNC_INTERNAL} as safety net for the lost
+         * marks, and also when the failover dir exists or just removed if the failover dir can't be watched.
+         */
         @Override
         public void executeConfigListen() {
             
@@ -777,14 +835,23 @@ public class ClientWorker implements Closeable {
             Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
             long now = System.currentTimeMillis();
             boolean needAllSync = now - lastAllSyncTime >= ALL_SYNC_INTERNAL;
-            for (CacheData cache : cacheMap.get().values()) {
+            boolean needCheckAll = needAllSync;
+            if (null == failoverWatcher || !failoverWatcher.isWatching()) {
+                boolean failoverExist = LocalConfigInfoProcessor.getFailoverDir(getName()).exists();
+                needCheckAll |= failoverExist || lastFailoverExist;
+                lastFailoverExist = failoverExist;
+            }
+            Collection<CacheData> checkCaches = needCheckAll ? drainAllCaches() : drainDirtyCaches();
+            List<CacheData> recheckCaches = new LinkedList<>();
+            for (CacheData cache : checkCaches) {
                 
                 synchronized (cache) {
     
                     checkLocalConfig(cache);
     
                     // check local listeners consistent.
-                    if (cache.isConsistentWithServer()) {
+                    boolean consistent = cache.isConsistentWithServer();
+                    if (consistent) {
                         cache.checkListenerMd5();
                         if (!needAllSync) {
                             continue;
@@ -796,6 +863,9 @@ public class ClientWorker implements Closeable {
                         continue;
                     }
     
+                    if (!consistent) {
+                        recheckCaches.add(cache);
+                    }
                     if (!cache.isDiscard()) {
                         List<CacheData> cacheDatas = listenCachesMap.computeIfAbsent(String.valueOf(cache.getTaskId()),
                                 k -> new LinkedList<>());
@@ -810,10 +880,15 @@ public class ClientWorker implements Closeable {
             }
             
             //execute check listen ,return true if has change keys.
-            boolean hasChangedKeys = checkListenCache(listenCachesMap);
+            final boolean hasChangedKeys = checkListenCache(listenCachesMap);
             
             //execute check remove listen.
             checkRemoveListenCache(removeListenCachesMap);
+            
+            // check again next time until consistent, listeners are notified by the check of consistent cache.
+            for (CacheData each : recheckCaches) {
+                markDirty(each);
+            }
     
             if (needAllSync) {
                 lastAllSyncTime = now;
@@ -824,6 +899,48 @@ public class ClientWorker implements Closeable {
             }
     
         }
+        
+        /**
+         * Mark the caches whose failover file is under the changed paths, which will be checked by next listen.
+         *
+         * @param changedPaths changed failover files or dirs
+         */
+        private void onFailoverChanged(Collection<Path> changedPaths) {
+            boolean changed = false;
+            for (CacheData each : cacheMap.values()) {
+                Path failoverFile = LocalConfigInfoProcessor.getFailoverFile(each.envName, each.dataId, each.group,
+                        each.tenant).toPath().toAbsolutePath().normalize();
+                for (Path changedPath : changedPaths) {
+                    if (failoverFile.startsWith(changedPath)) {
+                        markDirty(each);
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+            if (changed) {
+                notifyListenConfig();
+            }
+        }
+        
+        private Collection<CacheData> drainAllCaches() {
+            dirtyCacheKeys.clear();
+            return cacheMap.values();
+        }
+        
+        private Collection<CacheData> drainDirtyCaches() {
+            List<CacheData> result = new ArrayList<>(dirtyCacheKeys.size());
+            Iterator<String> iterator = dirtyCacheKeys.iterator();
+            while (iterator.hasNext()) {
+                CacheData cache = cacheMap.get(iterator.next());
+                iterator.remove();
+                // removed cache has been un listened.
+                if (null != cache) {
+                    result.add(cache);
+                }
+            }
+            return result;
+        }
     
         /**
          * Checks and handles local configuration for a given CacheData object. This method evaluates the use of
@@ -968,7 +1085,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(changeConfig.getDataId(),
                                                 changeConfig.getGroup(), changeConfig.getTenant());
                                         changeKeys.add(changeKey);
-                                        boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                        boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                         refreshContentAndCheck(changeKey, !isInitializing);
                                     }
     
@@ -979,7 +1096,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(cacheData.dataId, cacheData.group,
                                                 cacheData.getTenant());
                                         if (!changeKeys.contains(changeKey)) {
-                                            boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                            boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                             refreshContentAndCheck(changeKey, !isInitializing);
                                         }
                                     }
@@ -1086,7 +1203,7 @@ public class ClientWorker implements Closeable {
             request.putHeader(NOTIFY_HEADER, String.valueOf(notify));
             RpcClient rpcClient = getOneRunningClient();
             if (notify) {
-                CacheData cacheData = cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+                CacheData cacheData = cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
                 if (cacheData != null) {
                     rpcClient = ensureRpcClient(String.valueOf(cacheData.getTaskId()));
                 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.client.utils.LogUtils;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import org.slf4j.Logger;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+/**
+ * Watcher of the local failover config dir.
+ *
+ * <p>The failover dir and all its sub dirs are registered to {@link WatchService}. If the failover dir does not exist,
+ * the nearest existing ancestor is registered to wait for its creation. The changed paths of one batch of events are
+ * reported together, and a changed dir means that all the failover files under it might be changed.
+ *
+ * @author Nacos
+ */
+public class LocalConfigFailoverWatcher implements Closeable {
+    
+    private static final Logger LOGGER = LogUtils.logger(LocalConfigFailoverWatcher.class);
+    
+    private final Path failoverDir;
+    
+    private final Consumer<Collection<Path>> changeCallback;
+    
+    private final Map<WatchKey, Path> watchedDirs = new ConcurrentHashMap<>();
+    
+    private WatchService watchService;
+    
+    private ExecutorService executor;
+    
+    private volatile boolean watching = false;
+    
+    public LocalConfigFailoverWatcher(File failoverDir, Consumer<Collection<Path>> changeCallback) {
+        this.failoverDir = failoverDir.toPath().toAbsolutePath().normalize();
+        this.changeCallback = changeCallback;
+    }
+    
+    /**
+     * Start to watch the failover dir. The caller should probe the failover files by itself if failed.
+     *
+     * @return {@code true} if started to watch, otherwise {@code false}
+     */
+    public synchronized boolean start() {
+        if (watching) {
+            return true;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            registerFailoverDir();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("[failover-watcher] watch {} failed, failover files will be probed.", failoverDir, e);
+            closeWatchService();
+            return false;
+        }
+        executor = ExecutorFactory
+                .newSingleExecutorService(new NameThreadFactory("com.alibaba.nacos.client.config.failover.watcher"));
+        watching = true;
+        executor.execute(this::watch);
+        LOGGER.info("[failover-watcher] start to watch {}", failoverDir);
+        return true;
+    }
+    
+    public boolean isWatching() {
+        return watching;
+    }
+    
+    public Path getFailoverDir() {
+        return failoverDir;
+    }
+    
+    private void watch() {
+        while (watching) {
+            Set<Path> changedPaths = new HashSet<>();
+            try {
+                WatchKey key = watchService.take();
+                // handle all the pending keys as one batch.
+                while (null != key) {
+                    processEvents(key, changedPaths);
+                    key = watchService.poll();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            } catch (Throwable e) {
+                LOGGER.warn("[failover-watcher] handle watch events of {} failed.", failoverDir, e);
+                changedPaths.add(failoverDir);
+            }
+            if (!changedPaths.isEmpty()) {
+                try {
+                    changeCallback.accept(changedPaths);
+                } catch (Throwable e) {
+                    LOGGER.error("[failover-watcher] notify failover changes failed.", e);
+                }
+            }
+        }
+    }
+    
+    private void processEvents(WatchKey key, Set<Path> changedPaths) throws IOException {
+        Path dir = watchedDirs.get(key);
+        boolean ancestorChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (null == dir || StandardWatchEventKinds.OVERFLOW == event.kind()) {
+                changedPaths.add(failoverDir);
+                ancestorChanged = true;
+                continue;
+            }
+            Path changed = dir.resolve((Path) event.context());
+            if (changed.startsWith(failoverDir)) {
+                changedPaths.add(changed);
+                if (StandardWatchEventKinds.ENTRY_CREATE == event.kind() && Files.isDirectory(changed)) {
+                    registerTree(changed);
+                }
+            } else if (failoverDir.startsWith(changed)) {
+                changedPaths.add(failoverDir);
+                ancestorChanged = true;
+            }
+        }
+        if (!key.reset()) {
+            watchedDirs.remove(key);
+            if (null != dir && failoverDir.startsWith(dir)) {
+                changedPaths.add(failoverDir);
+                ancestorChanged = true;
+            }
+        }
+        if (ancestorChanged) {
+            registerFailoverDir();
+        }
+    }
+    
+    private void registerFailoverDir() throws IOException {
+        if (Files.isDirectory(failoverDir)) {
+            registerTree(failoverDir);
+            cancelAncestors();
+            return;
+        }
+        Path child = failoverDir;
+        Path ancestor = failoverDir.getParent();
+        while (null != ancestor && !Files.isDirectory(ancestor)) {
+            child = ancestor;
+            ancestor = ancestor.getParent();
+        }
+        if (null == ancestor) {
+            return;
+        }
+        register(ancestor);
+        // the child might be created before the ancestor registered.
+        if (Files.isDirectory(child)) {
+            registerFailoverDir();
+        }
+    }
+    
+    private void registerTree(Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                register(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+    
+    private void register(Path dir) throws IOException {
+        WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watchedDirs.put(key, dir);
+    }
+    
+    private void cancelAncestors() {
+        Iterator<Map.Entry<WatchKey, Path>> iterator = watchedDirs.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<WatchKey, Path> entry = iterator.next();
+            if (!entry.getValue().startsWith(failoverDir)) {
+                entry.getKey().cancel();
+                iterator.remove();
+            }
+        }
+    }
+    
+    private void closeWatchService() {
+        if (null == watchService) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.warn("[failover-watcher] close watch service failed.", e);
+        }
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (!watching) {
+            return;
+        }
+        watching = false;
+        closeWatchService();
+        executor.shutdownNow();
+        watchedDirs.clear();
+        LOGGER.info("[failover-watcher] stop to watch {}", failoverDir);
+    }
+}
@@ -190,10 +190,14 @@ public class LocalConfigInfoProcessor {
         }
     }
     
-    static File getFailoverFile(String serverName, String dataId, String group, String tenant) {
+    static File getFailoverDir(String serverName) {
         serverName = simplyEnvNameIfOverLimit(serverName);
         File tmp = new File(LOCAL_SNAPSHOT_PATH, serverName + SUFFIX);
-        tmp = new File(tmp, FAILOVER_FILE_CHILD_1);
+        return new File(tmp, FAILOVER_FILE_CHILD_1);
+    }
+    
+    static File getFailoverFile(String serverName, String dataId, String group, String tenant) {
+        File tmp = getFailoverDir(serverName);
         if (StringUtils.isBlank(tenant)) {
             tmp = new File(tmp, FAILOVER_FILE_CHILD_2);
         } else {
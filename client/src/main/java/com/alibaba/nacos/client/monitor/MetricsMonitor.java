@@ -38,6 +38,14 @@ public class MetricsMonitor {
             .name("nacos_client_naming_request_failed_total").help("nacos_client_naming_request_failed_total")
             .labelNames("module", "req_class", "res_status", "res_code", "err_class").register();
     
+    private static final Histogram NACOS_CLIENT_DISK_CACHE_WRITE_HISTOGRAM = Histogram.build()
+            .name("nacos_client_disk_cache_write").help("nacos_client_disk_cache_write").labelNames("module")
+            .register();
+    
+    private static final Counter NACOS_CLIENT_DISK_CACHE_DROPPED_TOTAL = Counter.build()
+            .name("nacos_client_disk_cache_dropped_total").help("nacos_client_disk_cache_dropped_total")
+            .labelNames("module").register();
+    
     public static Gauge.Child getServiceInfoMapSizeMonitor() {
         return NACOS_MONITOR.labels("naming", "serviceInfoMapSize");
     }
@@ -58,5 +66,13 @@ public class MetricsMonitor {
             String errClass) {
         return NACOS_CLIENT_NAMING_REQUEST_FAILED_TOTAL.labels("naming", reqClass, resStatus, resCode, errClass);
     }
+    
+    public static Histogram.Child getNamingDiskCacheWriteMonitor() {
+        return NACOS_CLIENT_DISK_CACHE_WRITE_HISTOGRAM.labels("naming");
+    }
+    
+    public static Counter.Child getNamingDiskCacheDroppedMonitor() {
+        return NACOS_CLIENT_DISK_CACHE_DROPPED_TOTAL.labels("naming");
+    }
 }
 
@@ -26,14 +26,21 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
 
@@ -44,21 +51,32 @@ import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
  */
 public class DiskCache {
     
+    /**
+     * Temp files are written in the sub dir, which is skipped by {@link #read(String)}.
+     */
+    private static final String TMP_DIR = ".tmp";
+    
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+    
     /**
      * Write service info to dir.
      *
+     * <p>The content is written to a temp file and then renamed to the cache file, so that readers never see a
+     * partially written cache file.
+     *
      * @param dom service info
      * @param dir directory
+     * @return {@code true} if the cache file is written, otherwise {@code false}
      */
-    public static void write(ServiceInfo dom, String dir) {
+    public static boolean write(ServiceInfo dom, String dir) {
         
         try {
             makeSureCacheDirExists(dir);
             
             File file = new File(dir, dom.getKeyEncoded());
-            createFileIfAbsent(file, false);
-            
-            StringBuilder keyContentBuffer = new StringBuilder();
+            if (file.isDirectory()) {
+                throw new IllegalStateException("cache file is a directory: " + file.getPath());
+            }
             
             String json = dom.getJsonFromServer();
             
@@ -66,13 +84,31 @@ public class DiskCache {
                 json = JacksonUtils.toJson(dom);
             }
             
-            keyContentBuffer.append(json);
-            
-            //Use the concurrent API to ensure the consistency.
-            ConcurrentDiskUtil.writeFileContent(file, keyContentBuffer.toString(), Charset.defaultCharset().toString());
-            
+            writeAtomically(file, json);
+            return true;
         } catch (Throwable e) {
             NAMING_LOGGER.error("[NA] failed to write cache for dom:" + dom.getName(), e);
+            return false;
+        }
+    }
+    
+    private static void writeAtomically(File file, String content) throws IOException {
+        File tmpDir = makeSureCacheDirExists(new File(file.getParentFile(), TMP_DIR).getPath());
+        // not Files.createTempFile, which creates the file with mode 0600 instead of the mode by umask.
+        Path tmpFile = new File(tmpDir, file.getName() + "." + UUID.randomUUID() + TMP_FILE_SUFFIX).toPath();
+        try {
+            try (OutputStream out = Files
+                    .newOutputStream(tmpFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                out.write(content.getBytes(Charset.defaultCharset()));
+            }
+            try {
+                Files.move(tmpFile, file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmpFile);
         }
     }
     
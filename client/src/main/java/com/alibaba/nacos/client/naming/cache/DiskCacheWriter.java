@@ -0,0 +1,187 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.monitor.MetricsMonitor;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.lifecycle.Closeable;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
+
+/**
+ * Asynchronous writer of {@link DiskCache}.
+ *
+ * <p>Only the latest service info of each service is kept before written, the replaced versions are dropped. Cache
+ * files are written one by one in a background thread with an interval between two writes, which bounds the I/O rate
+ * and coalesces more versions when services change frequently.
+ *
+ * @author Nacos
+ */
+public class DiskCacheWriter implements Closeable {
+    
+    /**
+     * Default interval between two writes in milliseconds, which bounds the writes to 100 files per second.
+     */
+    public static final long DEFAULT_WRITE_INTERVAL = 10L;
+    
+    /**
+     * Minimum delay before retrying a failed write in milliseconds.
+     */
+    private static final long RETRY_DELAY = 1000L;
+    
+    /**
+     * Max time to wait for the writer finishing its current write when shutdown in milliseconds.
+     */
+    private static final long SHUTDOWN_TIMEOUT = 5000L;
+    
+    /**
+     * Sentinel key to wake the writer waiting for keys when shutdown, service keys are never empty.
+     */
+    private static final String WAKE_UP_KEY = "";
+    
+    private final String cacheDir;
+    
+    private final long writeInterval;
+    
+    private final ConcurrentMap<String, ServiceInfo> pendingServices = new ConcurrentHashMap<>(16);
+    
+    private final BlockingQueue<String> pendingKeys = new LinkedBlockingQueue<>();
+    
+    private final ExecutorService executor;
+    
+    private final CountDownLatch shutdownLatch = new CountDownLatch(1);
+    
+    private volatile boolean shutdown = false;
+    
+    public DiskCacheWriter(String cacheDir, long writeInterval) {
+        this.cacheDir = cacheDir;
+        this.writeInterval = writeInterval;
+        this.executor = ExecutorFactory
+                .newSingleExecutorService(new NameThreadFactory("com.alibaba.nacos.client.naming.cache.writer"));
+        this.executor.execute(this::writeLoop);
+    }
+    
+    /**
+     * Write service info to disk cache asynchronously, replace the pending version of the same service if exists.
+     *
+     * @param serviceInfo service info
+     */
+    public void write(ServiceInfo serviceInfo) {
+        String key = serviceInfo.getKey();
+        if (null != pendingServices.put(key, serviceInfo)) {
+            // the key is still in queue, the replaced version is dropped.
+            MetricsMonitor.getNamingDiskCacheDroppedMonitor().inc();
+            return;
+        }
+        pendingKeys.offer(key);
+    }
+    
+    private void writeLoop() {
+        while (!shutdown) {
+            try {
+                // shutdown wakes the waiting writer by the sentinel key, the pending versions are written by shutdown.
+                String key = pendingKeys.take();
+                if (shutdown) {
+                    return;
+                }
+                // remove after taking the key, so that the newer version written later is enqueued again.
+                ServiceInfo serviceInfo = pendingServices.remove(key);
+                if (null == serviceInfo) {
+                    continue;
+                }
+                long waitMillis = writeInterval;
+                if (!doWrite(serviceInfo)) {
+                    requeue(key, serviceInfo);
+                    waitMillis = Math.max(writeInterval, RETRY_DELAY);
+                }
+                // wait for the interval, or return right away when shutdown.
+                if (waitMillis > 0 && shutdownLatch.await(waitMillis, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                NAMING_LOGGER.error("[NA] disk cache writer error", e);
+            }
+        }
+    }
+    
+    private void requeue(String key, ServiceInfo serviceInfo) {
+        // a newer version written meanwhile is already enqueued and wins.
+        if (null == pendingServices.putIfAbsent(key, serviceInfo)) {
+            pendingKeys.offer(key);
+        }
+    }
+    
+    private boolean doWrite(ServiceInfo serviceInfo) {
+        long start = System.currentTimeMillis();
+        boolean written = DiskCache.write(serviceInfo, cacheDir);
+        MetricsMonitor.getNamingDiskCacheWriteMonitor().observe(System.currentTimeMillis() - start);
+        return written;
+    }
+    
+    /**
+     * Get count of service infos waiting to be written.
+     *
+     * @return pending count
+     */
+    public int pendingCount() {
+        return pendingServices.size();
+    }
+    
+    /**
+     * Stop the background writer and write the pending service infos in the caller thread.
+     *
+     * <p>The writer is woken deliberately instead of being interrupted, and joined before the pending service infos are
+     * written, so that a write in progress is neither broken nor overtaken by an older version.
+     */
+    @Override
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        shutdownLatch.countDown();
+        pendingKeys.offer(WAKE_UP_KEY);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                NAMING_LOGGER.warn("[NA] disk cache writer not stopped in {} ms", SHUTDOWN_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pendingKeys.clear();
+        for (String key : pendingServices.keySet()) {
+            ServiceInfo serviceInfo = pendingServices.remove(key);
+            if (null != serviceInfo) {
+                doWrite(serviceInfo);
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
 import com.alibaba.nacos.client.naming.event.InstancesChangeEvent;
+import com.alibaba.nacos.client.naming.event.InstancesDiff;
 import com.alibaba.nacos.client.naming.utils.CacheDirUtil;
 import com.alibaba.nacos.common.lifecycle.Closeable;
 import com.alibaba.nacos.common.notify.NotifyCenter;
@@ -33,11 +34,10 @@ import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -52,10 +52,18 @@ public class ServiceInfoHolder implements Closeable {
     
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    /**
+     * Revision of the service info pushed by server, only the cached service info which is applied from push with
+     * recorded revision can be the base of delta push.
+     */
+    private final ConcurrentMap<String, Long> pushedRevisionMap = new ConcurrentHashMap<>(16);
+    
     private final FailoverReactor failoverReactor;
     
     private final boolean pushEmptyProtection;
     
+    private final DiskCacheWriter diskCacheWriter;
+    
     private String cacheDir;
     
     private String notifierEventScope;
@@ -70,6 +78,7 @@ public class ServiceInfoHolder implements Closeable {
         this.failoverReactor = new FailoverReactor(this, notifierEventScope);
         this.pushEmptyProtection = isPushEmptyProtect(properties);
         this.notifierEventScope = notifierEventScope;
+        this.diskCacheWriter = new DiskCacheWriter(cacheDir, getCacheWriteInterval(properties));
     }
     
     private boolean isLoadCacheAtStart(NacosClientProperties properties) {
@@ -92,6 +101,15 @@ public class ServiceInfoHolder implements Closeable {
         return pushEmptyProtection;
     }
     
+    private long getCacheWriteInterval(NacosClientProperties properties) {
+        if (properties != null && StringUtils.isNotEmpty(
+                properties.getProperty(PropertyKeyConst.NAMING_CACHE_WRITE_INTERVAL))) {
+            return ConvertUtils.toLong(properties.getProperty(PropertyKeyConst.NAMING_CACHE_WRITE_INTERVAL),
+                    DiskCacheWriter.DEFAULT_WRITE_INTERVAL);
+        }
+        return DiskCacheWriter.DEFAULT_WRITE_INTERVAL;
+    }
+    
     public Map<String, ServiceInfo> getServiceInfoMap() {
         return serviceInfoMap;
     }
@@ -117,38 +135,109 @@ public class ServiceInfoHolder implements Closeable {
     /**
      * Process service info.
      *
+     * <p>Synchronized with processing pushed service info, so that the cached service info and pushed revision of a
+     * service are updated together and a delta push is never merged into a replaced service info.
+     *
      * @param serviceInfo new service info
      * @return service info
      */
-    public ServiceInfo processServiceInfo(ServiceInfo serviceInfo) {
+    public synchronized ServiceInfo processServiceInfo(ServiceInfo serviceInfo) {
         String serviceKey = serviceInfo.getKey();
         if (serviceKey == null) {
             return null;
         }
+        // cached service info will be changed by data not from push, so it can't be the base of delta push.
+        pushedRevisionMap.remove(serviceKey);
         ServiceInfo oldService = serviceInfoMap.get(serviceInfo.getKey());
         if (isEmptyOrErrorPush(serviceInfo)) {
             //empty or error push, just ignore
             return oldService;
         }
         serviceInfoMap.put(serviceInfo.getKey(), serviceInfo);
-        boolean changed = isChangedServiceInfo(oldService, serviceInfo);
+        InstancesDiff diff = getServiceInfoDiff(oldService, serviceInfo);
+        boolean changed = null == oldService || diff.hasDifferent();
         if (StringUtils.isBlank(serviceInfo.getJsonFromServer())) {
             serviceInfo.setJsonFromServer(JacksonUtils.toJson(serviceInfo));
         }
         MetricsMonitor.getServiceInfoMapSizeMonitor().set(serviceInfoMap.size());
         if (changed) {
-            NAMING_LOGGER.info("current ips:({}) service: {} -> {}", serviceInfo.ipCount(), serviceInfo.getKey(),
-                    JacksonUtils.toJson(serviceInfo.getHosts()));
+            if (NAMING_LOGGER.isInfoEnabled()) {
+                NAMING_LOGGER.info("current ips:({}) service: {} -> {}", serviceInfo.ipCount(), serviceInfo.getKey(),
+                        JacksonUtils.toJson(serviceInfo.getHosts()));
+            }
             if (!failoverReactor.isFailoverSwitch()) {
                 NotifyCenter.publishEvent(
                         new InstancesChangeEvent(notifierEventScope, serviceInfo.getName(), serviceInfo.getGroupName(),
-                                serviceInfo.getClusters(), serviceInfo.getHosts()));
+                                serviceInfo.getClusters(), serviceInfo.getHosts(), diff));
             }
-            DiskCache.write(serviceInfo, cacheDir);
+            diskCacheWriter.write(serviceInfo);
         }
         return serviceInfo;
     }
     
+    /**
+     * Process full service info pushed by server.
+     *
+     * @param serviceInfo pushed service info
+     * @param revision    revision of pushed service info
+     * @return service info
+     */
+    public synchronized ServiceInfo processPushedServiceInfo(ServiceInfo serviceInfo, long revision) {
+        ServiceInfo result = processServiceInfo(serviceInfo);
+        // only record revision when the pushed service info is applied.
+        if (null != result && result == serviceInfo) {
+            pushedRevisionMap.put(result.getKey(), revision);
+        }
+        return result;
+    }
+    
+    /**
+     * Process delta service info pushed by server.
+     *
+     * @param upsertServiceInfo service info which hosts are added or changed instances
+     * @param removedHosts      removed instances
+     * @param baseRevision      revision of service info which the delta based on
+     * @param revision          revision of service info after applying the delta
+     * @return merged service info, or {@code null} if the delta can't be applied to the cached service info
+     */
+    public synchronized ServiceInfo processDeltaServiceInfo(ServiceInfo upsertServiceInfo, List<Instance> removedHosts,
+            long baseRevision, long revision) {
+        String serviceKey = upsertServiceInfo.getKey();
+        if (serviceKey == null) {
+            return null;
+        }
+        Long pushedRevision = pushedRevisionMap.get(serviceKey);
+        ServiceInfo oldService = serviceInfoMap.get(serviceKey);
+        if (null == pushedRevision || pushedRevision != baseRevision || null == oldService) {
+            NAMING_LOGGER.warn("delta push can't be applied for service: {}, base revision: {}, local revision: {}",
+                    serviceKey, baseRevision, pushedRevision);
+            return null;
+        }
+        Map<String, Instance> mergedHosts = new LinkedHashMap<>(oldService.getHosts().size() * 4 / 3 + 1);
+        for (Instance each : oldService.getHosts()) {
+            mergedHosts.put(NamingUtils.getInstanceKey(each), each);
+        }
+        if (null != removedHosts) {
+            for (Instance each : removedHosts) {
+                mergedHosts.remove(NamingUtils.getInstanceKey(each));
+            }
+        }
+        for (Instance each : upsertServiceInfo.getHosts()) {
+            mergedHosts.put(NamingUtils.getInstanceKey(each), each);
+        }
+        ServiceInfo mergedService = new ServiceInfo();
+        mergedService.setName(upsertServiceInfo.getName());
+        mergedService.setGroupName(upsertServiceInfo.getGroupName());
+        mergedService.setClusters(upsertServiceInfo.getClusters());
+        mergedService.setCacheMillis(upsertServiceInfo.getCacheMillis());
+        mergedService.setLastRefTime(upsertServiceInfo.getLastRefTime());
+        mergedService.setChecksum(upsertServiceInfo.getChecksum());
+        mergedService.setAllIPs(upsertServiceInfo.isAllIPs());
+        mergedService.setReachProtectionThreshold(upsertServiceInfo.isReachProtectionThreshold());
+        mergedService.setHosts(new ArrayList<>(mergedHosts.values()));
+        return processPushedServiceInfo(mergedService, revision);
+    }
+    
     private boolean isEmptyOrErrorPush(ServiceInfo serviceInfo) {
         return null == serviceInfo.getHosts() || (pushEmptyProtection && !serviceInfo.validate());
     }
@@ -161,73 +250,48 @@ public class ServiceInfoHolder implements Closeable {
      * @return
      */
     public boolean isChangedServiceInfo(ServiceInfo oldService, ServiceInfo newService) {
+        InstancesDiff diff = getServiceInfoDiff(oldService, newService);
+        return null == oldService || diff.hasDifferent();
+    }
+    
+    /**
+     * Get the diff of instances from old service to new service. The changed instances are rendered to json only when
+     * the info log is enabled.
+     *
+     * @param oldService old service data, {@code null} means all the instances of new service are added
+     * @param newService new service data
+     * @return diff of instances, empty if the new service is out of date
+     */
+    public InstancesDiff getServiceInfoDiff(ServiceInfo oldService, ServiceInfo newService) {
         if (null == oldService) {
-            NAMING_LOGGER.info("init new ips({}) service: {} -> {}", newService.ipCount(), newService.getKey(),
-                    JacksonUtils.toJson(newService.getHosts()));
-            return true;
+            if (NAMING_LOGGER.isInfoEnabled()) {
+                NAMING_LOGGER.info("init new ips({}) service: {} -> {}", newService.ipCount(), newService.getKey(),
+                        JacksonUtils.toJson(newService.getHosts()));
+            }
+            return new InstancesDiff(newService.getHosts(), Collections.emptyList(), Collections.emptyList());
         }
         if (oldService.getLastRefTime() > newService.getLastRefTime()) {
             NAMING_LOGGER.warn("out of date data received, old-t: {}, new-t: {}", oldService.getLastRefTime(),
                     newService.getLastRefTime());
-            return false;
-        }
-        boolean changed = false;
-        Map<String, Instance> oldHostMap = new HashMap<>(oldService.getHosts().size());
-        for (Instance host : oldService.getHosts()) {
-            oldHostMap.put(host.toInetAddr(), host);
-        }
-        Map<String, Instance> newHostMap = new HashMap<>(newService.getHosts().size());
-        for (Instance host : newService.getHosts()) {
-            newHostMap.put(host.toInetAddr(), host);
-        }
-        
-        Set<Instance> modHosts = new HashSet<>();
-        Set<Instance> newHosts = new HashSet<>();
-        Set<Instance> remvHosts = new HashSet<>();
-        
-        List<Map.Entry<String, Instance>> newServiceHosts = new ArrayList<>(newHostMap.entrySet());
-        for (Map.Entry<String, Instance> entry : newServiceHosts) {
-            Instance host = entry.getValue();
-            String key = entry.getKey();
-            if (oldHostMap.containsKey(key) && !StringUtils.equals(host.toString(), oldHostMap.get(key).toString())) {
-                modHosts.add(host);
-                continue;
-            }
-            
-            if (!oldHostMap.containsKey(key)) {
-                newHosts.add(host);
-            }
+            return new InstancesDiff();
         }
-        
-        for (Map.Entry<String, Instance> entry : oldHostMap.entrySet()) {
-            Instance host = entry.getValue();
-            String key = entry.getKey();
-            if (newHostMap.containsKey(key)) {
-                continue;
-            }
-            
-            //add to remove hosts
-            remvHosts.add(host);
+        InstancesDiff diff = InstancesDiff.compute(oldService.getHosts(), newService.getHosts());
+        if (!NAMING_LOGGER.isInfoEnabled()) {
+            return diff;
         }
-        
-        if (newHosts.size() > 0) {
-            changed = true;
-            NAMING_LOGGER.info("new ips({}) service: {} -> {}", newHosts.size(), newService.getKey(),
-                    JacksonUtils.toJson(newHosts));
+        if (diff.isAdded()) {
+            NAMING_LOGGER.info("new ips({}) service: {} -> {}", diff.getAddedInstances().size(), newService.getKey(),
+                    JacksonUtils.toJson(diff.getAddedInstances()));
         }
-        
-        if (remvHosts.size() > 0) {
-            changed = true;
-            NAMING_LOGGER.info("removed ips({}) service: {} -> {}", remvHosts.size(), newService.getKey(),
-                    JacksonUtils.toJson(remvHosts));
+        if (diff.isRemoved()) {
+            NAMING_LOGGER.info("removed ips({}) service: {} -> {}", diff.getRemovedInstances().size(),
+                    newService.getKey(), JacksonUtils.toJson(diff.getRemovedInstances()));
         }
-        
-        if (modHosts.size() > 0) {
-            changed = true;
-            NAMING_LOGGER.info("modified ips({}) service: {} -> {}", modHosts.size(), newService.getKey(),
-                    JacksonUtils.toJson(modHosts));
+        if (diff.isModified()) {
+            NAMING_LOGGER.info("modified ips({}) service: {} -> {}", diff.getModifiedInstances().size(),
+                    newService.getKey(), JacksonUtils.toJson(diff.getModifiedInstances()));
         }
-        return changed;
+        return diff;
     }
     
     public String getCacheDir() {
@@ -249,6 +313,7 @@ public class ServiceInfoHolder implements Closeable {
         String className = this.getClass().getName();
         NAMING_LOGGER.info("{} do shutdown begin", className);
         failoverReactor.shutdown();
+        diskCacheWriter.shutdown();
         NAMING_LOGGER.info("{} do shutdown stop", className);
     }
 }
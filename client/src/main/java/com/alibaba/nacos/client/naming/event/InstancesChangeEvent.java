@@ -41,12 +41,20 @@ public class InstancesChangeEvent extends Event {
     
     private final List<Instance> hosts;
     
+    private final InstancesDiff instancesDiff;
+    
     public InstancesChangeEvent(String eventScope, String serviceName, String groupName, String clusters, List<Instance> hosts) {
+        this(eventScope, serviceName, groupName, clusters, hosts, new InstancesDiff());
+    }
+    
+    public InstancesChangeEvent(String eventScope, String serviceName, String groupName, String clusters,
+            List<Instance> hosts, InstancesDiff instancesDiff) {
         this.eventScope = eventScope;
         this.serviceName = serviceName;
         this.groupName = groupName;
         this.clusters = clusters;
         this.hosts = hosts;
+        this.instancesDiff = instancesDiff;
     }
     
     public String getServiceName() {
@@ -65,6 +73,10 @@ public class InstancesChangeEvent extends Event {
         return hosts;
     }
     
+    public InstancesDiff getInstancesDiff() {
+        return instancesDiff;
+    }
+    
     @Override
     public String scope() {
         return this.eventScope;
@@ -0,0 +1,172 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.event;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Diff of instances between the cached service info and the received service info.
+ *
+ * <p>Instances are matched by ip and port, and compared by fields instead of rendered strings. If the two lists are
+ * in the same order, which is common for the pushes of one service, no map is built.
+ *
+ * @author Nacos
+ */
+public class InstancesDiff {
+    
+    private final List<Instance> addedInstances;
+    
+    private final List<Instance> removedInstances;
+    
+    private final List<Instance> modifiedInstances;
+    
+    public InstancesDiff() {
+        this(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+    
+    public InstancesDiff(List<Instance> addedInstances, List<Instance> removedInstances,
+            List<Instance> modifiedInstances) {
+        this.addedInstances = addedInstances;
+        this.removedInstances = removedInstances;
+        this.modifiedInstances = modifiedInstances;
+    }
+    
+    /**
+     * Compute diff from old instances to new instances.
+     *
+     * @param oldHosts old instances
+     * @param newHosts new instances
+     * @return diff
+     */
+    public static InstancesDiff compute(List<Instance> oldHosts, List<Instance> newHosts) {
+        if (oldHosts.size() == newHosts.size()) {
+            InstancesDiff result = computeInOrder(oldHosts, newHosts);
+            if (null != result) {
+                return result;
+            }
+        }
+        Map<String, Instance> oldHostMap = new HashMap<>(oldHosts.size() * 4 / 3 + 1);
+        for (Instance each : oldHosts) {
+            oldHostMap.put(each.toInetAddr(), each);
+        }
+        Map<String, Instance> newHostMap = new LinkedHashMap<>(newHosts.size() * 4 / 3 + 1);
+        for (Instance each : newHosts) {
+            newHostMap.put(each.toInetAddr(), each);
+        }
+        List<Instance> added = new ArrayList<>();
+        List<Instance> modified = new ArrayList<>();
+        for (Map.Entry<String, Instance> entry : newHostMap.entrySet()) {
+            Instance oldHost = oldHostMap.remove(entry.getKey());
+            if (null == oldHost) {
+                added.add(entry.getValue());
+            } else if (!isSameContent(oldHost, entry.getValue())) {
+                modified.add(entry.getValue());
+            }
+        }
+        return new InstancesDiff(added, new ArrayList<>(oldHostMap.values()), modified);
+    }
+    
+    /**
+     * Compute diff of the instances at the same index.
+     *
+     * @return diff, or {@code null} if any instances at the same index have different address
+     */
+    private static InstancesDiff computeInOrder(List<Instance> oldHosts, List<Instance> newHosts) {
+        List<Instance> modified = null;
+        for (int i = 0; i < newHosts.size(); i++) {
+            Instance oldHost = oldHosts.get(i);
+            Instance newHost = newHosts.get(i);
+            if (oldHost == newHost) {
+                continue;
+            }
+            if (!isSameAddress(oldHost, newHost)) {
+                return null;
+            }
+            if (!isSameContent(oldHost, newHost)) {
+                if (null == modified) {
+                    modified = new ArrayList<>();
+                }
+                modified.add(newHost);
+            }
+        }
+        return new InstancesDiff(Collections.emptyList(), Collections.emptyList(),
+                null == modified ? Collections.emptyList() : modified);
+    }
+    
+    private static boolean isSameAddress(Instance oldHost, Instance newHost) {
+        return oldHost.getPort() == newHost.getPort() && Objects.equals(oldHost.getIp(), newHost.getIp());
+    }
+    
+    /**
+     * Same as comparing {@link Instance#toString()}, without rendering the strings.
+     */
+    private static boolean isSameContent(Instance oldHost, Instance newHost) {
+        if (!isSameAddress(oldHost, newHost) || !Objects.equals(oldHost.getInstanceId(), newHost.getInstanceId())) {
+            return false;
+        }
+        if (Double.compare(oldHost.getWeight(), newHost.getWeight()) != 0 || oldHost.isHealthy() != newHost.isHealthy()) {
+            return false;
+        }
+        if (oldHost.isEnabled() != newHost.isEnabled() || oldHost.isEphemeral() != newHost.isEphemeral()) {
+            return false;
+        }
+        return Objects.equals(oldHost.getClusterName(), newHost.getClusterName()) && Objects
+                .equals(oldHost.getServiceName(), newHost.getServiceName()) && Objects
+                .equals(oldHost.getMetadata(), newHost.getMetadata());
+    }
+    
+    public List<Instance> getAddedInstances() {
+        return addedInstances;
+    }
+    
+    public List<Instance> getRemovedInstances() {
+        return removedInstances;
+    }
+    
+    public List<Instance> getModifiedInstances() {
+        return modifiedInstances;
+    }
+    
+    public boolean isAdded() {
+        return !addedInstances.isEmpty();
+    }
+    
+    public boolean isRemoved() {
+        return !removedInstances.isEmpty();
+    }
+    
+    public boolean isModified() {
+        return !modifiedInstances.isEmpty();
+    }
+    
+    /**
+     * Whether any instance is added, removed or modified.
+     *
+     * @return {@code true} if instances are different
+     */
+    public boolean hasDifferent() {
+        return isAdded() || isRemoved() || isModified();
+    }
+}
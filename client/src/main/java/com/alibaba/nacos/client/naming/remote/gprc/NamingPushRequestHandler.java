@@ -16,10 +16,12 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
 import com.alibaba.nacos.common.remote.client.Connection;
 import com.alibaba.nacos.common.remote.client.ServerRequestHandler;
@@ -41,8 +43,19 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request, Connection connection) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
-            return new NotifySubscriberResponse();
+            if (!notifyRequest.isDelta()) {
+                serviceInfoHolder.processPushedServiceInfo(notifyRequest.getServiceInfo(), notifyRequest.getRevision());
+                return new NotifySubscriberResponse();
+            }
+            ServiceInfo result = serviceInfoHolder
+                    .processDeltaServiceInfo(notifyRequest.getServiceInfo(), notifyRequest.getRemovedHosts(),
+                            notifyRequest.getBaseRevision(), notifyRequest.getRevision());
+            NotifySubscriberResponse response = new NotifySubscriberResponse();
+            if (null == result) {
+                // server will retry with full push after failed response.
+                response.setErrorInfo(ResponseCode.FAIL.getCode(), "Delta push base revision mismatched.");
+            }
+            return response;
         }
         return null;
     }
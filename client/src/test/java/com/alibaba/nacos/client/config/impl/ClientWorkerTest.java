@@ -19,6 +19,7 @@ package com.alibaba.nacos.client.config.impl;
 import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.client.config.common.GroupKey;
 import com.alibaba.nacos.client.config.filter.impl.ConfigFilterChainManager;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import org.junit.Assert;
@@ -29,6 +30,7 @@ import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 
 public class ClientWorkerTest {
     
@@ -119,6 +121,44 @@ public class ClientWorkerTest {
         
     }
     
+    @Test
+    public void testExecuteConfigListenOnlyDirtyCaches()
+            throws NacosException, NoSuchFieldException, IllegalAccessException {
+        Properties prop = new Properties();
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ServerListManager agent = Mockito.mock(ServerListManager.class);
+        
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        // stop the listen loop, execute listen manually.
+        clientWorker.shutdown();
+        Field dirtyField = ClientWorker.class.getDeclaredField("dirtyCacheKeys");
+        dirtyField.setAccessible(true);
+        Set<String> dirtyCacheKeys = (Set<String>) dirtyField.get(clientWorker);
+        
+        String dataId = "a";
+        String group = "b";
+        CacheData cacheData = clientWorker.addCacheDataIfAbsent(dataId, group);
+        Assert.assertTrue(dirtyCacheKeys.isEmpty());
+        
+        Listener listener = new AbstractListener() {
+            @Override
+            public void receiveConfigInfo(String configInfo) {
+            }
+        };
+        clientWorker.addListeners(dataId, group, Arrays.asList(listener));
+        String groupKey = GroupKey.getKeyTenant(dataId, group, cacheData.tenant);
+        Assert.assertTrue(dirtyCacheKeys.contains(groupKey));
+        
+        // consistent cache only checks listeners md5, and is not checked again.
+        cacheData.setConsistentWithServer(true);
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).executeConfigListen();
+        Assert.assertTrue(dirtyCacheKeys.isEmpty());
+        
+        clientWorker.removeListener(dataId, group, listener);
+        Assert.assertTrue(dirtyCacheKeys.contains(groupKey));
+    }
+    
     @Test
     public void testPublishConfig() throws NacosException {
         Properties prop = new Properties();
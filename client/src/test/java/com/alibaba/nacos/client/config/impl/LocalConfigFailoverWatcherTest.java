@@ -0,0 +1,109 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+public class LocalConfigFailoverWatcherTest {
+    
+    private static final long WAIT_MILLIS = TimeUnit.SECONDS.toMillis(20);
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private final ConcurrentLinkedQueue<Path> changedPaths = new ConcurrentLinkedQueue<>();
+    
+    private File failoverDir;
+    
+    private LocalConfigFailoverWatcher watcher;
+    
+    @Before
+    public void setUp() {
+        failoverDir = new File(new File(temporaryFolder.getRoot(), "env_nacos"), "data");
+        watcher = new LocalConfigFailoverWatcher(failoverDir, changedPaths::addAll);
+    }
+    
+    @After
+    public void tearDown() {
+        watcher.close();
+    }
+    
+    @Test
+    public void testWatchFailoverDirCreated() throws Exception {
+        Assert.assertTrue(watcher.start());
+        Assert.assertTrue(watcher.isWatching());
+        File failoverFile = new File(new File(new File(failoverDir, "config-data"), "group"), "dataId");
+        Assert.assertTrue(failoverFile.getParentFile().mkdirs());
+        Files.write(failoverFile.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(waitChanged(failoverFile));
+    }
+    
+    @Test
+    public void testWatchFailoverFileChanged() throws Exception {
+        File failoverFile = new File(new File(new File(failoverDir, "config-data"), "group"), "dataId");
+        Assert.assertTrue(failoverFile.getParentFile().mkdirs());
+        Assert.assertTrue(watcher.start());
+        
+        Files.write(failoverFile.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(waitChanged(failoverFile));
+        
+        changedPaths.clear();
+        Assert.assertTrue(failoverFile.delete());
+        Assert.assertTrue(waitChanged(failoverFile));
+    }
+    
+    @Test
+    public void testClose() {
+        Assert.assertTrue(watcher.start());
+        watcher.close();
+        Assert.assertFalse(watcher.isWatching());
+    }
+    
+    private boolean waitChanged(File failoverFile) throws InterruptedException {
+        Path path = failoverFile.toPath().toAbsolutePath().normalize();
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (isChanged(path, changedPaths)) {
+                return true;
+            }
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        return false;
+    }
+    
+    private boolean isChanged(Path path, Collection<Path> changedPaths) {
+        for (Path each : changedPaths) {
+            if (path.startsWith(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -20,11 +20,16 @@ import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import org.junit.After;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +79,15 @@ public class DiskCacheTest {
         assertServiceInfo(actual.get(serviceInfo.getKey()), serviceInfo);
     }
     
+    @Test
+    public void testCacheFileCreatedWithUmask() throws IOException {
+        Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        DiskCache.write(serviceInfo, CACHE_DIR);
+        Path expected = Files.createFile(new File(CACHE_DIR, "umask").toPath());
+        Path actual = new File(CACHE_DIR, serviceInfo.getKeyEncoded()).toPath();
+        assertEquals(Files.getPosixFilePermissions(expected), Files.getPosixFilePermissions(actual));
+    }
+    
     @Test
     public void testWriteCacheWithErrorPath() {
         File file = new File(CACHE_DIR, serviceInfo.getKeyEncoded());
@@ -0,0 +1,128 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DiskCacheWriterTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private String cacheDir;
+    
+    private DiskCacheWriter writer;
+    
+    @Before
+    public void setUp() {
+        cacheDir = temporaryFolder.getRoot().getPath();
+    }
+    
+    @After
+    public void tearDown() {
+        if (null != writer) {
+            writer.shutdown();
+        }
+    }
+    
+    @Test
+    public void testWriteLatestVersion() throws InterruptedException {
+        writer = new DiskCacheWriter(cacheDir, 0L);
+        writer.write(createServiceInfo("1.1.1.1"));
+        writer.write(createServiceInfo("1.1.1.2"));
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (writer.pendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        writer.shutdown();
+        assertLatestVersion("1.1.1.2");
+    }
+    
+    @Test
+    public void testCoalesceAndFlushWhenShutdown() {
+        // the writer sleeps after the first write, following versions are coalesced.
+        writer = new DiskCacheWriter(cacheDir, TimeUnit.MINUTES.toMillis(1));
+        for (int i = 1; i <= 10; i++) {
+            writer.write(createServiceInfo("1.1.1." + i));
+        }
+        writer.shutdown();
+        assertEquals(0, writer.pendingCount());
+        assertLatestVersion("1.1.1.10");
+        File[] tmpFiles = new File(cacheDir, ".tmp").listFiles();
+        assertTrue(null == tmpFiles || 0 == tmpFiles.length);
+    }
+    
+    @Test
+    public void testShutdownWithoutWaitingInterval() {
+        writer = new DiskCacheWriter(cacheDir, TimeUnit.MINUTES.toMillis(1));
+        writer.write(createServiceInfo("1.1.1.1"));
+        long start = System.currentTimeMillis();
+        writer.shutdown();
+        assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(1));
+        assertLatestVersion("1.1.1.1");
+    }
+    
+    @Test
+    public void testRequeueFailedWrite() throws InterruptedException {
+        ServiceInfo serviceInfo = createServiceInfo("1.1.1.1");
+        // a directory at the cache file path fails the write.
+        File blocker = new File(cacheDir, serviceInfo.getKeyEncoded());
+        assertTrue(blocker.mkdirs());
+        writer = new DiskCacheWriter(cacheDir, 0L);
+        writer.write(serviceInfo);
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(1, writer.pendingCount());
+        assertTrue(blocker.delete());
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (writer.pendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(0, writer.pendingCount());
+        assertLatestVersion("1.1.1.1");
+    }
+    
+    private void assertLatestVersion(String ip) {
+        Map<String, ServiceInfo> actual = DiskCache.read(cacheDir);
+        assertEquals(1, actual.size());
+        assertEquals(ip, actual.get("G@@testName@@testClusters").getHosts().get(0).getIp());
+    }
+    
+    private ServiceInfo createServiceInfo(String ip) {
+        final ServiceInfo serviceInfo = new ServiceInfo("G@@testName", "testClusters");
+        Instance instance = new Instance();
+        instance.setClusterName("testClusters");
+        instance.setIp(ip);
+        instance.setPort(1234);
+        instance.setServiceName("testName");
+        serviceInfo.setHosts(Collections.singletonList(instance));
+        return serviceInfo;
+    }
+}
@@ -31,6 +31,8 @@ import org.junit.Test;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -150,6 +152,51 @@ public class ServiceInfoHolderTest {
         Assert.assertEquals(olderInfo, actual);
     }
     
+    @Test
+    public void testProcessDeltaServiceInfo() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        holder.processPushedServiceInfo(info, 1L);
+        
+        Instance changedInstance = createInstance("1.1.1.1", 1);
+        changedInstance.setWeight(2.0);
+        ServiceInfo upsertInfo = new ServiceInfo("a@@b@@c");
+        upsertInfo.setHosts(Arrays.asList(changedInstance, createInstance("1.1.1.3", 3)));
+        ServiceInfo actual = holder.processDeltaServiceInfo(upsertInfo,
+                Collections.singletonList(createInstance("1.1.1.2", 2)), 1L, 2L);
+        Assert.assertNotNull(actual);
+        Assert.assertEquals(2, actual.getHosts().size());
+        Assert.assertEquals(2.0, actual.getHosts().get(0).getWeight(), 0.0);
+        Assert.assertEquals("1.1.1.3", actual.getHosts().get(1).getIp());
+        Assert.assertSame(actual, holder.getServiceInfo("b", "a", "c"));
+    }
+    
+    @Test
+    public void testProcessDeltaServiceInfoWithRevisionMismatch() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        holder.processPushedServiceInfo(info, 1L);
+        ServiceInfo upsertInfo = new ServiceInfo("a@@b@@c");
+        upsertInfo.setHosts(Collections.singletonList(createInstance("1.1.1.3", 3)));
+        Assert.assertNull(holder.processDeltaServiceInfo(upsertInfo, Collections.emptyList(), 2L, 3L));
+    }
+    
+    @Test
+    public void testProcessDeltaServiceInfoAfterNotPushedUpdate() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        holder.processPushedServiceInfo(info, 1L);
+        ServiceInfo queriedInfo = new ServiceInfo("a@@b@@c");
+        queriedInfo.setHosts(Collections.singletonList(createInstance("1.1.1.2", 2)));
+        holder.processServiceInfo(queriedInfo);
+        ServiceInfo upsertInfo = new ServiceInfo("a@@b@@c");
+        upsertInfo.setHosts(Collections.singletonList(createInstance("1.1.1.3", 3)));
+        Assert.assertNull(holder.processDeltaServiceInfo(upsertInfo, Collections.emptyList(), 1L, 2L));
+    }
+    
     @Test
     public void testGetServiceInfo() {
         ServiceInfo info = new ServiceInfo("a@@b@@c");
@@ -42,5 +42,16 @@ public class InstancesChangeEventTest {
         List<Instance> hosts1 = event.getHosts();
         Assert.assertEquals(hosts.size(), hosts1.size());
         Assert.assertEquals(hosts.get(0), hosts1.get(0));
+        Assert.assertFalse(event.getInstancesDiff().hasDifferent());
+    }
+    
+    @Test
+    public void testGetInstancesDiff() {
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(new Instance());
+        InstancesDiff diff = new InstancesDiff(hosts, new ArrayList<>(), new ArrayList<>());
+        InstancesChangeEvent event = new InstancesChangeEvent("scope-001", "a", "b", "c", hosts, diff);
+        Assert.assertSame(diff, event.getInstancesDiff());
+        Assert.assertTrue(event.getInstancesDiff().isAdded());
     }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.event;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class InstancesDiffTest {
+    
+    @Test
+    public void testComputeSameInstances() {
+        Instance instance1 = createInstance("1.1.1.1", 1);
+        Instance instance2 = createInstance("1.1.1.2", 2);
+        InstancesDiff diff = InstancesDiff.compute(Arrays.asList(instance1, instance2),
+                Arrays.asList(createInstance("1.1.1.1", 1), instance2));
+        Assert.assertFalse(diff.hasDifferent());
+    }
+    
+    @Test
+    public void testComputeModifiedInOrder() {
+        Instance instance1 = createInstance("1.1.1.1", 1);
+        Instance instance2 = createInstance("1.1.1.2", 2);
+        Instance newInstance2 = createInstance("1.1.1.2", 2);
+        newInstance2.addMetadata("key", "value");
+        InstancesDiff diff = InstancesDiff.compute(Arrays.asList(instance1, instance2),
+                Arrays.asList(instance1, newInstance2));
+        Assert.assertTrue(diff.hasDifferent());
+        Assert.assertFalse(diff.isAdded());
+        Assert.assertFalse(diff.isRemoved());
+        Assert.assertEquals(Collections.singletonList(newInstance2), diff.getModifiedInstances());
+    }
+    
+    @Test
+    public void testComputeAddedRemovedAndModified() {
+        Instance instance1 = createInstance("1.1.1.1", 1);
+        Instance instance2 = createInstance("1.1.1.2", 2);
+        Instance newInstance1 = createInstance("1.1.1.1", 1);
+        newInstance1.setWeight(2.0);
+        Instance instance3 = createInstance("1.1.1.3", 3);
+        InstancesDiff diff = InstancesDiff.compute(Arrays.asList(instance1, instance2),
+                Arrays.asList(instance3, newInstance1));
+        Assert.assertEquals(Collections.singletonList(instance3), diff.getAddedInstances());
+        Assert.assertEquals(Collections.singletonList(instance2), diff.getRemovedInstances());
+        Assert.assertEquals(Collections.singletonList(newInstance1), diff.getModifiedInstances());
+    }
+    
+    @Test
+    public void testComputeSameContentAsToString() {
+        Instance instance = createInstance("1.1.1.1", 1);
+        for (Instance each : Arrays.asList(withHealthy(false), withCluster("other"), withInstanceId("id"))) {
+            InstancesDiff diff = InstancesDiff.compute(Collections.singletonList(instance),
+                    Collections.singletonList(each));
+            Assert.assertEquals(!instance.toString().equals(each.toString()), diff.isModified());
+        }
+    }
+    
+    private Instance withHealthy(boolean healthy) {
+        Instance result = createInstance("1.1.1.1", 1);
+        result.setHealthy(healthy);
+        return result;
+    }
+    
+    private Instance withCluster(String clusterName) {
+        Instance result = createInstance("1.1.1.1", 1);
+        result.setClusterName(clusterName);
+        return result;
+    }
+    
+    private Instance withInstanceId(String instanceId) {
+        Instance result = createInstance("1.1.1.1", 1);
+        result.setInstanceId(instanceId);
+        return result;
+    }
+    
+    private Instance createInstance(String ip, int port) {
+        Instance instance = new Instance();
+        instance.setIp(ip);
+        instance.setPort(port);
+        return instance;
+    }
+}
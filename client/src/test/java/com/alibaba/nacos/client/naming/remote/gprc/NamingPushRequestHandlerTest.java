@@ -18,6 +18,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
@@ -30,9 +31,13 @@ import com.alibaba.nacos.common.remote.client.RpcClient;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class NamingPushRequestHandlerTest {
     
@@ -47,7 +52,31 @@ public class NamingPushRequestHandlerTest {
         Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
         //then
         Assert.assertTrue(response instanceof NotifySubscriberResponse);
-        verify(holder, times(1)).processServiceInfo(info);
+        verify(holder, times(1)).processPushedServiceInfo(info, 0L);
+    }
+    
+    @Test
+    public void testRequestReplyDelta() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        List<Instance> removed = Collections.emptyList();
+        when(holder.processDeltaServiceInfo(info, removed, 1L, 2L)).thenReturn(info);
+        Request req = NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(info, removed, 1L, 2L);
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        Assert.assertTrue(response instanceof NotifySubscriberResponse);
+        Assert.assertTrue(response.isSuccess());
+    }
+    
+    @Test
+    public void testRequestReplyDeltaMismatched() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        Request req = NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(info, Collections.emptyList(), 1L, 2L);
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        Assert.assertTrue(response instanceof NotifySubscriberResponse);
+        Assert.assertFalse(response.isSuccess());
     }
     
     @Test
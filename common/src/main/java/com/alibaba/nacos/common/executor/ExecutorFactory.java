@@ -32,6 +32,10 @@ import java.util.concurrent.TimeUnit;
  *
  * <p>Unified thread pool creation factory without life cycle management {@link ExecutorFactory}.
  *
+ * <p>Executors for blocking work can be created by {@code newBlockingExecutorService}, which are virtual thread per
+ * task executors if system property {@code nacos.common.executor.virtualThread.enabled} is {@code true} and the JDK
+ * supports virtual thread, otherwise fixed thread pools.
+ *
  * <p>two check style ignore will be removed after issue#2856 finished.
  *
  * @author <a href="mailto:liaochuntao@live.com">liaochuntao</a>
@@ -71,6 +75,29 @@ public final class ExecutorFactory {
                 new LinkedBlockingQueue<>(), threadFactory);
     }
     
+    /**
+     * Whether the executors for blocking work are virtual thread per task executors.
+     *
+     * @return {@code true} if virtual thread is enabled and available
+     */
+    public static boolean isVirtualThreadEnabled() {
+        return VirtualThreadSupport.isEnabled();
+    }
+    
+    /**
+     * Create a new executor service for blocking work, such as JDBC or network I/O.
+     *
+     * @param name     thread name prefix
+     * @param nThreads thread number of fixed thread pool, ignored if virtual thread is enabled
+     * @return new executor service
+     */
+    public static ExecutorService newBlockingExecutorService(final String name, final int nThreads) {
+        if (VirtualThreadSupport.isEnabled()) {
+            return VirtualThreadSupport.newThreadPerTaskExecutor(name);
+        }
+        return Executors.newFixedThreadPool(nThreads, new NameThreadFactory(name));
+    }
+    
     public static final class Managed {
         
         private static final String DEFAULT_NAMESPACE = "nacos";
@@ -177,6 +204,21 @@ public final class ExecutorFactory {
             return executor;
         }
     
+        /**
+         * Create a new executor service for blocking work and register to manager.
+         *
+         * @param group    group name
+         * @param name     thread name prefix
+         * @param nThreads thread number of fixed thread pool, ignored if virtual thread is enabled
+         * @return new executor service
+         */
+        public static ExecutorService newBlockingExecutorService(final String group, final String name,
+                final int nThreads) {
+            ExecutorService executorService = ExecutorFactory.newBlockingExecutorService(name, nThreads);
+            THREAD_POOL_MANAGER.register(DEFAULT_NAMESPACE, group, executorService);
+            return executorService;
+        }
+        
         @JustForTest
         public static ThreadPoolManager getThreadPoolManager() {
             return THREAD_POOL_MANAGER;
@@ -0,0 +1,121 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.executor;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread support, which is only available since JDK 21.
+ *
+ * <p>Nacos is still compiled for JDK 8, so the virtual thread APIs are invoked by reflection. If the current JDK does
+ * not support virtual thread, such as JDK 8/11/17 or JDK 19/20 without preview enabled, {@link #isAvailable()} returns
+ * {@code false} and callers should fall back to platform thread pools.
+ *
+ * @author Nacos
+ */
+final class VirtualThreadSupport {
+    
+    /**
+     * Switch of virtual thread executors for blocking work, default {@code false}.
+     */
+    static final String VIRTUAL_THREAD_ENABLED_PROPERTY = "nacos.common.executor.virtualThread.enabled";
+    
+    private static final Method OF_VIRTUAL = findOfVirtual();
+    
+    private static final Method BUILDER_NAME = findBuilderMethod("name", String.class, long.class);
+    
+    private static final Method BUILDER_FACTORY = findBuilderMethod("factory");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR = findNewThreadPerTaskExecutor();
+    
+    private static final boolean AVAILABLE = checkAvailable();
+    
+    private VirtualThreadSupport() {
+    }
+    
+    static boolean isAvailable() {
+        return AVAILABLE;
+    }
+    
+    static boolean isEnabled() {
+        return AVAILABLE && Boolean.parseBoolean(System.getProperty(VIRTUAL_THREAD_ENABLED_PROPERTY));
+    }
+    
+    /**
+     * Create an executor which starts a new virtual thread for each task.
+     *
+     * @param name prefix of virtual thread name
+     * @return new executor service
+     * @throws IllegalStateException if virtual thread is not available
+     */
+    static ExecutorService newThreadPerTaskExecutor(String name) {
+        if (!AVAILABLE) {
+            throw new IllegalStateException("Virtual thread is not available in current JDK");
+        }
+        try {
+            String prefix = name.endsWith(StringUtils.DOT) ? name : name + StringUtils.DOT;
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Create virtual thread executor failed", e);
+        }
+    }
+    
+    private static Method findOfVirtual() {
+        try {
+            return Thread.class.getMethod("ofVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+    
+    private static Method findBuilderMethod(String methodName, Class<?>... parameterTypes) {
+        try {
+            return Class.forName("java.lang.Thread$Builder").getMethod(methodName, parameterTypes);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+    
+    private static Method findNewThreadPerTaskExecutor() {
+        try {
+            return Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+    
+    private static boolean checkAvailable() {
+        if (null == OF_VIRTUAL || null == BUILDER_NAME || null == BUILDER_FACTORY
+                || null == NEW_THREAD_PER_TASK_EXECUTOR) {
+            return false;
+        }
+        try {
+            // preview API of JDK 19/20 throws UnsupportedOperationException if preview is not enabled.
+            OF_VIRTUAL.invoke(null);
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+}
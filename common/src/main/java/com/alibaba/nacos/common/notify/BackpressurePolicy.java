@@ -0,0 +1,40 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+/**
+ * Policy of {@link RingBufferPublisher} when the ring buffer is full.
+ *
+ * @author Nacos
+ */
+public enum BackpressurePolicy {
+    
+    /**
+     * Block the publishing thread until the buffer has free slot.
+     */
+    BLOCK,
+    
+    /**
+     * Drop the oldest event in the buffer to make room for the new event.
+     */
+    DROP_OLDEST,
+    
+    /**
+     * Notify the subscribers by the publishing thread, same as {@link DefaultPublisher}.
+     */
+    CALLER_RUNS
+}
@@ -61,5 +61,15 @@ public abstract class Event implements Serializable {
     public boolean isPluginEvent() {
         return false;
     }
+    
+    /**
+     * Coalesce key of event. Events with same type and same key waiting in one publisher drain cycle can be delivered
+     * only once, so the subscribers of such event should only rely on the key and read the latest state by itself.
+     *
+     * @return coalesce key, return null if the event can't be coalesced. Default null
+     */
+    public Object coalesceKey() {
+        return null;
+    }
 }
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Pre-allocated lock-free bounded ring buffer of events for multiple producers.
+ *
+ * <p>Each slot has a sequence which tells whether the slot is writable or readable for the position, so producers
+ * and consumers only compete on the CAS of the tail and head position. The publish time of each event is kept in the
+ * slot for the latency metrics. Multiple consumers are allowed, which is required to drop the oldest event by the
+ * producers.
+ *
+ * @author Nacos
+ */
+class EventRingBuffer {
+    
+    private final int mask;
+    
+    private final Event[] events;
+    
+    private final long[] publishNanos;
+    
+    private final AtomicLongArray sequences;
+    
+    private final AtomicLong tail = new AtomicLong();
+    
+    private final AtomicLong head = new AtomicLong();
+    
+    EventRingBuffer(int bufferSize) {
+        int capacity = 1;
+        while (capacity < bufferSize) {
+            capacity <<= 1;
+        }
+        this.mask = capacity - 1;
+        this.events = new Event[capacity];
+        this.publishNanos = new long[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    /**
+     * Offer event to the tail of buffer.
+     *
+     * @param event    event
+     * @param nanoTime publish time of event
+     * @return {@code false} if the buffer is full
+     */
+    boolean offer(Event event, long nanoTime) {
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+        events[index] = event;
+        publishNanos[index] = nanoTime;
+        // release the slot to consumers after event written.
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+    
+    /**
+     * Poll event from the head of buffer.
+     *
+     * @param consumer consumer of the event and its publish time
+     * @return {@code false} if the buffer is empty
+     */
+    boolean poll(ObjLongConsumer<Event> consumer) {
+        long position = head.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long diff = sequences.get(index) - (position + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = head.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = head.get();
+            }
+        }
+        Event event = events[index];
+        long nanoTime = publishNanos[index];
+        events[index] = null;
+        // release the slot to producers of next round.
+        sequences.lazySet(index, position + mask + 1);
+        consumer.accept(event, nanoTime);
+        return true;
+    }
+    
+    /**
+     * Poll at most {@code limit} events from the head of buffer.
+     *
+     * @param consumer consumer of the event and its publish time
+     * @param limit    max count of events
+     * @return count of polled events
+     */
+    int drain(ObjLongConsumer<Event> consumer, int limit) {
+        int result = 0;
+        while (result < limit && poll(consumer)) {
+            result++;
+        }
+        return result;
+    }
+    
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+    
+    int capacity() {
+        return mask + 1;
+    }
+}
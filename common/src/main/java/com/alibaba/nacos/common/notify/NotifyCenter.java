@@ -23,6 +23,7 @@ import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.spi.NacosServiceLoader;
 import com.alibaba.nacos.common.utils.ClassUtils;
 import com.alibaba.nacos.common.utils.MapUtil;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.common.utils.ThreadUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +51,8 @@ public class NotifyCenter {
     
     public static int shareBufferSize;
     
+    public static BackpressurePolicy backpressurePolicy;
+    
     private static final AtomicBoolean CLOSED = new AtomicBoolean(false);
     
     private static final EventPublisherFactory DEFAULT_PUBLISHER_FACTORY;
@@ -75,6 +78,10 @@ public class NotifyCenter {
         String shareBufferSizeProperty = "nacos.core.notify.share-buffer-size";
         shareBufferSize = Integer.getInteger(shareBufferSizeProperty, 1024);
         
+        // The behavior of ring buffer publisher when its buffer is full, default value is CALLER_RUNS
+        String backpressurePolicyProperty = "nacos.core.notify.backpressure-policy";
+        backpressurePolicy = parseBackpressurePolicy(System.getProperty(backpressurePolicyProperty));
+        
         final Collection<EventPublisher> publishers = NacosServiceLoader.load(EventPublisher.class);
         Iterator<EventPublisher> iterator = publishers.iterator();
         
@@ -108,6 +115,18 @@ public class NotifyCenter {
         ThreadUtils.addShutdownHook(NotifyCenter::shutdown);
     }
     
+    static BackpressurePolicy parseBackpressurePolicy(String policy) {
+        if (StringUtils.isBlank(policy)) {
+            return BackpressurePolicy.CALLER_RUNS;
+        }
+        try {
+            return BackpressurePolicy.valueOf(policy.trim());
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown backpressure policy {}, use {} instead", policy, BackpressurePolicy.CALLER_RUNS);
+            return BackpressurePolicy.CALLER_RUNS;
+        }
+    }
+    
     @JustForTest
     public static Map<String, EventPublisher> getPublisherMap() {
         return INSTANCE.publisherMap;
@@ -0,0 +1,354 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.alibaba.nacos.common.notify.NotifyCenter.backpressurePolicy;
+import static com.alibaba.nacos.common.notify.NotifyCenter.ringBufferSize;
+
+/**
+ * Event publisher based on pre-allocated lock-free ring buffer.
+ *
+ * <p>Compared with {@link DefaultPublisher}, publishing threads never take lock, and the publisher thread drains the
+ * events in batch. The behavior when the buffer is full is decided by {@link BackpressurePolicy}, and the queue depth,
+ * dropped events and publish-to-notify latency are recorded for {@link #getStatus()} and the server metrics.
+ *
+ * <p>It can be selected for event types by {@link RingBufferPublisherFactory}, or for all event types by the SPI of
+ * {@link EventPublisher}, with the policy of property {@code nacos.core.notify.backpressure-policy}.
+ *
+ * @author Nacos
+ */
+public class RingBufferPublisher extends Thread implements EventPublisher {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    private static final int DEFAULT_WAIT_TIME = 60;
+    
+    private static final int DRAIN_BATCH_SIZE = 256;
+    
+    /**
+     * Publishing threads unpark the waiting publisher thread, the timeout is only a safety net.
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    
+    private static final long DROP_WARN_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    
+    private final ConcurrentHashSet<Subscriber> subscribers = new ConcurrentHashSet<>();
+    
+    private final BackpressurePolicy policy;
+    
+    private final LongAdder droppedCount = new LongAdder();
+    
+    private final LongAdder callerRunsCount = new LongAdder();
+    
+    private final AtomicLong lastDropWarnMillis = new AtomicLong();
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    private volatile boolean waiting = false;
+    
+    private Class<? extends Event> eventType;
+    
+    private EventRingBuffer buffer;
+    
+    private volatile long lastEventSequence = -1L;
+    
+    /**
+     * Only updated by publisher thread.
+     */
+    private volatile long notifiedCount;
+    
+    private volatile long totalLatencyNanos;
+    
+    private volatile long maxLatencyNanos;
+    
+    public RingBufferPublisher() {
+        this(backpressurePolicy);
+    }
+    
+    public RingBufferPublisher(BackpressurePolicy policy) {
+        this.policy = policy;
+    }
+    
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        setDaemon(true);
+        setName("nacos.publisher-" + type.getName());
+        this.eventType = type;
+        this.buffer = new EventRingBuffer(bufferSize == -1 ? ringBufferSize : bufferSize);
+        start();
+    }
+    
+    @Override
+    public synchronized void start() {
+        if (!initialized) {
+            // start just called once
+            super.start();
+            initialized = true;
+        }
+    }
+    
+    @Override
+    public long currentEventSize() {
+        return buffer.size();
+    }
+    
+    @Override
+    public void run() {
+        try {
+            waitSubscriberForInit();
+            handleEvents();
+        } catch (Throwable ex) {
+            LOGGER.error("Event listener exception : ", ex);
+        }
+    }
+    
+    private void waitSubscriberForInit() {
+        // To ensure that messages are not lost, enable EventHandler when
+        // waiting for the first Subscriber to register
+        for (int waitTimes = DEFAULT_WAIT_TIME; waitTimes > 0; waitTimes--) {
+            if (shutdown || hasSubscriber()) {
+                break;
+            }
+            ThreadUtils.sleep(1000L);
+        }
+    }
+    
+    private void handleEvents() {
+        while (!shutdown) {
+            if (buffer.drain(this::handleEvent, DRAIN_BATCH_SIZE) > 0) {
+                continue;
+            }
+            waiting = true;
+            // double check to avoid missing the wake up from publishing thread.
+            if (buffer.size() == 0 && !shutdown) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            waiting = false;
+        }
+    }
+    
+    private void handleEvent(Event event, long publishNanos) {
+        receiveEvent(event);
+        long latency = System.nanoTime() - publishNanos;
+        notifiedCount++;
+        totalLatencyNanos += latency;
+        if (latency > maxLatencyNanos) {
+            maxLatencyNanos = latency;
+        }
+        lastEventSequence = Math.max(lastEventSequence, event.sequence());
+    }
+    
+    private boolean hasSubscriber() {
+        return CollectionUtils.isNotEmpty(subscribers);
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        if (buffer.offer(event, System.nanoTime())) {
+            wakeUp();
+            return true;
+        }
+        // Publisher thread can't wait itself, such as subscriber publishes event of same type.
+        BackpressurePolicy currentPolicy = Thread.currentThread() == this ? BackpressurePolicy.CALLER_RUNS : policy;
+        switch (currentPolicy) {
+            case BLOCK:
+                return publishBlocking(event);
+            case DROP_OLDEST:
+                return publishDropOldest(event);
+            default:
+                LOGGER.warn("Unable to plug in due to buffer full, synchronize sending time, event : {}", event);
+                callerRunsCount.increment();
+                receiveEvent(event);
+                return true;
+        }
+    }
+    
+    private boolean publishBlocking(Event event) {
+        while (!shutdown) {
+            wakeUp();
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.offer(event, System.nanoTime())) {
+                wakeUp();
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean publishDropOldest(Event event) {
+        while (!shutdown) {
+            buffer.poll(this::dropEvent);
+            if (buffer.offer(event, System.nanoTime())) {
+                wakeUp();
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void dropEvent(Event event, long publishNanos) {
+        droppedCount.increment();
+        long now = System.currentTimeMillis();
+        long last = lastDropWarnMillis.get();
+        if (now - last >= DROP_WARN_INTERVAL_MILLIS && lastDropWarnMillis.compareAndSet(last, now)) {
+            LOGGER.warn("[NotifyCenter] the {} is dropped, because the buffer is full, total dropped {} events of {}.",
+                    event, getDroppedCount(), eventType.getSimpleName());
+        }
+    }
+    
+    private void wakeUp() {
+        if (waiting) {
+            LockSupport.unpark(this);
+        }
+    }
+    
+    void checkIsStart() {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        while (buffer.poll((event, publishNanos) -> { })) {
+            // discard remaining events
+        }
+        LockSupport.unpark(this);
+    }
+    
+    public boolean isInitialized() {
+        return initialized;
+    }
+    
+    public ConcurrentHashSet<Subscriber> getSubscribers() {
+        return subscribers;
+    }
+    
+    public Class<? extends Event> getEventType() {
+        return eventType;
+    }
+    
+    public BackpressurePolicy getPolicy() {
+        return policy;
+    }
+    
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+    
+    public long getCallerRunsCount() {
+        return callerRunsCount.sum();
+    }
+    
+    public long getNotifiedCount() {
+        return notifiedCount;
+    }
+    
+    public long getTotalLatencyNanos() {
+        return totalLatencyNanos;
+    }
+    
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+    
+    /**
+     * Receive and notifySubscriber to process the event.
+     *
+     * @param event {@link Event}.
+     */
+    void receiveEvent(Event event) {
+        final long currentEventSequence = event.sequence();
+        
+        if (!hasSubscriber()) {
+            LOGGER.warn("[NotifyCenter] the {} is lost, because there is no subscriber.", event);
+            return;
+        }
+        
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.scopeMatches(event)) {
+                continue;
+            }
+            
+            // Whether to ignore expiration events
+            if (subscriber.ignoreExpireEvent() && lastEventSequence > currentEventSequence) {
+                LOGGER.debug("[NotifyCenter] the {} is unacceptable to this subscriber, because had expire",
+                        event.getClass());
+                continue;
+            }
+            notifySubscriber(subscriber, event);
+        }
+    }
+    
+    @Override
+    public void notifySubscriber(final Subscriber subscriber, final Event event) {
+        
+        LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        
+        final Runnable job = () -> subscriber.onEvent(event);
+        final Executor executor = subscriber.executor();
+        
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+    
+    public String getStatus() {
+        long notified = notifiedCount;
+        long avgLatencyMicros = notified == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalLatencyNanos / notified);
+        return String.format(
+                "Publisher %-30s: policy=%s, queue=%7d/%-7d, notified=%d, dropped=%d, callerRuns=%d, avgLatency=%dus,"
+                        + " maxLatency=%dus", eventType.getSimpleName(), policy, currentEventSize(), buffer.capacity(),
+                notified, getDroppedCount(), getCallerRunsCount(), avgLatencyMicros,
+                TimeUnit.NANOSECONDS.toMicros(maxLatencyNanos));
+    }
+}
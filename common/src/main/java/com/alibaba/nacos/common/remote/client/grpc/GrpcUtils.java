@@ -43,6 +43,8 @@ import java.util.Map;
  */
 public class GrpcUtils {
     
+    private static final int EMPTY_JSON_OBJECT_LENGTH = 2;
+    
     /**
      * convert request to payload.
      *
@@ -86,6 +88,29 @@ public class GrpcUtils {
         
     }
     
+    /**
+     * convert request to payload with pre-encoded request body, see {@link #encodeRequestBody(Request)}.
+     *
+     * <p>The same encoded body can be shared by multiple payloads, only the request id is written for each payload.
+     *
+     * @param request     request.
+     * @param encodedBody encoded request body without request id.
+     * @return payload.
+     */
+    public static Payload convert(Request request, byte[] encodedBody) {
+        if (encodedBody.length <= EMPTY_JSON_OBJECT_LENGTH) {
+            return convert(request);
+        }
+        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
+                .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
+        // `{"requestId":"xxx",` + remaining content of encoded body after `{`
+        ByteString requestIdPrefix = ByteString
+                .copyFromUtf8("{\"requestId\":" + JacksonUtils.toJson(request.getRequestId()) + ",");
+        ByteString body = requestIdPrefix
+                .concat(UnsafeByteOperations.unsafeWrap(encodedBody, 1, encodedBody.length - 1));
+        return Payload.newBuilder().setBody(Any.newBuilder().setValue(body)).setMetadata(newMeta).build();
+    }
+    
     /**
      * convert response to payload.
      *
@@ -100,6 +125,22 @@ public class GrpcUtils {
                 .setMetadata(metaBuilder.build()).build();
     }
     
+    /**
+     * encode request body without headers and request id, which can be shared by payloads of different connections.
+     *
+     * @param request request.
+     * @return encoded request body.
+     */
+    public static byte[] encodeRequestBody(Request request) {
+        String requestId = request.getRequestId();
+        request.setRequestId(null);
+        try {
+            return convertRequestToByte(request);
+        } finally {
+            request.setRequestId(requestId);
+        }
+    }
+    
     private static byte[] convertRequestToByte(Request request) {
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
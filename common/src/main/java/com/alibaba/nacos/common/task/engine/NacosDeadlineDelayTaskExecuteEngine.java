@@ -0,0 +1,262 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nacos delay task execute engine which processes the tasks in order of deadline.
+ *
+ * <p>Different from {@link NacosDelayTaskExecuteEngine}, which scans all tasks every interval, the deadline of each
+ * task ({@code lastProcessTime + taskInterval}) is kept in a heap, and each round only touches the due tasks. Tasks are
+ * sharded by key into multiple processing threads, the tasks of one key are always processed by the same thread.
+ *
+ * <p>Tasks with same key are merged by {@link AbstractDelayTask#merge(AbstractDelayTask)} as before. If the merged
+ * task is due earlier, it will be rescheduled; if the task is not due when its deadline arrives, such as the interval
+ * is updated after added, it will be rescheduled by its latest deadline.
+ *
+ * @author Nacos
+ */
+public class NacosDeadlineDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<AbstractDelayTask> {
+    
+    private final ConcurrentHashMap<Object, ScheduledTask> tasks;
+    
+    private final Shard[] shards;
+    
+    private final long processInterval;
+    
+    public NacosDeadlineDelayTaskExecuteEngine(String name, Logger logger) {
+        this(name, 32, logger, 100L, 1);
+    }
+    
+    public NacosDeadlineDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval,
+            int shardCount) {
+        super(logger);
+        this.tasks = new ConcurrentHashMap<>(initCapacity);
+        this.processInterval = processInterval;
+        this.shards = new Shard[Math.max(1, shardCount)];
+        NameThreadFactory threadFactory = new NameThreadFactory(name);
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i, ExecutorFactory.newSingleScheduledExecutorService(threadFactory));
+            shards[i].start(processInterval);
+        }
+    }
+    
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return tasks.isEmpty();
+    }
+    
+    @Override
+    public AbstractDelayTask removeTask(Object key) {
+        AbstractDelayTask[] result = new AbstractDelayTask[1];
+        tasks.computeIfPresent(key, (taskKey, scheduledTask) -> {
+            if (scheduledTask.task.shouldProcess()) {
+                result[0] = scheduledTask.task;
+                return null;
+            }
+            return scheduledTask;
+        });
+        return result[0];
+    }
+    
+    @Override
+    public Collection<Object> getAllTaskKeys() {
+        return new HashSet<>(tasks.keySet());
+    }
+    
+    @Override
+    public void shutdown() throws NacosException {
+        tasks.clear();
+        for (Shard each : shards) {
+            each.shutdown();
+        }
+    }
+    
+    @Override
+    public void addTask(Object key, AbstractDelayTask newTask) {
+        tasks.compute(key, (taskKey, scheduledTask) -> {
+            if (null == scheduledTask) {
+                scheduledTask = new ScheduledTask();
+            } else {
+                newTask.merge(scheduledTask.task);
+            }
+            scheduledTask.task = newTask;
+            long deadline = deadlineOf(newTask);
+            // the previous deadline will find the task not due and reschedule it, so only earlier deadline is added.
+            if (deadline < scheduledTask.deadline) {
+                scheduledTask.deadline = deadline;
+                getShard(taskKey).schedule(deadline, taskKey);
+            }
+            return scheduledTask;
+        });
+    }
+    
+    /**
+     * process due tasks of the shard.
+     *
+     * @param shardIndex index of shard
+     */
+    protected void processTasks(int shardIndex) {
+        long now = System.currentTimeMillis();
+        for (Deadline each : shards[shardIndex].pollDue(now)) {
+            AbstractDelayTask task = removeDueTask(each, now);
+            if (null == task) {
+                continue;
+            }
+            NacosTaskProcessor processor = getProcessor(each.key);
+            try {
+                // ReAdd task if process failed
+                if (!processor.process(task)) {
+                    retryFailedTask(each.key, task);
+                }
+            } catch (Throwable e) {
+                getEngineLog().error("Nacos task execute error ", e);
+                retryFailedTask(each.key, task);
+            }
+        }
+    }
+    
+    public int getShardCount() {
+        return shards.length;
+    }
+    
+    private AbstractDelayTask removeDueTask(Deadline deadline, long now) {
+        AbstractDelayTask[] result = new AbstractDelayTask[1];
+        tasks.computeIfPresent(deadline.key, (taskKey, scheduledTask) -> {
+            // the task has been rescheduled to other deadline.
+            if (scheduledTask.deadline != deadline.time) {
+                return scheduledTask;
+            }
+            if (scheduledTask.task.shouldProcess()) {
+                result[0] = scheduledTask.task;
+                return null;
+            }
+            scheduledTask.deadline = Math.max(deadlineOf(scheduledTask.task), now + processInterval);
+            getShard(taskKey).schedule(scheduledTask.deadline, taskKey);
+            return scheduledTask;
+        });
+        return result[0];
+    }
+    
+    private void retryFailedTask(Object key, AbstractDelayTask task) {
+        task.setLastProcessTime(System.currentTimeMillis());
+        addTask(key, task);
+    }
+    
+    private long deadlineOf(AbstractDelayTask task) {
+        return task.getLastProcessTime() + task.getTaskInterval();
+    }
+    
+    private Shard getShard(Object key) {
+        int hash = key.hashCode();
+        return shards[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % shards.length];
+    }
+    
+    private static class ScheduledTask {
+        
+        private AbstractDelayTask task;
+        
+        private long deadline = Long.MAX_VALUE;
+    }
+    
+    private static class Deadline implements Comparable<Deadline> {
+        
+        private final long time;
+        
+        private final Object key;
+        
+        private Deadline(long time, Object key) {
+            this.time = time;
+            this.key = key;
+        }
+        
+        @Override
+        public int compareTo(Deadline o) {
+            return Long.compare(time, o.time);
+        }
+    }
+    
+    private class Shard implements Runnable {
+        
+        private final int index;
+        
+        private final ScheduledExecutorService processingExecutor;
+        
+        private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>();
+        
+        private Shard(int index, ScheduledExecutorService processingExecutor) {
+            this.index = index;
+            this.processingExecutor = processingExecutor;
+        }
+        
+        private void start(long processInterval) {
+            processingExecutor.scheduleWithFixedDelay(this, processInterval, processInterval, TimeUnit.MILLISECONDS);
+        }
+        
+        private synchronized void schedule(long time, Object key) {
+            deadlines.add(new Deadline(time, key));
+        }
+        
+        private synchronized List<Deadline> pollDue(long now) {
+            Deadline first = deadlines.peek();
+            if (null == first || first.time > now) {
+                return Collections.emptyList();
+            }
+            List<Deadline> result = new ArrayList<>();
+            while (null != first && first.time <= now) {
+                result.add(deadlines.poll());
+                first = deadlines.peek();
+            }
+            return result;
+        }
+        
+        private synchronized void shutdown() {
+            deadlines.clear();
+            processingExecutor.shutdown();
+        }
+        
+        @Override
+        public void run() {
+            try {
+                processTasks(index);
+            } catch (Throwable e) {
+                getEngineLog().error(e.toString(), e);
+            }
+        }
+    }
+}
@@ -27,26 +27,49 @@ import java.util.Collection;
 /**
  * Nacos execute task execute engine.
  *
+ * <p>By default, tasks are dispatched to fixed {@link TaskExecuteWorker} by the hash of tag. In work-stealing mode,
+ * tasks are executed by {@link WorkStealingTaskExecuteWorkers}, tasks with same tag are still executed in order, but the
+ * idle workers can steal the tasks of other tags.
+ *
  * @author xiweng.yy
  */
 public class NacosExecuteTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<AbstractExecuteTask> {
     
     private final TaskExecuteWorker[] executeWorkers;
     
+    private final WorkStealingTaskExecuteWorkers workStealingWorkers;
+    
     public NacosExecuteTaskExecuteEngine(String name, Logger logger) {
         this(name, logger, ThreadUtils.getSuitableThreadCount(1));
     }
     
     public NacosExecuteTaskExecuteEngine(String name, Logger logger, int dispatchWorkerCount) {
+        this(name, logger, dispatchWorkerCount, false);
+    }
+    
+    public NacosExecuteTaskExecuteEngine(String name, Logger logger, int dispatchWorkerCount, boolean workStealing) {
         super(logger);
+        if (workStealing) {
+            executeWorkers = new TaskExecuteWorker[0];
+            workStealingWorkers = new WorkStealingTaskExecuteWorkers(name, dispatchWorkerCount, getEngineLog());
+            return;
+        }
+        workStealingWorkers = null;
         executeWorkers = new TaskExecuteWorker[dispatchWorkerCount];
         for (int mod = 0; mod < dispatchWorkerCount; ++mod) {
             executeWorkers[mod] = new TaskExecuteWorker(name, mod, dispatchWorkerCount, getEngineLog());
         }
     }
     
+    public boolean isWorkStealing() {
+        return null != workStealingWorkers;
+    }
+    
     @Override
     public int size() {
+        if (isWorkStealing()) {
+            return workStealingWorkers.pendingTaskCount();
+        }
         int result = 0;
         for (TaskExecuteWorker each : executeWorkers) {
             result += each.pendingTaskCount();
@@ -66,6 +89,10 @@ public class NacosExecuteTaskExecuteEngine extends AbstractNacosTaskExecuteEngin
             processor.process(task);
             return;
         }
+        if (isWorkStealing()) {
+            workStealingWorkers.execute(tag, task);
+            return;
+        }
         TaskExecuteWorker worker = getWorker(tag);
         worker.process(task);
     }
@@ -91,6 +118,10 @@ public class NacosExecuteTaskExecuteEngine extends AbstractNacosTaskExecuteEngin
     
     @Override
     public void shutdown() throws NacosException {
+        if (isWorkStealing()) {
+            workStealingWorkers.shutdown();
+            return;
+        }
         for (TaskExecuteWorker each : executeWorkers) {
             each.shutdown();
         }
@@ -102,6 +133,9 @@ public class NacosExecuteTaskExecuteEngine extends AbstractNacosTaskExecuteEngin
      * @return workers status string
      */
     public String workersStatus() {
+        if (isWorkStealing()) {
+            return workStealingWorkers.status();
+        }
         StringBuilder sb = new StringBuilder();
         for (TaskExecuteWorker worker : executeWorkers) {
             sb.append(worker.status()).append('\n');
@@ -0,0 +1,318 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Nacos execute task work-stealing workers.
+ *
+ * <p>Tasks with same tag are queued into one lane and executed in order. A lane is scheduled to at most one worker at
+ * the same time, by default the worker chosen by the tag hash. Idle workers steal the lanes from the tail of other
+ * workers, so the independent tags queued behind a hot tag can be executed by other workers. Workers without lanes to
+ * run or steal park until a lane is queued.
+ *
+ * @author Nacos
+ */
+public final class WorkStealingTaskExecuteWorkers implements Closeable {
+    
+    /**
+     * Max tasks executed for one lane before switching to other lanes.
+     */
+    private static final int LANE_BATCH_SIZE = 64;
+    
+    /**
+     * Idle workers are unparked when lanes are queued, the timeout is only a safety net.
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    
+    private static final long SLOW_TASK_MILLIS = 1000L;
+    
+    private final Logger log;
+    
+    private final ConcurrentHashMap<Object, Lane> lanes = new ConcurrentHashMap<>();
+    
+    private final Worker[] workers;
+    
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    
+    private final AtomicInteger waitingWorkers = new AtomicInteger();
+    
+    public WorkStealingTaskExecuteWorkers(String name, int workerCount, Logger logger) {
+        this.log = null == logger ? LoggerFactory.getLogger(WorkStealingTaskExecuteWorkers.class) : logger;
+        this.workers = new Worker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker(name + "_" + i + "%" + workerCount, i);
+        }
+        for (Worker each : workers) {
+            each.start();
+        }
+    }
+    
+    /**
+     * Add task to the lane of tag.
+     *
+     * @param tag  tag of task, tasks with same tag are executed in order
+     * @param task task
+     */
+    public void execute(Object tag, Runnable task) {
+        if (closed.get()) {
+            return;
+        }
+        final int homeWorker = getHomeWorker(tag);
+        workers[homeWorker].pendingTasks.incrementAndGet();
+        Lane[] toSchedule = new Lane[1];
+        lanes.compute(tag, (key, lane) -> {
+            if (null == lane) {
+                lane = new Lane(key, homeWorker);
+            }
+            lane.tasks.add(task);
+            if (!lane.scheduled) {
+                lane.scheduled = true;
+                toSchedule[0] = lane;
+            }
+            return lane;
+        });
+        if (null != toSchedule[0]) {
+            workers[homeWorker].lanes.offerLast(toSchedule[0]);
+            signal(workers[homeWorker]);
+        }
+    }
+    
+    /**
+     * Count of tasks not executed yet.
+     *
+     * @return pending task count
+     */
+    public int pendingTaskCount() {
+        int result = 0;
+        for (Worker each : workers) {
+            result += each.pendingTasks.get();
+        }
+        return result;
+    }
+    
+    /**
+     * Workers status.
+     *
+     * @return status of each worker in lines
+     */
+    public String status() {
+        StringBuilder sb = new StringBuilder();
+        for (Worker each : workers) {
+            sb.append(each.getName()).append(", pending tasks: ").append(each.pendingTasks.get())
+                    .append(", queued lanes: ").append(each.lanes.size()).append(", stolen lanes: ")
+                    .append(each.stealCount.sum()).append('\n');
+        }
+        return sb.toString();
+    }
+    
+    public int getWorkerCount() {
+        return workers.length;
+    }
+    
+    public int getPendingTaskCount(int workerIndex) {
+        return workers[workerIndex].pendingTasks.get();
+    }
+    
+    public long getStealCount(int workerIndex) {
+        return workers[workerIndex].stealCount.sum();
+    }
+    
+    @Override
+    public void shutdown() throws NacosException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        lanes.clear();
+        for (Worker each : workers) {
+            each.lanes.clear();
+            each.pendingTasks.set(0);
+            each.interrupt();
+        }
+    }
+    
+    private int getHomeWorker(Object tag) {
+        return (tag.hashCode() & Integer.MAX_VALUE) % workers.length;
+    }
+    
+    /**
+     * Run tasks of the lane, then release the lane if no more tasks or reschedule it to the current worker.
+     */
+    private void runLane(Lane lane, Worker current) {
+        Worker home = workers[lane.homeWorker];
+        for (int i = 0; i < LANE_BATCH_SIZE; i++) {
+            Runnable task = lane.tasks.poll();
+            if (null == task) {
+                break;
+            }
+            home.pendingTasks.decrementAndGet();
+            runTask(task);
+        }
+        boolean[] reschedule = new boolean[1];
+        lanes.computeIfPresent(lane.tag, (key, value) -> {
+            if (value != lane) {
+                return value;
+            }
+            if (lane.tasks.isEmpty()) {
+                return null;
+            }
+            reschedule[0] = true;
+            return lane;
+        });
+        if (reschedule[0]) {
+            current.lanes.offerLast(lane);
+            signal(current);
+        }
+    }
+    
+    /**
+     * Wake up the owner of the queued lane, or any waiting worker to steal it if the owner is busy.
+     */
+    private void signal(Worker owner) {
+        if (owner.waiting) {
+            LockSupport.unpark(owner);
+            return;
+        }
+        if (0 == waitingWorkers.get()) {
+            return;
+        }
+        for (Worker each : workers) {
+            if (each.waiting) {
+                LockSupport.unpark(each);
+                return;
+            }
+        }
+    }
+    
+    private boolean hasQueuedLanes() {
+        for (Worker each : workers) {
+            if (!each.lanes.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void runTask(Runnable task) {
+        try {
+            long begin = System.currentTimeMillis();
+            task.run();
+            long duration = System.currentTimeMillis() - begin;
+            if (duration > SLOW_TASK_MILLIS) {
+                log.warn("task {} takes {}ms", task, duration);
+            }
+        } catch (Throwable e) {
+            log.error("[TASK-FAILED] " + e, e);
+        }
+    }
+    
+    private static class Lane {
+        
+        private final Object tag;
+        
+        private final int homeWorker;
+        
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        
+        /**
+         * Only modified in {@link ConcurrentHashMap#compute} of lanes.
+         */
+        private boolean scheduled;
+        
+        private Lane(Object tag, int homeWorker) {
+            this.tag = tag;
+            this.homeWorker = homeWorker;
+        }
+    }
+    
+    private class Worker extends Thread {
+        
+        private final int index;
+        
+        private final LinkedBlockingDeque<Lane> lanes = new LinkedBlockingDeque<>();
+        
+        private final AtomicInteger pendingTasks = new AtomicInteger();
+        
+        private final LongAdder stealCount = new LongAdder();
+        
+        private volatile boolean waiting;
+        
+        Worker(String name, int index) {
+            this.index = index;
+            setDaemon(false);
+            setName(name);
+        }
+        
+        @Override
+        public void run() {
+            while (!closed.get()) {
+                try {
+                    Lane lane = lanes.pollFirst();
+                    if (null == lane) {
+                        lane = steal();
+                    }
+                    if (null != lane) {
+                        runLane(lane, this);
+                    } else {
+                        awaitLanes();
+                    }
+                } catch (Throwable e) {
+                    log.error("[TASK-FAILED] " + e, e);
+                }
+            }
+        }
+        
+        private void awaitLanes() {
+            waiting = true;
+            waitingWorkers.incrementAndGet();
+            // double check to avoid missing the signal from the thread queuing lanes.
+            if (!closed.get() && !hasQueuedLanes()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            if (Thread.interrupted() && !closed.get()) {
+                log.warn("worker {} interrupted", getName());
+            }
+            waitingWorkers.decrementAndGet();
+            waiting = false;
+        }
+        
+        private Lane steal() {
+            for (int i = 1; i < workers.length; i++) {
+                Lane result = workers[(index + i) % workers.length].lanes.pollLast();
+                if (null != result) {
+                    stealCount.increment();
+                    return result;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.junit.Test;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 
@@ -148,4 +149,23 @@ public class ExecutorFactoryTest {
         Assert.assertEquals(threadFactory, threadPoolExecutor.getThreadFactory());
         Assert.assertEquals(7, resourcesManager.get("nacos").get(testGroup).size());
     }
+    
+    @Test
+    public void testBlockingExecutorService() throws Exception {
+        ExecutorService executorService = ExecutorFactory.newBlockingExecutorService("test.blocking", 4);
+        Assert.assertTrue(executorService instanceof ThreadPoolExecutor);
+        Assert.assertEquals(4, ((ThreadPoolExecutor) executorService).getMaximumPoolSize());
+        executorService.shutdown();
+        System.setProperty(VirtualThreadSupport.VIRTUAL_THREAD_ENABLED_PROPERTY, "true");
+        try {
+            Assert.assertEquals(VirtualThreadSupport.isAvailable(), ExecutorFactory.isVirtualThreadEnabled());
+            executorService = ExecutorFactory.newBlockingExecutorService("test.blocking", 4);
+            Assert.assertEquals(VirtualThreadSupport.isAvailable(), !(executorService instanceof ThreadPoolExecutor));
+            String threadName = executorService.submit(() -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS);
+            Assert.assertTrue(threadName.startsWith("test.blocking."));
+            executorService.shutdown();
+        } finally {
+            System.clearProperty(VirtualThreadSupport.VIRTUAL_THREAD_ENABLED_PROPERTY);
+        }
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EventRingBufferTest {
+    
+    @Test
+    public void testCapacityRoundUp() {
+        assertEquals(8, new EventRingBuffer(5).capacity());
+        assertEquals(16, new EventRingBuffer(16).capacity());
+    }
+    
+    @Test
+    public void testOfferAndPollInOrder() {
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Event event = new MockEvent();
+            events.add(event);
+            assertTrue(buffer.offer(event, i));
+        }
+        assertFalse(buffer.offer(new MockEvent(), 4));
+        assertEquals(4, buffer.size());
+        List<Event> actual = new ArrayList<>();
+        List<Long> publishNanos = new ArrayList<>();
+        assertEquals(3, buffer.drain((event, nanoTime) -> {
+            actual.add(event);
+            publishNanos.add(nanoTime);
+        }, 3));
+        assertEquals(events.subList(0, 3), actual);
+        assertEquals(2L, (long) publishNanos.get(2));
+        // the released slots are writable again.
+        assertTrue(buffer.offer(new MockEvent(), 5));
+        assertTrue(buffer.poll((event, nanoTime) -> assertSame(events.get(3), event)));
+        assertEquals(1, buffer.size());
+    }
+    
+    @Test
+    public void testPollEmpty() {
+        EventRingBuffer buffer = new EventRingBuffer(2);
+        assertFalse(buffer.poll((event, nanoTime) -> {
+        }));
+        assertEquals(0, buffer.size());
+    }
+    
+    @Test
+    public void testConcurrentOffer() throws InterruptedException {
+        EventRingBuffer buffer = new EventRingBuffer(1024);
+        int producers = 4;
+        int eventsPerProducer = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch latch = new CountDownLatch(producers);
+        for (int i = 0; i < producers; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < eventsPerProducer; j++) {
+                    while (!buffer.offer(new MockEvent(), System.nanoTime())) {
+                        Thread.yield();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        AtomicInteger received = new AtomicInteger();
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (received.get() < producers * eventsPerProducer && System.currentTimeMillis() < deadline) {
+            buffer.drain((event, nanoTime) -> received.incrementAndGet(), 128);
+        }
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(producers * eventsPerProducer, received.get());
+        assertEquals(0, buffer.size());
+    }
+    
+    private static class MockEvent extends Event {
+        
+        private static final long serialVersionUID = -6447167063567003707L;
+    }
+}
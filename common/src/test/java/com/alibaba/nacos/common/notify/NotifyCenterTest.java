@@ -222,6 +222,14 @@ public class NotifyCenterTest {
         }
     }
     
+    @Test
+    public void testParseBackpressurePolicy() {
+        assertEquals(BackpressurePolicy.CALLER_RUNS, NotifyCenter.backpressurePolicy);
+        assertEquals(BackpressurePolicy.DROP_OLDEST, NotifyCenter.parseBackpressurePolicy("DROP_OLDEST"));
+        assertEquals(BackpressurePolicy.CALLER_RUNS, NotifyCenter.parseBackpressurePolicy(null));
+        assertEquals(BackpressurePolicy.CALLER_RUNS, NotifyCenter.parseBackpressurePolicy("unknown"));
+    }
+    
     private static class MockSubscriber<T extends Event> extends Subscriber<T> {
         
         private final Class<T> subscribedEvent;
@@ -0,0 +1,193 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RingBufferPublisherTest {
+    
+    private RingBufferPublisher publisher;
+    
+    private final CountDownLatch release = new CountDownLatch(1);
+    
+    private final List<Event> received = new CopyOnWriteArrayList<>();
+    
+    private final List<Thread> receivedThreads = new CopyOnWriteArrayList<>();
+    
+    @After
+    public void tearDown() {
+        release.countDown();
+        if (null != publisher) {
+            publisher.shutdown();
+        }
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testCheckIsStart() {
+        new RingBufferPublisher().checkIsStart();
+    }
+    
+    @Test
+    public void testDefaultPolicy() {
+        assertEquals(BackpressurePolicy.CALLER_RUNS, new RingBufferPublisher().getPolicy());
+    }
+    
+    @Test
+    public void testFactory() {
+        EventPublisher eventPublisher = new RingBufferPublisherFactory(BackpressurePolicy.BLOCK)
+                .apply(MockEvent.class, 16);
+        publisher = (RingBufferPublisher) eventPublisher;
+        assertTrue(publisher.isInitialized());
+        assertEquals(BackpressurePolicy.BLOCK, publisher.getPolicy());
+    }
+    
+    @Test
+    public void testPublishAndNotify() throws InterruptedException {
+        publisher = new RingBufferPublisher(BackpressurePolicy.BLOCK);
+        publisher.init(MockEvent.class, 16);
+        publisher.addSubscriber(new MockSubscriber(false));
+        MockEvent first = new MockEvent();
+        MockEvent second = new MockEvent();
+        assertTrue(publisher.publish(first));
+        assertTrue(publisher.publish(second));
+        waitReceived(2);
+        assertEquals(Arrays.asList(first, second), received);
+        assertEquals(2, publisher.getNotifiedCount());
+        assertTrue(publisher.getMaxLatencyNanos() > 0);
+        assertTrue(publisher.getTotalLatencyNanos() >= publisher.getMaxLatencyNanos());
+        assertTrue(publisher.getStatus().contains("policy=BLOCK"));
+    }
+    
+    @Test
+    public void testCallerRunsWhenFull() throws InterruptedException {
+        final List<MockEvent> events = fillBuffer(BackpressurePolicy.CALLER_RUNS);
+        MockEvent overflow = new MockEvent();
+        assertTrue(publisher.publish(overflow));
+        // notified by publishing thread directly.
+        assertEquals(overflow, received.get(1));
+        assertEquals(Thread.currentThread(), receivedThreads.get(1));
+        assertEquals(1, publisher.getCallerRunsCount());
+        release.countDown();
+        waitReceived(4);
+        assertEquals(Arrays.asList(events.get(0), overflow, events.get(1), events.get(2)), received);
+    }
+    
+    @Test
+    public void testDropOldestWhenFull() throws InterruptedException {
+        final List<MockEvent> events = fillBuffer(BackpressurePolicy.DROP_OLDEST);
+        MockEvent overflow = new MockEvent();
+        assertTrue(publisher.publish(overflow));
+        assertEquals(1, publisher.getDroppedCount());
+        release.countDown();
+        waitReceived(3);
+        assertEquals(Arrays.asList(events.get(0), events.get(2), overflow), received);
+    }
+    
+    @Test
+    public void testBlockWhenFull() throws Exception {
+        final List<MockEvent> events = fillBuffer(BackpressurePolicy.BLOCK);
+        MockEvent overflow = new MockEvent();
+        CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(() -> publisher.publish(overflow));
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertFalse(future.isDone());
+        release.countDown();
+        assertTrue(future.get(5, TimeUnit.SECONDS));
+        waitReceived(4);
+        assertEquals(Arrays.asList(events.get(0), events.get(1), events.get(2), overflow), received);
+        assertEquals(0, publisher.getDroppedCount());
+    }
+    
+    @Test
+    public void testBlockReleasedByShutdown() throws Exception {
+        fillBuffer(BackpressurePolicy.BLOCK);
+        final CompletableFuture<Boolean> future = CompletableFuture
+                .supplyAsync(() -> publisher.publish(new MockEvent()));
+        TimeUnit.MILLISECONDS.sleep(100);
+        publisher.shutdown();
+        // the buffer is cleared by shutdown, so the publishing may success or fail, but must not block.
+        future.get(5, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Make the publisher thread block on the first event, and fill the buffer with two more events.
+     */
+    private List<MockEvent> fillBuffer(BackpressurePolicy policy) throws InterruptedException {
+        publisher = new RingBufferPublisher(policy);
+        publisher.init(MockEvent.class, 2);
+        publisher.addSubscriber(new MockSubscriber(true));
+        List<MockEvent> events = Arrays.asList(new MockEvent(), new MockEvent(), new MockEvent());
+        assertTrue(publisher.publish(events.get(0)));
+        waitReceived(1);
+        assertTrue(publisher.publish(events.get(1)));
+        assertTrue(publisher.publish(events.get(2)));
+        assertEquals(2, publisher.currentEventSize());
+        return events;
+    }
+    
+    private void waitReceived(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (received.size() < count && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(count, received.size());
+    }
+    
+    private class MockSubscriber extends Subscriber<MockEvent> {
+        
+        private final boolean blockPublisherThread;
+        
+        private MockSubscriber(boolean blockPublisherThread) {
+            this.blockPublisherThread = blockPublisherThread;
+        }
+        
+        @Override
+        public void onEvent(MockEvent event) {
+            received.add(event);
+            receivedThreads.add(Thread.currentThread());
+            if (blockPublisherThread && Thread.currentThread() == publisher) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return MockEvent.class;
+        }
+    }
+    
+    private static class MockEvent extends Event {
+        
+        private static final long serialVersionUID = 4284375744536931375L;
+    }
+}
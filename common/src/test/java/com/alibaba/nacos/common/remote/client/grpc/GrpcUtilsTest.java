@@ -28,9 +28,11 @@ import com.alibaba.nacos.common.remote.exception.RemoteException;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -113,6 +115,33 @@ public class GrpcUtilsTest {
         
     }
     
+    @Test
+    public void testConvertRequestWithEncodedBody() {
+        byte[] encodedBody = GrpcUtils.encodeRequestBody(request);
+        request.setRequestId("1");
+        Payload payload1 = GrpcUtils.convert(request, encodedBody);
+        request.setRequestId("2");
+        Payload payload2 = GrpcUtils.convert(request, encodedBody);
+        assertEquals(request.getClass().getSimpleName(), payload1.getMetadata().getType());
+        assertEquals("v1", payload1.getMetadata().getHeadersMap().get("h1"));
+        ServiceQueryRequest actual1 = (ServiceQueryRequest) GrpcUtils.parse(payload1);
+        ServiceQueryRequest actual2 = (ServiceQueryRequest) GrpcUtils.parse(payload2);
+        assertEquals("1", actual1.getRequestId());
+        assertEquals("2", actual2.getRequestId());
+        assertEquals(request.getCluster(), actual1.getCluster());
+        assertEquals(request.getNamespace(), actual2.getNamespace());
+        assertEquals(request.getHeaders(), actual2.getHeaders());
+    }
+    
+    @Test
+    public void testEncodeRequestBodyWithoutRequestId() {
+        request.setRequestId("1");
+        String encodedBody = new String(GrpcUtils.encodeRequestBody(request), StandardCharsets.UTF_8);
+        assertFalse(encodedBody.contains("requestId"));
+        assertFalse(encodedBody.contains("h1"));
+        assertEquals("1", request.getRequestId());
+    }
+    
     @Test(expected = RemoteException.class)
     public void testParseNullType() {
         Payload mockPayload = mock(Payload.class);
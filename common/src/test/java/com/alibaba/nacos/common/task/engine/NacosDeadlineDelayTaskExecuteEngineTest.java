@@ -0,0 +1,171 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.internal.verification.Times;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NacosDeadlineDelayTaskExecuteEngineTest {
+    
+    private NacosDeadlineDelayTaskExecuteEngine executeEngine;
+    
+    @Mock
+    private NacosTaskProcessor taskProcessor;
+    
+    @Mock
+    private NacosTaskProcessor testTaskProcessor;
+    
+    private AbstractDelayTask abstractTask;
+    
+    @Before
+    public void setUp() throws Exception {
+        executeEngine = new NacosDeadlineDelayTaskExecuteEngine(NacosDeadlineDelayTaskExecuteEngineTest.class.getName(),
+                LoggerFactory.getLogger(NacosDeadlineDelayTaskExecuteEngineTest.class));
+        executeEngine.setDefaultTaskProcessor(taskProcessor);
+        abstractTask = new AbstractDelayTask() {
+            @Override
+            public void merge(AbstractDelayTask task) {
+            }
+        };
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        executeEngine.shutdown();
+    }
+    
+    @Test
+    public void testSize() {
+        assertEquals(0, executeEngine.size());
+        executeEngine.addTask("test", abstractTask);
+        assertEquals(1, executeEngine.size());
+        executeEngine.removeTask("test");
+        assertEquals(0, executeEngine.size());
+    }
+    
+    @Test
+    public void testIsEmpty() {
+        assertTrue(executeEngine.isEmpty());
+        executeEngine.addTask("test", abstractTask);
+        assertFalse(executeEngine.isEmpty());
+        executeEngine.removeTask("test");
+        assertTrue(executeEngine.isEmpty());
+    }
+    
+    @Test
+    public void testAddProcessor() throws InterruptedException {
+        when(testTaskProcessor.process(abstractTask)).thenReturn(true);
+        executeEngine.addProcessor("test", testTaskProcessor);
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(testTaskProcessor).process(abstractTask);
+        verify(taskProcessor, never()).process(abstractTask);
+        assertTrue(executeEngine.isEmpty());
+    }
+    
+    @Test
+    public void testRetryTaskAfterFail() throws InterruptedException {
+        when(taskProcessor.process(abstractTask)).thenReturn(false, true);
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(300);
+        verify(taskProcessor, new Times(2)).process(abstractTask);
+    }
+    
+    @Test
+    public void testProcessorWithException() throws InterruptedException {
+        when(taskProcessor.process(abstractTask)).thenThrow(new RuntimeException("test"));
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(1, executeEngine.size());
+    }
+    
+    @Test
+    public void testTaskShouldNotExecute() throws InterruptedException {
+        executeEngine.addProcessor("test", testTaskProcessor);
+        executeEngine.addTask("test", abstractTask);
+        abstractTask.setTaskInterval(10000L);
+        abstractTask.setLastProcessTime(System.currentTimeMillis());
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(testTaskProcessor, never()).process(abstractTask);
+        assertEquals(1, executeEngine.size());
+    }
+    
+    @Test
+    public void testTaskMergeToEarlierDeadline() throws InterruptedException {
+        when(taskProcessor.process(any())).thenReturn(true);
+        abstractTask.setTaskInterval(10000L);
+        executeEngine.addTask("test", abstractTask);
+        AbstractDelayTask mergedTask = new AbstractDelayTask() {
+            @Override
+            public void merge(AbstractDelayTask task) {
+            }
+        };
+        mergedTask.setTaskInterval(0L);
+        executeEngine.addTask("test", mergedTask);
+        assertEquals(1, executeEngine.size());
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(taskProcessor).process(mergedTask);
+        verify(taskProcessor, never()).process(abstractTask);
+        assertTrue(executeEngine.isEmpty());
+    }
+    
+    @Test
+    public void testShardedProcess() throws Exception {
+        executeEngine.shutdown();
+        executeEngine = new NacosDeadlineDelayTaskExecuteEngine(NacosDeadlineDelayTaskExecuteEngineTest.class.getName(),
+                32, LoggerFactory.getLogger(NacosDeadlineDelayTaskExecuteEngineTest.class), 10L, 4);
+        Set<String> processThreads = ConcurrentHashMap.newKeySet();
+        executeEngine.setDefaultTaskProcessor(task -> {
+            processThreads.add(Thread.currentThread().getName());
+            return true;
+        });
+        assertEquals(4, executeEngine.getShardCount());
+        for (int i = 0; i < 100; i++) {
+            AbstractDelayTask task = new AbstractDelayTask() {
+                @Override
+                public void merge(AbstractDelayTask task) {
+                }
+            };
+            task.setTaskInterval(0L);
+            executeEngine.addTask("test" + i, task);
+        }
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertTrue(executeEngine.isEmpty());
+        assertEquals(4, processThreads.size());
+    }
+}
@@ -90,4 +90,20 @@ public class NacosExecuteTaskExecuteEngineTest {
     public void testWorkersStatus() {
         assertEquals("TEST_0%1, pending tasks: 0\n", executeTaskExecuteEngine.workersStatus());
     }
+    
+    @Test
+    public void testAddTaskInWorkStealingMode() throws NacosException, InterruptedException {
+        NacosExecuteTaskExecuteEngine workStealingEngine = new NacosExecuteTaskExecuteEngine("TEST", null, 1, true);
+        try {
+            assertTrue(workStealingEngine.isWorkStealing());
+            workStealingEngine.addTask("test", task);
+            TimeUnit.SECONDS.sleep(1);
+            verify(task).run();
+            assertTrue(workStealingEngine.isEmpty());
+            assertEquals("TEST_0%1, pending tasks: 0, queued lanes: 0, stolen lanes: 0\n",
+                    workStealingEngine.workersStatus());
+        } finally {
+            workStealingEngine.shutdown();
+        }
+    }
 }
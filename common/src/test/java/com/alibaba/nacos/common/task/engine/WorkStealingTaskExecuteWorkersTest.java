@@ -0,0 +1,90 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WorkStealingTaskExecuteWorkersTest {
+    
+    private WorkStealingTaskExecuteWorkers workers;
+    
+    @Before
+    public void setUp() {
+        workers = new WorkStealingTaskExecuteWorkers("TEST", 2, null);
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        workers.shutdown();
+    }
+    
+    @Test
+    public void testExecuteInOrderForSameTag() throws InterruptedException {
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1000);
+        for (int i = 0; i < 1000; i++) {
+            final int value = i;
+            workers.execute("test", () -> {
+                result.add(value);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, result.get(i).intValue());
+        }
+        assertEquals(0, workers.pendingTaskCount());
+    }
+    
+    @Test
+    public void testStealTasksBehindHotTag() throws InterruptedException {
+        // tag 0 and tag 2 are both hashed to worker 0.
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch executed = new CountDownLatch(1);
+        workers.execute(0, () -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        TimeUnit.MILLISECONDS.sleep(50);
+        workers.execute(2, executed::countDown);
+        assertTrue(executed.await(2, TimeUnit.SECONDS));
+        assertEquals(1L, workers.getStealCount(1));
+        assertEquals(0L, workers.getStealCount(0));
+        blocker.countDown();
+    }
+    
+    @Test
+    public void testStatus() {
+        assertEquals(2, workers.getWorkerCount());
+        assertEquals(0, workers.getPendingTaskCount(0));
+        assertEquals("TEST_0%2, pending tasks: 0, queued lanes: 0, stolen lanes: 0\n"
+                + "TEST_1%2, pending tasks: 0, queued lanes: 0, stolen lanes: 0\n", workers.status());
+    }
+}
@@ -33,6 +33,8 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     
     private int maxPushRetryTimes = 50;
     
+    private long batchNotifyDelayMillis = 50L;
+    
     private ConfigCommonConfig() {
         super(CONFIG_COMMON);
         resetConfig();
@@ -50,13 +52,23 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         this.maxPushRetryTimes = maxPushRetryTimes;
     }
     
+    public long getBatchNotifyDelayMillis() {
+        return batchNotifyDelayMillis;
+    }
+    
+    public void setBatchNotifyDelayMillis(long batchNotifyDelayMillis) {
+        this.batchNotifyDelayMillis = batchNotifyDelayMillis;
+    }
+    
     @Override
     protected void getConfigFromEnv() {
         maxPushRetryTimes = EnvUtil.getProperty("nacos.config.push.maxRetryTime", Integer.class, 50);
+        batchNotifyDelayMillis = EnvUtil.getProperty("nacos.config.push.batchNotifyDelayMillis", Long.class, 50L);
     }
     
     @Override
     protected String printConfig() {
-        return "ConfigCommonConfigs{" + "maxPushRetryTimes=" + maxPushRetryTimes + '}';
+        return "ConfigCommonConfigs{" + "maxPushRetryTimes=" + maxPushRetryTimes + ", batchNotifyDelayMillis="
+                + batchNotifyDelayMillis + '}';
     }
 }
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.monitor;
 import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
 import com.alibaba.nacos.core.monitor.topn.StringTopNCounter;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
@@ -194,6 +195,31 @@ public class MetricsMonitor {
         return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "notifyRt");
     }
     
+    public static Timer getClearListenContextRtTimer() {
+        return NacosMeterRegistryCenter
+                .timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "clearListenContextRt");
+    }
+    
+    public static DistributionSummary getClearListenContextBatchSize() {
+        return NacosMeterRegistryCenter
+                .summary(METER_REGISTRY, "nacos_monitor", "module", "config", "name", "clearListenContextBatchSize");
+    }
+    
+    public static Counter getContentCacheHit() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "hit");
+    }
+    
+    public static Counter getContentCacheMiss() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "miss");
+    }
+    
+    public static Counter getContentCacheEviction() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "eviction");
+    }
+    
     public static Counter getIllegalArgumentException() {
         return NacosMeterRegistryCenter
                 .counter(METER_REGISTRY, "nacos_exception", "module", "config", "name", "illegalArgument");
@@ -19,17 +19,26 @@ package com.alibaba.nacos.config.server.remote;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * config change listen context.
  *
+ * <p>All the indexes are concurrent maps without global lock. Listen and remove of one group key are serialized by
+ * {@link ConcurrentHashMap#compute}, which only locks the bin of the group key, so reads of the listeners are lock-free
+ * and never blocked by listen requests of other group keys.
+ *
+ * <p>Group keys are interned to int ids by {@link GroupKeyRegistry}, connections only keep the ids and md5 in
+ * {@link ConnectionListenKeys}, so the heap usage scales with unique group keys instead of subscriptions.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeListenContext.java, v 0.1 2020年07月20日 1:37 PM liuzunfei Exp $
  */
@@ -37,14 +46,14 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ConfigChangeListenContext {
     
     /**
-     * groupKey-> connection set.
+     * groupKey-> id and connection set.
      */
-    private ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    private final GroupKeyRegistry groupKeyRegistry = new GroupKeyRegistry();
     
     /**
-     * connectionId-> group key set.
+     * connectionId-> group key id set.
      */
-    private ConcurrentHashMap<String, HashMap<String, String>> connectionIdContext = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConnectionListenKeys> connectionIdContext = new ConcurrentHashMap<>();
     
     /**
      * add listen.
@@ -52,23 +61,12 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connectionId.
      */
-    public synchronized void addListen(String groupKey, String md5, String connectionId) {
+    public void addListen(String groupKey, String md5, String connectionId) {
         // 1.add groupKeyContext
-        Set<String> listenClients = groupKeyContext.get(groupKey);
-        if (listenClients == null) {
-            groupKeyContext.putIfAbsent(groupKey, new HashSet<>());
-            listenClients = groupKeyContext.get(groupKey);
-        }
-        listenClients.add(connectionId);
+        int groupKeyId = groupKeyRegistry.register(groupKey, connectionId);
         
         // 2.add connectionIdContext
-        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
-        if (groupKeys == null) {
-            connectionIdContext.putIfAbsent(connectionId, new HashMap<>(16));
-            groupKeys = connectionIdContext.get(connectionId);
-        }
-        groupKeys.put(groupKey, md5);
-        
+        connectionIdContext.computeIfAbsent(connectionId, key -> new ConnectionListenKeys()).put(groupKeyId, md5);
     }
     
     /**
@@ -77,22 +75,21 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connection id.
      */
-    public synchronized void removeListen(String groupKey, String connectionId) {
+    public void removeListen(String groupKey, String connectionId) {
         
-        //1. remove groupKeyContext
-        Set<String> connectionIds = groupKeyContext.get(groupKey);
-        if (connectionIds != null) {
-            connectionIds.remove(connectionId);
-            if (connectionIds.isEmpty()) {
-                groupKeyContext.remove(groupKey);
-            }
+        Integer groupKeyId = groupKeyRegistry.getId(groupKey);
+        if (groupKeyId == null) {
+            return;
         }
         
-        //2.remove connectionIdContext
-        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
-        if (groupKeys != null) {
-            groupKeys.remove(groupKey);
+        //1.remove connectionIdContext
+        ConnectionListenKeys listenKeys = connectionIdContext.get(connectionId);
+        if (listenKeys != null) {
+            listenKeys.remove(groupKeyId);
         }
+        
+        //2. remove groupKeyContext
+        groupKeyRegistry.unregister(groupKey, connectionId);
     }
     
     /**
@@ -101,57 +98,51 @@ public class ConfigChangeListenContext {
      * @param groupKey groupKey.
      * @return the copy of listeners, may be return null.
      */
-    public synchronized Set<String> getListeners(String groupKey) {
+    public Set<String> getListeners(String groupKey) {
         
-        HashSet<String> strings = groupKeyContext.get(groupKey);
-        if (CollectionUtils.isNotEmpty(strings)) {
-            Set<String> listenConnections = new HashSet<>();
-            safeCopy(strings, listenConnections);
-            return listenConnections;
+        Set<String> connectionIds = groupKeyRegistry.getConnectionIds(groupKey);
+        if (CollectionUtils.isNotEmpty(connectionIds)) {
+            // weakly consistent copy of concurrent set, no lock required.
+            Set<String> listenConnections = new HashSet<>(connectionIds);
+            return listenConnections.isEmpty() ? null : listenConnections;
         }
         return null;
     }
     
-    /**
-     * copy collections.
-     *
-     * @param src  may be modified concurrently
-     * @param dest dest collection
-     */
-    private void safeCopy(Collection src, Collection dest) {
-        Iterator iterator = src.iterator();
-        while (iterator.hasNext()) {
-            dest.add(iterator.next());
-        }
-    }
-    
     /**
      * remove the context related to the connection id.
      *
      * @param connectionId connectionId.
      */
-    public synchronized void clearContextForConnectionId(final String connectionId) {
+    public void clearContextForConnectionId(final String connectionId) {
         
-        Map<String, String> listenKeys = getListenKeys(connectionId);
+        ConnectionListenKeys listenKeys = connectionIdContext.remove(connectionId);
         
         if (listenKeys == null) {
-            connectionIdContext.remove(connectionId);
             return;
         }
-        for (Map.Entry<String, String> groupKey : listenKeys.entrySet()) {
-
-            Set<String> connectionIds = groupKeyContext.get(groupKey.getKey());
-            if (CollectionUtils.isNotEmpty(connectionIds)) {
-                connectionIds.remove(connectionId);
-                if (connectionIds.isEmpty()) {
-                    groupKeyContext.remove(groupKey.getKey());
-                }
-            } else {
-                groupKeyContext.remove(groupKey.getKey());
+        listenKeys.forEach((groupKeyId, md5) -> groupKeyRegistry.unregister(groupKeyId, connectionId));
+    }
+    
+    /**
+     * remove the context related to the connection ids in one pass.
+     *
+     * <p>The connections are removed first, then the listeners of each group key are removed by one compute, so the
+     * cost is proportional to the unique group keys instead of subscriptions, and no global lock is held.
+     *
+     * @param connectionIds connection ids.
+     */
+    public void clearContextForConnectionIds(final Collection<String> connectionIds) {
+        Map<Integer, List<String>> groupKeyConnections = new HashMap<>(16);
+        for (String connectionId : connectionIds) {
+            ConnectionListenKeys listenKeys = connectionIdContext.remove(connectionId);
+            if (listenKeys == null) {
+                continue;
             }
-
+            listenKeys.forEach((groupKeyId, md5) -> groupKeyConnections
+                    .computeIfAbsent(groupKeyId, key -> new ArrayList<>()).add(connectionId));
         }
-        connectionIdContext.remove(connectionId);
+        groupKeyConnections.forEach(groupKeyRegistry::unregister);
     }
     
     /**
@@ -160,9 +151,20 @@ public class ConfigChangeListenContext {
      * @param connectionId connection id.
      * @return listen group keys of the connection id, key:group key,value:md5
      */
-    public synchronized Map<String, String> getListenKeys(String connectionId) {
-        HashMap<String, String> stringStringHashMap = connectionIdContext.get(connectionId);
-        return stringStringHashMap == null ? null : new HashMap<>(stringStringHashMap);
+    public Map<String, String> getListenKeys(String connectionId) {
+        ConnectionListenKeys listenKeys = connectionIdContext.get(connectionId);
+        if (listenKeys == null) {
+            return null;
+        }
+        Map<String, String> result = new HashMap<>(listenKeys.size());
+        listenKeys.forEach((groupKeyId, md5) -> {
+            // the group key may be released by concurrent remove, and its id recycled.
+            String groupKey = groupKeyRegistry.getGroupKey(groupKeyId, connectionId);
+            if (groupKey != null) {
+                result.put(groupKey, md5);
+            }
+        });
+        return result;
     }
     
     /**
@@ -172,8 +174,24 @@ public class ConfigChangeListenContext {
      * @return md5 of the listen group key.
      */
     public String getListenKeyMd5(String connectionId, String groupKey) {
-        Map<String, String> groupKeyContexts = connectionIdContext.get(connectionId);
-        return groupKeyContexts == null ? null : groupKeyContexts.get(groupKey);
+        ConnectionListenKeys listenKeys = connectionIdContext.get(connectionId);
+        if (listenKeys == null) {
+            return null;
+        }
+        Integer groupKeyId = groupKeyRegistry.getId(groupKey);
+        if (groupKeyId == null || groupKeyRegistry.getGroupKey(groupKeyId, connectionId) == null) {
+            return null;
+        }
+        return listenKeys.getMd5(groupKeyId);
+    }
+    
+    /**
+     * get count of unique listened group keys.
+     *
+     * @return count of group keys.
+     */
+    public int getGroupKeyCount() {
+        return groupKeyRegistry.size();
     }
     
     /**
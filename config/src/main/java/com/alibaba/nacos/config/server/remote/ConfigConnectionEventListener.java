@@ -16,22 +16,45 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.core.remote.ClientConnectionEventListener;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.utils.Loggers;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * ConfigConnectionEventListener.
  *
+ * <p>Disconnected connections are queued and their listen context is cleared in batch by
+ * {@link ConfigChangeListenContext#clearContextForConnectionIds}, so a burst of disconnections neither blocks the
+ * connection manager nor the notification of config changes. Before the batch is cleared, the listeners of the
+ * disconnected connections are skipped by notifier since the connections can't be found.
+ *
  * @author liuzunfei
  * @version $Id: ConfigConnectionEventListener.java, v 0.1 2020年07月20日 2:27 PM liuzunfei Exp $
  */
 @Component
 public class ConfigConnectionEventListener extends ClientConnectionEventListener {
     
+    /**
+     * Delay to wait more disconnected connections to clear in one batch.
+     */
+    private static final long CLEAR_BATCH_DELAY_MILLIS = 50L;
+    
     final ConfigChangeListenContext configChangeListenContext;
     
+    private final Queue<String> disconnectedConnectionIds = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean clearScheduled = new AtomicBoolean(false);
+    
     public ConfigConnectionEventListener(ConfigChangeListenContext configChangeListenContext) {
         this.configChangeListenContext = configChangeListenContext;
     }
@@ -45,7 +68,31 @@ public class ConfigConnectionEventListener extends ClientConnectionEventListener
     public void clientDisConnected(Connection connect) {
         String connectionId = connect.getMetaInfo().getConnectionId();
         Loggers.REMOTE_DIGEST.info("[{}]client disconnected,clear config listen context", connectionId);
-        configChangeListenContext.clearContextForConnectionId(connectionId);
+        disconnectedConnectionIds.offer(connectionId);
+        if (clearScheduled.compareAndSet(false, true)) {
+            ConfigExecutor.scheduleClearListenContext(this::clearDisconnectedContext, CLEAR_BATCH_DELAY_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    void clearDisconnectedContext() {
+        // reset flag before draining, so connections queued after draining will schedule a new batch.
+        clearScheduled.set(false);
+        List<String> connectionIds = new ArrayList<>();
+        String connectionId;
+        while ((connectionId = disconnectedConnectionIds.poll()) != null) {
+            connectionIds.add(connectionId);
+        }
+        if (connectionIds.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        configChangeListenContext.clearContextForConnectionIds(connectionIds);
+        long cost = System.nanoTime() - start;
+        MetricsMonitor.getClearListenContextRtTimer().record(cost, TimeUnit.NANOSECONDS);
+        MetricsMonitor.getClearListenContextBatchSize().record(connectionIds.size());
+        Loggers.REMOTE_DIGEST.info("clear config listen context of {} disconnected connections, cost {} ms",
+                connectionIds.size(), TimeUnit.NANOSECONDS.toMillis(cost));
     }
     
 }
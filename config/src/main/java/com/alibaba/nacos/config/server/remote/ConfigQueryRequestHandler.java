@@ -28,6 +28,7 @@ import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigInfoBase;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoBetaPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
@@ -46,6 +47,7 @@ import com.alibaba.nacos.plugin.auth.constant.SignType;
 import org.springframework.stereotype.Component;
 
 import java.net.URLEncoder;
+import java.util.concurrent.Callable;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.LogUtil.PULL_LOG;
@@ -124,7 +126,7 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     String configType = cacheItem.getType();
                     response.setContentType((null != configType) ? configType : "text");
                 }
-                String content = null;
+                byte[] content = null;
                 ConfigInfoBase configInfoBase = null;
                 if (isBeta) {
                     md5 = cacheItem.getConfigCacheBeta().getMd5(acceptCharset);
@@ -132,7 +134,9 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     if (PropertyUtil.isDirectRead()) {
                         configInfoBase = configInfoBetaPersistService.findConfigInfo4Beta(dataId, group, tenant);
                     } else {
-                        content = ConfigDiskServiceFactory.getInstance().getBetaContent(dataId, group, tenant);
+                        content = readContent(groupKey, cacheItem.getConfigCacheBeta().getMd5Utf8(),
+                                () -> ConfigDiskServiceFactory.getInstance()
+                                        .getBetaContentBytes(dataId, group, tenant));
                     }
                     pullEvent = ConfigTraceService.PULL_EVENT_BETA;
                     response.setBeta(true);
@@ -147,8 +151,10 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                                 configInfoBase = configInfoTagPersistService.findConfigInfo4Tag(dataId, group, tenant,
                                         autoTag);
                             } else {
-                                content = ConfigDiskServiceFactory.getInstance()
-                                        .getTagContent(dataId, group, tenant, autoTag);
+                                content = readContent(groupKey,
+                                        cacheItem == null ? null : cacheItem.getTagMd5(autoTag, ENCODE_UTF8),
+                                        () -> ConfigDiskServiceFactory.getInstance()
+                                                .getTagContentBytes(dataId, group, tenant, autoTag));
                             }
                             pullEvent = ConfigTraceService.PULL_EVENT_TAG + "-" + autoTag;
                             response.setTag(URLEncoder.encode(autoTag, ENCODE_UTF8));
@@ -160,7 +166,9 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                             if (PropertyUtil.isDirectRead()) {
                                 configInfoBase = configInfoPersistService.findConfigInfo(dataId, group, tenant);
                             } else {
-                                content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+                                content = readContent(groupKey, cacheItem.getConfigCache().getMd5Utf8(),
+                                        () -> ConfigDiskServiceFactory.getInstance()
+                                                .getContentBytes(dataId, group, tenant));
                             }
                             pullEvent = ConfigTraceService.PULL_EVENT;
                             if (configInfoBase == null && content == null) {
@@ -180,7 +188,10 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                         if (PropertyUtil.isDirectRead()) {
                             configInfoBase = configInfoTagPersistService.findConfigInfo4Tag(dataId, group, tenant, tag);
                         } else {
-                            content = ConfigDiskServiceFactory.getInstance().getTagContent(dataId, group, tenant, tag);
+                            content = readContent(groupKey,
+                                    cacheItem == null ? null : cacheItem.getTagMd5(tag, ENCODE_UTF8),
+                                    () -> ConfigDiskServiceFactory.getInstance()
+                                            .getTagContentBytes(dataId, group, tenant, tag));
                         }
                         response.setTag(tag);
                         pullEvent = ConfigTraceService.PULL_EVENT_TAG + "-" + tag;
@@ -203,7 +214,7 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     response.setContent(configInfoBase.getContent());
                     response.setResultCode(ResponseCode.SUCCESS.getCode());
                 } else {
-                    response.setContent(content);
+                    response.setContentBytes(content);
                     response.setLastModified(lastModified);
                     response.setResultCode(ResponseCode.SUCCESS.getCode());
                 }
@@ -231,6 +242,21 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         return response;
     }
     
+    /**
+     * Read content from content cache by group key and UTF-8 md5, or from disk if not cached. The content on disk is
+     * always UTF-8 encoded, so the md5 of accept charset can't be used. Must be called with config read lock, so that
+     * the content on disk matches the md5 in cache item.
+     */
+    private byte[] readContent(String groupKey, String md5Utf8, Callable<byte[]> diskReader) throws Exception {
+        ConfigContentCache contentCache = ConfigContentCache.getInstance();
+        byte[] content = contentCache.get(groupKey, md5Utf8);
+        if (content == null) {
+            content = diskReader.call();
+            contentCache.put(groupKey, md5Utf8, content);
+        }
+        return content;
+    }
+    
     private String getEncryptedDataKey(String tag, String clientIp, CacheItem cacheItem, boolean isBeta,
             String autoTag) {
         if (cacheItem == null) {
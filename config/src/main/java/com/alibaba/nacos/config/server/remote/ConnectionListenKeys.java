@@ -0,0 +1,112 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Listen keys of one connection, stored as the sorted ids of {@link GroupKeyRegistry} with the md5 of each key.
+ *
+ * <p>Primitive arrays instead of map entries keep the memory of each subscription to a few bytes. Connections listen
+ * to tens of keys normally, so the binary search and array copy of insert and remove are cheap.
+ *
+ * @author Nacos
+ */
+public class ConnectionListenKeys {
+    
+    private static final int INITIAL_CAPACITY = 8;
+    
+    private int[] groupKeyIds = new int[INITIAL_CAPACITY];
+    
+    private String[] md5s = new String[INITIAL_CAPACITY];
+    
+    private int size;
+    
+    /**
+     * Put the md5 of group key.
+     *
+     * @param groupKeyId id of group key
+     * @param md5        md5 of listened content
+     */
+    public synchronized void put(int groupKeyId, String md5) {
+        int index = Arrays.binarySearch(groupKeyIds, 0, size, groupKeyId);
+        if (index >= 0) {
+            md5s[index] = md5;
+            return;
+        }
+        int insertIndex = -index - 1;
+        if (size == groupKeyIds.length) {
+            int newCapacity = size + (size >> 1);
+            groupKeyIds = Arrays.copyOf(groupKeyIds, newCapacity);
+            md5s = Arrays.copyOf(md5s, newCapacity);
+        }
+        System.arraycopy(groupKeyIds, insertIndex, groupKeyIds, insertIndex + 1, size - insertIndex);
+        System.arraycopy(md5s, insertIndex, md5s, insertIndex + 1, size - insertIndex);
+        groupKeyIds[insertIndex] = groupKeyId;
+        md5s[insertIndex] = md5;
+        size++;
+    }
+    
+    /**
+     * Remove the group key.
+     *
+     * @param groupKeyId id of group key
+     */
+    public synchronized void remove(int groupKeyId) {
+        int index = Arrays.binarySearch(groupKeyIds, 0, size, groupKeyId);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(groupKeyIds, index + 1, groupKeyIds, index, size - index - 1);
+        System.arraycopy(md5s, index + 1, md5s, index, size - index - 1);
+        size--;
+        md5s[size] = null;
+    }
+    
+    /**
+     * Get md5 of group key.
+     *
+     * @param groupKeyId id of group key
+     * @return md5, {@code null} if not listened
+     */
+    public synchronized String getMd5(int groupKeyId) {
+        int index = Arrays.binarySearch(groupKeyIds, 0, size, groupKeyId);
+        return index < 0 ? null : md5s[index];
+    }
+    
+    /**
+     * Iterate the snapshot of listened group key ids and md5.
+     *
+     * @param consumer consumer of group key id and md5
+     */
+    public void forEach(BiConsumer<Integer, String> consumer) {
+        int[] idsSnapshot;
+        String[] md5sSnapshot;
+        synchronized (this) {
+            idsSnapshot = Arrays.copyOf(groupKeyIds, size);
+            md5sSnapshot = Arrays.copyOf(md5s, size);
+        }
+        for (int i = 0; i < idsSnapshot.length; i++) {
+            consumer.accept(idsSnapshot[i], md5sSnapshot[i]);
+        }
+    }
+    
+    public synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry which interns the group keys listened by connections to compact int ids.
+ *
+ * <p>Each listened group key holds one canonical string, one id and the set of listening connections, connections
+ * refer to the group key by id, so the heap usage scales with unique group keys instead of subscriptions. The group key
+ * is released when no connection listens to it, and its id is recycled for new group keys, so the ids are bounded by
+ * the peak of unique group keys. A stale id kept by a connection may be resolved to another group key, use
+ * {@link #getGroupKey(int, String)} to resolve the ids of a connection.
+ *
+ * @author Nacos
+ */
+public class GroupKeyRegistry {
+    
+    private final AtomicInteger idGenerator = new AtomicInteger();
+    
+    private final ConcurrentMap<String, GroupKeyEntry> groupKeyEntries = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<Integer, GroupKeyEntry> idEntries = new ConcurrentHashMap<>();
+    
+    private final Queue<Integer> releasedIds = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Register the connection as listener of the group key.
+     *
+     * @param groupKey     group key
+     * @param connectionId connection id
+     * @return id of the group key
+     */
+    public int register(String groupKey, String connectionId) {
+        GroupKeyEntry result = groupKeyEntries.compute(groupKey, (key, entry) -> {
+            if (null == entry) {
+                Integer id = releasedIds.poll();
+                entry = new GroupKeyEntry(null == id ? idGenerator.incrementAndGet() : id, key);
+                idEntries.put(entry.id, entry);
+            }
+            entry.connectionIds.add(connectionId);
+            return entry;
+        });
+        return result.id;
+    }
+    
+    /**
+     * Unregister the connection from listeners of the group key, the group key is released if no more listener.
+     *
+     * @param groupKey     group key
+     * @param connectionId connection id
+     */
+    public void unregister(String groupKey, String connectionId) {
+        groupKeyEntries.computeIfPresent(groupKey, (key, entry) -> {
+            entry.connectionIds.remove(connectionId);
+            return release(entry);
+        });
+    }
+    
+    /**
+     * Unregister the connection from listeners of the group key id.
+     *
+     * @param id           id of group key
+     * @param connectionId connection id
+     */
+    public void unregister(int id, String connectionId) {
+        String groupKey = getGroupKey(id);
+        if (null != groupKey) {
+            unregister(groupKey, connectionId);
+        }
+    }
+    
+    /**
+     * Unregister the connections from listeners of the group key id in one pass.
+     *
+     * @param id            id of group key
+     * @param connectionIds connection ids
+     */
+    public void unregister(int id, Collection<String> connectionIds) {
+        String groupKey = getGroupKey(id);
+        if (null == groupKey) {
+            return;
+        }
+        groupKeyEntries.computeIfPresent(groupKey, (key, entry) -> {
+            // removeAll iterates the whole listener set when it is not larger than the argument.
+            for (String each : connectionIds) {
+                entry.connectionIds.remove(each);
+            }
+            return release(entry);
+        });
+    }
+    
+    private GroupKeyEntry release(GroupKeyEntry entry) {
+        if (!entry.connectionIds.isEmpty()) {
+            return entry;
+        }
+        // recycle the id after it is removed, so the new group key of the id is not removed.
+        idEntries.remove(entry.id);
+        releasedIds.offer(entry.id);
+        return null;
+    }
+    
+    /**
+     * Get id of the group key.
+     *
+     * @param groupKey group key
+     * @return id of group key, {@code null} if no connection listens to it
+     */
+    public Integer getId(String groupKey) {
+        GroupKeyEntry entry = groupKeyEntries.get(groupKey);
+        return null == entry ? null : entry.id;
+    }
+    
+    /**
+     * Get group key of the id.
+     *
+     * @param id id of group key
+     * @return group key, {@code null} if released
+     */
+    public String getGroupKey(int id) {
+        GroupKeyEntry entry = idEntries.get(id);
+        return null == entry ? null : entry.groupKey;
+    }
+    
+    /**
+     * Get group key of the id listened by the connection.
+     *
+     * @param id           id of group key
+     * @param connectionId connection id
+     * @return group key, {@code null} if released or the id is recycled for the group key not listened by the connection
+     */
+    public String getGroupKey(int id, String connectionId) {
+        GroupKeyEntry entry = idEntries.get(id);
+        return null == entry || !entry.connectionIds.contains(connectionId) ? null : entry.groupKey;
+    }
+    
+    /**
+     * Get the connections listening to the group key, the returned set is the live view and should not be modified.
+     *
+     * @param groupKey group key
+     * @return connection ids, {@code null} if no connection listens to it
+     */
+    public Set<String> getConnectionIds(String groupKey) {
+        GroupKeyEntry entry = groupKeyEntries.get(groupKey);
+        return null == entry ? null : entry.connectionIds;
+    }
+    
+    public int size() {
+        return groupKeyEntries.size();
+    }
+    
+    private static class GroupKeyEntry {
+        
+        private final int id;
+        
+        private final String groupKey;
+        
+        private final Set<String> connectionIds = ConcurrentHashMap.newKeySet();
+        
+        private GroupKeyEntry(int id, String groupKey) {
+            this.id = id;
+            this.groupKey = groupKey;
+        }
+    }
+}
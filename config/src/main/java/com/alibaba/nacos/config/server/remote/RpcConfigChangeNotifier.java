@@ -16,8 +16,11 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.remote.AbstractPushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
@@ -39,13 +42,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * ConfigChangeNotifier.
  *
+ * <p>For the clients with ability {@link AbilityKey#SDK_CLIENT_SUPPORT_BATCH_CONFIG_NOTIFY}, the first changed config
+ * is notified right away and opens a window of {@link ConfigCommonConfig#getBatchNotifyDelayMillis()} per connection,
+ * the configs changed in the window are notified by one {@link ConfigChangeBatchNotifyRequest} when it closes. So a
+ * lone change is never delayed, and only bursts are coalesced. Other clients are notified by one
+ * {@link ConfigChangeNotifyRequest} per changed config.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeNotifier.java, v 0.1 2020年07月20日 3:00 PM liuzunfei Exp $
  */
@@ -60,6 +72,11 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     
     TpsControlManager tpsControlManager = ControlManagerCenter.getInstance().getTpsControlManager();
     
+    /**
+     * connectionId -> changed group keys waiting to be notified in batch.
+     */
+    private final ConcurrentMap<String, BatchNotifyBuffer> batchNotifyBuffers = new ConcurrentHashMap<>();
+    
     public RpcConfigChangeNotifier() {
         NotifyCenter.registerSubscriber(this);
     }
@@ -112,6 +129,12 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
                 continue;
             }
             
+            if (isBatchNotifySupported(connection) && bufferBatchNotify(client, clientIp, metaInfo.getAppName(),
+                    groupKey)) {
+                notifyClientCount++;
+                continue;
+            }
+            
             ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
             
             RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest,
@@ -122,6 +145,56 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         Loggers.REMOTE_PUSH.info("push [{}] clients, groupKey=[{}]", notifyClientCount, groupKey);
     }
     
+    private boolean isBatchNotifySupported(Connection connection) {
+        if (ConfigCommonConfig.getInstance().getBatchNotifyDelayMillis() <= 0 || connection.getAbilityTable() == null) {
+            return false;
+        }
+        return Boolean.TRUE.equals(
+                connection.getAbilityTable().get(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_NOTIFY.getName()));
+    }
+    
+    /**
+     * Buffer the changed config if a batch window of the connection is open, otherwise open a new window.
+     *
+     * @return {@code true} if buffered, {@code false} if the change should be notified right away
+     */
+    private boolean bufferBatchNotify(String connectionId, String clientIp, String appName, String groupKey) {
+        boolean[] buffered = new boolean[1];
+        batchNotifyBuffers.compute(connectionId, (key, buffer) -> {
+            if (buffer == null) {
+                long delay = ConfigCommonConfig.getInstance().getBatchNotifyDelayMillis();
+                ConfigExecutor.getClientConfigNotifierServiceExecutor()
+                        .schedule(() -> flushBatchNotify(key), delay, TimeUnit.MILLISECONDS);
+                return new BatchNotifyBuffer(clientIp, appName);
+            }
+            buffer.groupKeys.add(groupKey);
+            buffered[0] = true;
+            return buffer;
+        });
+        return buffered[0];
+    }
+    
+    void flushBatchNotify(String connectionId) {
+        BatchNotifyBuffer buffer = batchNotifyBuffers.remove(connectionId);
+        if (buffer == null || buffer.groupKeys.isEmpty()) {
+            return;
+        }
+        ServerRequest notifyRequest;
+        if (buffer.groupKeys.size() == 1) {
+            String[] keys = GroupKey.parseKey(buffer.groupKeys.iterator().next());
+            notifyRequest = ConfigChangeNotifyRequest.build(keys[0], keys[1], keys.length > 2 ? keys[2] : "");
+        } else {
+            ConfigChangeBatchNotifyRequest batchNotifyRequest = new ConfigChangeBatchNotifyRequest();
+            for (String each : buffer.groupKeys) {
+                String[] keys = GroupKey.parseKey(each);
+                batchNotifyRequest.addChangedConfig(keys[0], keys[1], keys.length > 2 ? keys[2] : "");
+            }
+            notifyRequest = batchNotifyRequest;
+        }
+        push(new RpcPushTask(notifyRequest, ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), connectionId,
+                buffer.clientIp, buffer.appName));
+    }
+    
     @Override
     public void onEvent(LocalDataChangeEvent event) {
         String groupKey = event.groupKey;
@@ -142,9 +215,23 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         return LocalDataChangeEvent.class;
     }
     
+    private static class BatchNotifyBuffer {
+        
+        private final String clientIp;
+        
+        private final String appName;
+        
+        private final Set<String> groupKeys = new LinkedHashSet<>();
+        
+        private BatchNotifyBuffer(String clientIp, String appName) {
+            this.clientIp = clientIp;
+            this.appName = appName;
+        }
+    }
+    
     class RpcPushTask implements Runnable {
         
-        ConfigChangeNotifyRequest notifyRequest;
+        ServerRequest notifyRequest;
         
         int maxRetryTimes = -1;
         
@@ -156,7 +243,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         
         String appName;
         
-        public RpcPushTask(ConfigChangeNotifyRequest notifyRequest, int maxRetryTimes, String connectionId,
+        public RpcPushTask(ServerRequest notifyRequest, int maxRetryTimes, String connectionId,
                 String clientIp, String appName) {
             this.notifyRequest = notifyRequest;
             this.maxRetryTimes = maxRetryTimes;
@@ -169,6 +256,15 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return maxRetryTimes > 0 && this.tryTimes >= maxRetryTimes;
         }
         
+        String describeConfigs() {
+            if (notifyRequest instanceof ConfigChangeNotifyRequest) {
+                ConfigChangeNotifyRequest request = (ConfigChangeNotifyRequest) notifyRequest;
+                return "dataId=" + request.getDataId() + ", group=" + request.getGroup() + ", tenant=" + request
+                        .getTenant();
+            }
+            return ((ConfigChangeBatchNotifyRequest) notifyRequest).getChangedConfigs().size() + " configs";
+        }
+        
         @Override
         public void run() {
             tryTimes++;
@@ -194,8 +290,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
                         tpsCheckRequest.setPointName(POINT_CONFIG_PUSH_FAIL);
                         tpsControlManager.check(tpsCheckRequest);
                         Loggers.REMOTE_PUSH
-                                .warn("Push fail, dataId={}, group={}, tenant={}, clientId={}", notifyRequest.getDataId(), 
-                                        notifyRequest.getGroup(), notifyRequest.getTenant(), connectionId, e);
+                                .warn("Push fail, {}, clientId={}", describeConfigs(), connectionId, e);
                         push(RpcPushTask.this);
                     }
                     
@@ -207,12 +302,10 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     }
     
     private void push(RpcPushTask retryTask) {
-        ConfigChangeNotifyRequest notifyRequest = retryTask.notifyRequest;
         if (retryTask.isOverTimes()) {
             Loggers.REMOTE_PUSH
-                    .warn("push callback retry fail over times. dataId={},group={},tenant={},clientId={}, will unregister client.",
-                            notifyRequest.getDataId(), notifyRequest.getGroup(), notifyRequest.getTenant(),
-                            retryTask.connectionId);
+                    .warn("push callback retry fail over times. {}, clientId={}, will unregister client.",
+                            retryTask.describeConfigs(), retryTask.connectionId);
             connectionManager.unregister(retryTask.connectionId);
         } else if (connectionManager.getConnection(retryTask.connectionId) != null) {
             // first time:delay 0s; second time:delay 2s; third time:delay 4s
@@ -35,6 +35,7 @@ import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import com.google.common.collect.Lists;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
@@ -127,6 +128,8 @@ public class ConfigCacheService {
                     DUMP_LOG.info("[dump] md5 changed, save to disk cache ,groupKey={}, newMd5={},oldMd5={}", groupKey,
                             md5, localContentMd5);
                     ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
+                    ConfigContentCache.getInstance().invalidate(groupKey, localContentMd5);
+                    ConfigContentCache.getInstance().put(groupKey, md5, content.getBytes(StandardCharsets.UTF_8));
                 } else {
                     //ignore to save disk cache in direct model
                 }
@@ -380,6 +383,8 @@ public class ConfigCacheService {
                 if (!PropertyUtil.isDirectRead()) {
                     DUMP_LOG.info("[dump-change] md5 changed, save to disk cache ,groupKey={}, md5={}", groupKey, md5);
                     ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
+                    ConfigContentCache.getInstance().invalidate(groupKey, localContentMd5);
+                    ConfigContentCache.getInstance().put(groupKey, md5, content.getBytes(StandardCharsets.UTF_8));
                 } else {
                     //ignore to save disk cache in direct model
                 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+
+import java.util.Objects;
+
+/**
+ * In-memory cache of UTF-8 encoded config contents, keyed by the group key and the UTF-8 md5 of content.
+ *
+ * <p>A cached content never becomes stale: a changed config has a new md5. Each config has its own entries, so
+ * invalidating the old content of one config never evicts the same content of other configs. The cache is bounded by
+ * the total bytes of the contents, and least recently used contents are evicted first. It is disabled when
+ * {@link PropertyUtil#getContentCacheMaxSize()} is not positive.
+ *
+ * @author Nacos
+ */
+public class ConfigContentCache {
+    
+    private static volatile ConfigContentCache instance;
+    
+    private final Cache<ContentKey, byte[]> contents;
+    
+    ConfigContentCache(long maxSize) {
+        if (maxSize <= 0) {
+            contents = null;
+            return;
+        }
+        // single segment, otherwise the max size is split by segments and large contents can't be cached at all,
+        // reads of guava cache are still lock-free.
+        contents = CacheBuilder.newBuilder().concurrencyLevel(1).maximumWeight(maxSize)
+                .weigher((ContentKey key, byte[] content) -> key.weight() + content.length)
+                .removalListener(notification -> {
+                    if (RemovalCause.SIZE == notification.getCause()) {
+                        MetricsMonitor.getContentCacheEviction().increment();
+                    }
+                }).build();
+    }
+    
+    /**
+     * Get the singleton cache, which is created by the settings of {@link PropertyUtil} for the first time.
+     *
+     * @return content cache
+     */
+    public static ConfigContentCache getInstance() {
+        if (instance == null) {
+            synchronized (ConfigContentCache.class) {
+                if (instance == null) {
+                    instance = new ConfigContentCache(PropertyUtil.getContentCacheMaxSize());
+                }
+            }
+        }
+        return instance;
+    }
+    
+    public boolean isEnabled() {
+        return contents != null;
+    }
+    
+    /**
+     * Get cached content of the config.
+     *
+     * @param groupKey group key of config
+     * @param md5      UTF-8 md5 of content
+     * @return UTF-8 encoded content, {@code null} if not cached or cache disabled
+     */
+    public byte[] get(String groupKey, String md5) {
+        if (!isEnabled() || StringUtils.isBlank(groupKey) || StringUtils.isBlank(md5)) {
+            return null;
+        }
+        byte[] result = contents.getIfPresent(new ContentKey(groupKey, md5));
+        if (result == null) {
+            MetricsMonitor.getContentCacheMiss().increment();
+        } else {
+            MetricsMonitor.getContentCacheHit().increment();
+        }
+        return result;
+    }
+    
+    /**
+     * Cache content of the config, the caller should make sure the md5 is the UTF-8 md5 of the content.
+     *
+     * @param groupKey group key of config
+     * @param md5      UTF-8 md5 of content
+     * @param content  UTF-8 encoded content
+     */
+    public void put(String groupKey, String md5, byte[] content) {
+        if (!isEnabled() || StringUtils.isBlank(groupKey) || StringUtils.isBlank(md5) || content == null) {
+            return;
+        }
+        contents.put(new ContentKey(groupKey, md5), content);
+    }
+    
+    /**
+     * Invalidate cached content of the config, the same content of other configs is kept.
+     *
+     * @param groupKey group key of config
+     * @param md5      UTF-8 md5 of content
+     */
+    public void invalidate(String groupKey, String md5) {
+        if (!isEnabled() || StringUtils.isBlank(groupKey) || StringUtils.isBlank(md5)) {
+            return;
+        }
+        contents.invalidate(new ContentKey(groupKey, md5));
+    }
+    
+    public long size() {
+        return isEnabled() ? contents.size() : 0L;
+    }
+    
+    private static class ContentKey {
+        
+        private final String groupKey;
+        
+        private final String md5;
+        
+        private ContentKey(String groupKey, String md5) {
+            this.groupKey = groupKey;
+            this.md5 = md5;
+        }
+        
+        private int weight() {
+            return groupKey.length() + md5.length();
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ContentKey that = (ContentKey) o;
+            return groupKey.equals(that.groupKey) && md5.equals(that.md5);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupKey, md5);
+        }
+    }
+}
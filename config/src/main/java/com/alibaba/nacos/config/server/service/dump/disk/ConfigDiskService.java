@@ -118,6 +118,17 @@ public interface ConfigDiskService {
      */
     String getContent(String dataId, String group, String tenant) throws IOException;
     
+    /**
+     * Returns the UTF-8 encoded content of the cache file in server, which avoids decoding for the read path.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     * @return content bytes, null if not exist.
+     * @throws IOException io exception.
+     */
+    byte[] getContentBytes(String dataId, String group, String tenant) throws IOException;
+    
     /**
      * Returns the beta content of cache file in server.
      *
@@ -129,6 +140,17 @@ public interface ConfigDiskService {
      */
     String getBetaContent(String dataId, String group, String tenant) throws IOException;
     
+    /**
+     * Returns the UTF-8 encoded beta content of cache file in server.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     * @return content bytes, null if not exist.
+     * @throws IOException io exception.
+     */
+    byte[] getBetaContentBytes(String dataId, String group, String tenant) throws IOException;
+    
     /**
      * get batch content.
      *
@@ -153,6 +175,18 @@ public interface ConfigDiskService {
      */
     String getTagContent(String dataId, String group, String tenant, String tag) throws IOException;
     
+    /**
+     * Returns the UTF-8 encoded tag content of cache file in server.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     * @param tag    tag.
+     * @return content bytes, null if not exist.
+     * @throws IOException io exception.
+     */
+    byte[] getTagContentBytes(String dataId, String group, String tenant, String tag) throws IOException;
+    
     /**
      * get the md5 of config with encode.
      *
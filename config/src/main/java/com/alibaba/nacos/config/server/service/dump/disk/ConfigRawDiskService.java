@@ -184,6 +184,17 @@ public class ConfigRawDiskService implements ConfigDiskService {
         return FileUtils.readFileToString(file, ENCODE_UTF8);
     }
     
+    private static byte[] file2Bytes(File file) throws IOException {
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            return FileUtils.readFileToByteArray(file);
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+    
     /**
      * Returns the path of cache file in server.
      */
@@ -200,6 +211,18 @@ public class ConfigRawDiskService implements ConfigDiskService {
         return file2String(file);
     }
     
+    public byte[] getBetaContentBytes(String dataId, String group, String tenant) throws IOException {
+        return file2Bytes(targetBetaFile(dataId, group, tenant));
+    }
+    
+    public byte[] getTagContentBytes(String dataId, String group, String tenant, String tag) throws IOException {
+        return file2Bytes(targetTagFile(dataId, group, tenant, tag));
+    }
+    
+    public byte[] getContentBytes(String dataId, String group, String tenant) throws IOException {
+        return file2Bytes(targetFile(dataId, group, tenant));
+    }
+    
     public String getContent(String dataId, String group, String tenant) throws IOException {
         File file = targetFile(dataId, group, tenant);
         if (file.exists()) {
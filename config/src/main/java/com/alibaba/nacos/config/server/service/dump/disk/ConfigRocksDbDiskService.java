@@ -226,22 +226,18 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     }
     
     private String getContentInner(String type, String dataId, String group, String tenant) throws IOException {
-        byte[] bytes = null;
-        try {
-            bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, null));
-            String string = byte2String(bytes);
-            return string;
-        } catch (RocksDBException e) {
-            throw new IOException(e);
-        }
+        return byte2String(getContentBytesInner(type, dataId, group, tenant, null));
     }
     
     private String getTagContentInner(String type, String dataId, String group, String tenant, String tag)
             throws IOException {
-        byte[] bytes = null;
+        return byte2String(getContentBytesInner(type, dataId, group, tenant, tag));
+    }
+    
+    private byte[] getContentBytesInner(String type, String dataId, String group, String tenant, String tag)
+            throws IOException {
         try {
-            bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, tag));
-            return byte2String(bytes);
+            return initAndGetDB(type).get(getKeyByte(dataId, group, tenant, tag));
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -274,6 +270,18 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         return getContentInner(BASE_DIR, dataId, group, tenant);
     }
     
+    public byte[] getContentBytes(String dataId, String group, String tenant) throws IOException {
+        return getContentBytesInner(BASE_DIR, dataId, group, tenant, null);
+    }
+    
+    public byte[] getBetaContentBytes(String dataId, String group, String tenant) throws IOException {
+        return getContentBytesInner(BETA_DIR, dataId, group, tenant, null);
+    }
+    
+    public byte[] getTagContentBytes(String dataId, String group, String tenant, String tag) throws IOException {
+        return getContentBytesInner(TAG_DIR, dataId, group, tenant, tag);
+    }
+    
     public String getLocalConfigMd5(String dataId, String group, String tenant, String encode) throws IOException {
         return MD5Utils.md5Hex(getContentInner(BASE_DIR, dataId, group, tenant), encode);
     }
@@ -22,6 +22,7 @@ import com.alibaba.nacos.common.utils.ThreadUtils;
 import com.alibaba.nacos.config.server.Config;
 import com.alibaba.nacos.core.utils.ClassUtils;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -45,6 +46,14 @@ public final class ConfigExecutor {
     private static final ScheduledExecutorService ASYNC_NOTIFY_EXECUTOR = ExecutorFactory.Managed
             .newScheduledExecutorService(ClassUtils.getCanonicalName(Config.class), 100,
                     new NameThreadFactory("com.alibaba.nacos.config.AsyncNotifyService"));
+    
+    /**
+     * Executor of the blocking cluster notify tasks, the same as {@link #ASYNC_NOTIFY_EXECUTOR} unless virtual thread
+     * is enabled, then the scheduled notify tasks are only delayed by {@link #ASYNC_NOTIFY_EXECUTOR}.
+     */
+    private static final ExecutorService ASYNC_NOTIFY_BLOCKING_EXECUTOR = ExecutorFactory.isVirtualThreadEnabled()
+            ? ExecutorFactory.Managed.newBlockingExecutorService(ClassUtils.getCanonicalName(Config.class),
+            "com.alibaba.nacos.config.AsyncNotifyService.virtual", 100) : ASYNC_NOTIFY_EXECUTOR;
 
     private static final ScheduledExecutorService ASYNC_CONFIG_CHANGE_PLUGIN_EXECUTOR = ExecutorFactory.Managed
             .newScheduledExecutorService(ClassUtils.getCanonicalName(Config.class),
@@ -65,6 +74,14 @@ public final class ConfigExecutor {
                     ThreadUtils.getSuitableThreadCount(),
                     new NameThreadFactory("com.alibaba.nacos.config.server.remote.ConfigChangeNotifier"));
     
+    /**
+     * Executor of clearing listen context of disconnected connections, not shared with the dump tasks of
+     * {@link #TIMER_EXECUTOR}, so that a burst of disconnections and the dump tasks don't delay each other.
+     */
+    private static final ScheduledExecutorService CLEAR_LISTEN_CONTEXT_EXECUTOR = ExecutorFactory.Managed
+            .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(Config.class),
+                    new NameThreadFactory("com.alibaba.nacos.config.server.remote.ClearListenContext"));
+    
     public static void scheduleConfigTask(Runnable command, long initialDelay, long delay, TimeUnit unit) {
         TIMER_EXECUTOR.scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
@@ -73,16 +90,31 @@ public final class ConfigExecutor {
         TIMER_EXECUTOR.schedule(command, delay, unit);
     }
     
+    public static void scheduleClearListenContext(Runnable command, long delay, TimeUnit unit) {
+        CLEAR_LISTEN_CONTEXT_EXECUTOR.schedule(command, delay, unit);
+    }
+    
     public static void scheduleCorrectUsageTask(Runnable runnable, long initialDelay, long delay, TimeUnit unit) {
         CAPACITY_MANAGEMENT_EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
     }
     
     public static void executeAsyncNotify(Runnable runnable) {
-        ASYNC_NOTIFY_EXECUTOR.execute(runnable);
+        ASYNC_NOTIFY_BLOCKING_EXECUTOR.execute(runnable);
     }
     
+    /**
+     * Schedule async notify task, which is executed by the blocking notify executor after delay.
+     *
+     * @param command notify task
+     * @param delay   delay time
+     * @param unit    time unit of delay
+     */
     public static void scheduleAsyncNotify(Runnable command, long delay, TimeUnit unit) {
-        ASYNC_NOTIFY_EXECUTOR.schedule(command, delay, unit);
+        if (ASYNC_NOTIFY_BLOCKING_EXECUTOR == ASYNC_NOTIFY_EXECUTOR) {
+            ASYNC_NOTIFY_EXECUTOR.schedule(command, delay, unit);
+            return;
+        }
+        ASYNC_NOTIFY_EXECUTOR.schedule(() -> ASYNC_NOTIFY_BLOCKING_EXECUTOR.execute(command), delay, unit);
     }
 
     public static void executeAsyncConfigChangePluginTask(Runnable runnable) {
@@ -100,6 +100,11 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * Max size in bytes of config contents cached in memory, default 0 means disabled.
+     */
+    private static long contentCacheMaxSize = 0L;
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -116,6 +121,14 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.dumpChangeWorkerInterval = dumpChangeWorkerInterval;
     }
     
+    public static long getContentCacheMaxSize() {
+        return contentCacheMaxSize;
+    }
+    
+    public static void setContentCacheMaxSize(long contentCacheMaxSize) {
+        PropertyUtil.contentCacheMaxSize = contentCacheMaxSize;
+    }
+    
     public static int getNotifyConnectTimeout() {
         return notifyConnectTimeout;
     }
@@ -280,6 +293,7 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeOn(getBoolean(PropertiesConstant.DUMP_CHANGE_ON, dumpChangeOn));
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
+            setContentCacheMaxSize(getLong(PropertiesConstant.CONTENT_CACHE_MAX_SIZE, contentCacheMaxSize));
         } catch (Exception e) {
             LOGGER.error("read application.properties failed", e);
             throw e;
@@ -58,11 +58,19 @@ public class ConfigCommonConfigTest {
         commonConfig.setMaxPushRetryTimes(maxPushRetryTimesOld);
     }
     
+    @Test
+    public void getBatchNotifyDelayMillis() {
+        assertEquals(50L, commonConfig.getBatchNotifyDelayMillis());
+    }
+    
     @Test
     public void testUpgradeFromEvent() {
         environment.setProperty("nacos.config.push.maxRetryTime", "100");
+        environment.setProperty("nacos.config.push.batchNotifyDelayMillis", "0");
         commonConfig.onEvent(ServerConfigChangeEvent.newEvent());
         assertEquals(100, commonConfig.getMaxPushRetryTimes());
+        assertEquals(0L, commonConfig.getBatchNotifyDelayMillis());
+        commonConfig.setBatchNotifyDelayMillis(50L);
     }
     
     @Test
@@ -22,8 +22,13 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ConfigChangeListenContextTest {
@@ -67,6 +72,21 @@ public class ConfigChangeListenContextTest {
         Assert.assertNull(connectionIdAfter);
     }
 
+    @Test
+    public void testClearContextForConnectionIds() {
+        configChangeListenContext.addListen("groupKey1", "md5", "connectionId1");
+        configChangeListenContext.addListen("groupKey1", "md5", "connectionId2");
+        configChangeListenContext.addListen("groupKey2", "md5", "connectionId2");
+        configChangeListenContext.addListen("groupKey2", "md5", "connectionId3");
+        configChangeListenContext.clearContextForConnectionIds(Arrays.asList("connectionId1", "connectionId2", "none"));
+        Assert.assertNull(configChangeListenContext.getListeners("groupKey1"));
+        Set<String> listeners = configChangeListenContext.getListeners("groupKey2");
+        Assert.assertEquals(1, listeners.size());
+        Assert.assertTrue(listeners.contains("connectionId3"));
+        Assert.assertEquals(1, configChangeListenContext.getConnectionCount());
+        Assert.assertEquals(1, configChangeListenContext.getGroupKeyCount());
+    }
+
     @Test
     public void testGetListenKeys() {
         configChangeListenContext.addListen("groupKey", "md5", "connectionId");
@@ -81,4 +101,46 @@ public class ConfigChangeListenContextTest {
         Assert.assertEquals("md5", listenKeyMd5);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testConcurrentListenAndClear() throws InterruptedException {
+        int threadCount = 8;
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            String connectionId = "connectionId" + i;
+            executorService.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    configChangeListenContext.addListen("groupKey" + (j % 10), "md5", connectionId);
+                    configChangeListenContext.getListeners("groupKey" + (j % 10));
+                }
+                configChangeListenContext.clearContextForConnectionId(connectionId);
+                latch.countDown();
+            });
+        }
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertNull(configChangeListenContext.getListeners("groupKey" + i));
+        }
+        Assert.assertEquals(0, configChangeListenContext.getConnectionCount());
+        Assert.assertEquals(0, configChangeListenContext.getGroupKeyCount());
+    }
+
+    @Test
+    public void testGroupKeyInternedByConnections() {
+        configChangeListenContext.addListen("groupKey1", "md5", "connectionId1");
+        configChangeListenContext.addListen("groupKey1", "md5", "connectionId2");
+        configChangeListenContext.addListen("groupKey2", "md52", "connectionId2");
+        Assert.assertEquals(2, configChangeListenContext.getGroupKeyCount());
+        Map<String, String> listenKeys = configChangeListenContext.getListenKeys("connectionId2");
+        Assert.assertEquals(2, listenKeys.size());
+        Assert.assertEquals("md52", listenKeys.get("groupKey2"));
+        configChangeListenContext.removeListen("groupKey1", "connectionId1");
+        Assert.assertEquals(2, configChangeListenContext.getGroupKeyCount());
+        Assert.assertNull(configChangeListenContext.getListenKeyMd5("connectionId1", "groupKey1"));
+        Assert.assertEquals("md5", configChangeListenContext.getListenKeyMd5("connectionId2", "groupKey1"));
+        configChangeListenContext.clearContextForConnectionId("connectionId2");
+        Assert.assertEquals(0, configChangeListenContext.getGroupKeyCount());
+    }
+
+}
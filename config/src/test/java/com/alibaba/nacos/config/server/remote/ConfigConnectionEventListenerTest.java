@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionMeta;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.HashMap;
+
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigConnectionEventListenerTest {
+
+    private ConfigChangeListenContext configChangeListenContext;
+
+    private ConfigConnectionEventListener configConnectionEventListener;
+
+    @Mock
+    private Connection connection1;
+
+    @Mock
+    private Connection connection2;
+
+    @Before
+    public void setUp() {
+        configChangeListenContext = new ConfigChangeListenContext();
+        configConnectionEventListener = new ConfigConnectionEventListener(configChangeListenContext);
+        ConnectionMeta meta1 = new ConnectionMeta("connectionId1", "127.0.0.1", "127.0.0.1", 8888, 9848, "GRPC", "",
+                "", new HashMap<>());
+        ConnectionMeta meta2 = new ConnectionMeta("connectionId2", "127.0.0.1", "127.0.0.1", 8889, 9848, "GRPC", "",
+                "", new HashMap<>());
+        when(connection1.getMetaInfo()).thenReturn(meta1);
+        when(connection2.getMetaInfo()).thenReturn(meta2);
+    }
+
+    @Test
+    public void testClientDisConnectedClearInBatch() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId1");
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId2");
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId3");
+        configConnectionEventListener.clientDisConnected(connection1);
+        configConnectionEventListener.clientDisConnected(connection2);
+        configConnectionEventListener.clearDisconnectedContext();
+        Assert.assertEquals(1, configChangeListenContext.getConnectionCount());
+        Assert.assertEquals(1, configChangeListenContext.getListeners("groupKey").size());
+        Assert.assertNull(configChangeListenContext.getListenKeys("connectionId1"));
+    }
+}
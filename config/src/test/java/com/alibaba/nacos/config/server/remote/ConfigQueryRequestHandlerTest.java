@@ -26,6 +26,7 @@ import com.alibaba.nacos.config.server.model.ConfigInfoBetaWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoTagWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigRocksDbDiskService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoBetaPersistService;
@@ -44,12 +45,16 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import static com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -163,7 +168,8 @@ public class ConfigQueryRequestHandlerTest {
         RequestMeta requestMeta = new RequestMeta();
         requestMeta.setClientIp("127.0.0.1");
         
-        when(configRocksDbDiskService.getContent(eq(dataId), eq(group), eq(null))).thenReturn(content);
+        when(configRocksDbDiskService.getContentBytes(eq(dataId), eq(group), eq(null)))
+                .thenReturn(content.getBytes(StandardCharsets.UTF_8));
         ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
         Assert.assertEquals(content, response.getContent());
         Assert.assertEquals(MD5Utils.md5Hex(content, "UTF-8"), response.getMd5());
@@ -176,6 +182,52 @@ public class ConfigQueryRequestHandlerTest {
     }
     
     
+    /**
+     * get normal config from content cache, which is keyed by group key and UTF-8 md5.
+     *
+     * @throws Exception Exception.
+     */
+    @Test
+    public void testGetNormalFromContentCache() throws Exception {
+        propertyUtilMockedStatic.when(PropertyUtil::getContentCacheMaxSize).thenReturn(1024 * 1024L);
+        ReflectionTestUtils.setField(ConfigContentCache.class, "instance", null);
+        ConfigContentCache contentCache = ConfigContentCache.getInstance();
+        try {
+            final String groupKey = GroupKey2.getKey(dataId, group, "");
+            final String otherGroupKey = GroupKey2.getKey(dataId + "_other", group, "");
+            String content = "content_from_content_cache中文" + System.currentTimeMillis();
+            byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+            String md5Utf8 = MD5Utils.md5Hex(content, "UTF-8");
+            String md5Gbk = MD5Utils.md5Hex(content, "GBK");
+            ConfigRocksDbDiskService configRocksDbDiskService = Mockito.mock(ConfigRocksDbDiskService.class);
+            when(ConfigDiskServiceFactory.getInstance()).thenReturn(configRocksDbDiskService);
+            when(PropertyUtil.isDirectRead()).thenReturn(false);
+            
+            CacheItem cacheItem = new CacheItem(groupKey);
+            cacheItem.getConfigCache().setMd5Gbk(md5Gbk);
+            cacheItem.getConfigCache().setMd5Utf8(md5Utf8);
+            when(ConfigCacheService.getContentCache(eq(groupKey))).thenReturn(cacheItem);
+            when(configRocksDbDiskService.getContentBytes(eq(dataId), eq(group), eq(null))).thenReturn(contentBytes);
+            // other config with same content is cached and then changed, which must not evict this config.
+            contentCache.put(otherGroupKey, md5Utf8, contentBytes);
+            
+            ConfigQueryRequest configQueryRequest = new ConfigQueryRequest();
+            configQueryRequest.setDataId(dataId);
+            configQueryRequest.setGroup(group);
+            RequestMeta requestMeta = new RequestMeta();
+            requestMeta.setClientIp("127.0.0.1");
+            Assert.assertEquals(content, configQueryRequestHandler.handle(configQueryRequest, requestMeta).getContent());
+            contentCache.invalidate(otherGroupKey, md5Utf8);
+            Assert.assertEquals(content, configQueryRequestHandler.handle(configQueryRequest, requestMeta).getContent());
+            
+            verify(configRocksDbDiskService, times(1)).getContentBytes(eq(dataId), eq(group), eq(null));
+            Assert.assertArrayEquals(contentBytes, contentCache.get(groupKey, md5Utf8));
+            Assert.assertNull(contentCache.get(groupKey, md5Gbk));
+        } finally {
+            ReflectionTestUtils.setField(ConfigContentCache.class, "instance", null);
+        }
+    }
+    
     /**
      * get beta config from local disk.
      *
@@ -206,7 +258,8 @@ public class ConfigQueryRequestHandlerTest {
         RequestMeta requestMeta = new RequestMeta();
         requestMeta.setClientIp("127.0.0.1");
         
-        when(configRocksDbDiskService.getBetaContent(eq(dataId), eq(group), eq(null))).thenReturn(content);
+        when(configRocksDbDiskService.getBetaContentBytes(eq(dataId), eq(group), eq(null)))
+                .thenReturn(content.getBytes(StandardCharsets.UTF_8));
         ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
         //check content&md5
         Assert.assertEquals(content, response.getContent());
@@ -418,8 +471,8 @@ public class ConfigQueryRequestHandlerTest {
         requestMeta.setClientIp("127.0.0.1");
         
         //mock disk read.
-        when(configRocksDbDiskService.getTagContent(eq(dataId), eq(group), eq(null), eq(specificTag))).thenReturn(
-                tagContent);
+        when(configRocksDbDiskService.getTagContentBytes(eq(dataId), eq(group), eq(null), eq(specificTag)))
+                .thenReturn(tagContent.getBytes(StandardCharsets.UTF_8));
         ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
         
         //check content&md5
@@ -469,8 +522,8 @@ public class ConfigQueryRequestHandlerTest {
         requestMeta.setClientIp("127.0.0.1");
         
         //mock disk read.
-        when(configRocksDbDiskService.getTagContent(eq(dataId), eq(group), eq(null), eq(autoTag))).thenReturn(
-                tagContent);
+        when(configRocksDbDiskService.getTagContentBytes(eq(dataId), eq(group), eq(null), eq(autoTag)))
+                .thenReturn(tagContent.getBytes(StandardCharsets.UTF_8));
         ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
         
         //check content&md5
@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ConnectionListenKeysTest {
+
+    @Test
+    public void testPutAndGet() {
+        ConnectionListenKeys listenKeys = new ConnectionListenKeys();
+        for (int i = 100; i > 0; i--) {
+            listenKeys.put(i, "md5" + i);
+        }
+        listenKeys.put(50, "newMd5");
+        Assert.assertEquals(100, listenKeys.size());
+        Assert.assertEquals("md51", listenKeys.getMd5(1));
+        Assert.assertEquals("newMd5", listenKeys.getMd5(50));
+        Assert.assertNull(listenKeys.getMd5(101));
+    }
+
+    @Test
+    public void testRemove() {
+        ConnectionListenKeys listenKeys = new ConnectionListenKeys();
+        listenKeys.put(1, "md51");
+        listenKeys.put(2, "md52");
+        listenKeys.put(3, "md53");
+        listenKeys.remove(2);
+        listenKeys.remove(4);
+        Assert.assertEquals(2, listenKeys.size());
+        Assert.assertNull(listenKeys.getMd5(2));
+        Assert.assertEquals("md53", listenKeys.getMd5(3));
+    }
+
+    @Test
+    public void testForEachInOrder() {
+        ConnectionListenKeys listenKeys = new ConnectionListenKeys();
+        listenKeys.put(3, "md53");
+        listenKeys.put(1, "md51");
+        listenKeys.put(2, "md52");
+        List<Integer> ids = new ArrayList<>();
+        List<String> md5s = new ArrayList<>();
+        listenKeys.forEach((id, md5) -> {
+            ids.add(id);
+            md5s.add(md5);
+        });
+        Assert.assertEquals(3, ids.size());
+        Assert.assertEquals(Integer.valueOf(1), ids.get(0));
+        Assert.assertEquals("md53", md5s.get(2));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GroupKeyRegistryTest {
+
+    private GroupKeyRegistry groupKeyRegistry;
+
+    @Before
+    public void setUp() {
+        groupKeyRegistry = new GroupKeyRegistry();
+    }
+
+    @Test
+    public void testRegisterSameGroupKey() {
+        int id = groupKeyRegistry.register("groupKey", "connectionId1");
+        Assert.assertEquals(id, groupKeyRegistry.register("groupKey", "connectionId2"));
+        Assert.assertEquals("groupKey", groupKeyRegistry.getGroupKey(id));
+        Assert.assertEquals(2, groupKeyRegistry.getConnectionIds("groupKey").size());
+        Assert.assertEquals(1, groupKeyRegistry.size());
+    }
+
+    @Test
+    public void testUnregisterReleaseGroupKey() {
+        int id = groupKeyRegistry.register("groupKey", "connectionId1");
+        groupKeyRegistry.register("groupKey", "connectionId2");
+        groupKeyRegistry.unregister("groupKey", "connectionId1");
+        Assert.assertEquals(Integer.valueOf(id), groupKeyRegistry.getId("groupKey"));
+        groupKeyRegistry.unregister(id, "connectionId2");
+        Assert.assertNull(groupKeyRegistry.getId("groupKey"));
+        Assert.assertNull(groupKeyRegistry.getGroupKey(id));
+        Assert.assertNull(groupKeyRegistry.getConnectionIds("groupKey"));
+        Assert.assertEquals(0, groupKeyRegistry.size());
+    }
+
+    @Test
+    public void testIdRecycled() {
+        int id = groupKeyRegistry.register("groupKey1", "connectionId1");
+        groupKeyRegistry.unregister("groupKey1", "connectionId1");
+        Assert.assertNull(groupKeyRegistry.getGroupKey(id));
+        Assert.assertEquals(id, groupKeyRegistry.register("groupKey2", "connectionId2"));
+        Assert.assertEquals("groupKey2", groupKeyRegistry.getGroupKey(id));
+        Assert.assertNotEquals(id, groupKeyRegistry.register("groupKey1", "connectionId1"));
+    }
+
+    @Test
+    public void testGetGroupKeyOfConnection() {
+        int id = groupKeyRegistry.register("groupKey1", "connectionId1");
+        groupKeyRegistry.unregister("groupKey1", "connectionId1");
+        groupKeyRegistry.register("groupKey2", "connectionId2");
+        // the stale id kept by connectionId1 is not resolved to the group key it doesn't listen.
+        Assert.assertNull(groupKeyRegistry.getGroupKey(id, "connectionId1"));
+        Assert.assertEquals("groupKey2", groupKeyRegistry.getGroupKey(id, "connectionId2"));
+    }
+}
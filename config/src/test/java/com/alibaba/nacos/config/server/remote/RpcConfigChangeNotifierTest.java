@@ -16,12 +16,20 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.plugin.control.ControlManagerCenter;
 import com.alibaba.nacos.plugin.control.tps.TpsControlManager;
+import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -29,10 +37,22 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
 public class RpcConfigChangeNotifierTest {
@@ -54,6 +74,9 @@ public class RpcConfigChangeNotifierTest {
     @Mock
     TpsControlManager tpsControlManager;
     
+    @Mock
+    Connection connection;
+    
     MockedStatic<ControlManagerCenter> controlManagerCenterMockedStatic;
     
     @Before
@@ -69,6 +92,11 @@ public class RpcConfigChangeNotifierTest {
         
     }
     
+    @After
+    public void tearDown() {
+        controlManagerCenterMockedStatic.close();
+    }
+    
     @Test
     public void testOnEvent() {
         final String groupKey = GroupKey2.getKey("nacos.internal.tps.control_rule_1", "nacos", "tenant");
@@ -81,4 +109,57 @@ public class RpcConfigChangeNotifierTest {
         rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey, true, betaIps));
         rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(limitGroupKey));
     }
+    
+    @Test
+    public void testBatchNotify() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        final String groupKey1 = GroupKey2.getKey("dataId1", "group", "tenant");
+        final String groupKey2 = GroupKey2.getKey("dataId2", "group", "tenant");
+        final String connectionId = "connectionId";
+        Mockito.when(configChangeListenContext.getListeners(groupKey1)).thenReturn(Collections.singleton(connectionId));
+        Mockito.when(configChangeListenContext.getListeners(groupKey2)).thenReturn(Collections.singleton(connectionId));
+        Map<String, Boolean> abilityTable = new HashMap<>();
+        abilityTable.put(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_NOTIFY.getName(), true);
+        Mockito.when(connection.getAbilityTable()).thenReturn(abilityTable);
+        Mockito.when(connection.getMetaInfo()).thenReturn(
+                new ConnectionMeta(connectionId, "127.0.0.1", "127.0.0.1", 8888, 9848, "GRPC", "", "",
+                        new HashMap<>()));
+        Mockito.when(connectionManager.getConnection(connectionId)).thenReturn(connection);
+        Mockito.when(tpsControlManager.check(any())).thenReturn(new TpsCheckResponse(true, 200, "success"));
+        
+        rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey1));
+        rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey2));
+        rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey1));
+        
+        // the first change is notified right away, the following changes in the window are coalesced.
+        verify(rpcPushService, timeout(3000L)).pushWithCallback(eq(connectionId),
+                argThat(request -> request instanceof ConfigChangeBatchNotifyRequest
+                        && ((ConfigChangeBatchNotifyRequest) request).getChangedConfigs().size() == 2), any(), any());
+        verify(rpcPushService, times(1))
+                .pushWithCallback(eq(connectionId), any(ConfigChangeNotifyRequest.class), any(), any());
+    }
+    
+    @Test
+    public void testLoneChangeNotifiedRightAway() throws InterruptedException {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        final String groupKey = GroupKey2.getKey("dataId1", "group", "tenant");
+        final String connectionId = "connectionId";
+        Mockito.when(configChangeListenContext.getListeners(groupKey)).thenReturn(Collections.singleton(connectionId));
+        Map<String, Boolean> abilityTable = new HashMap<>();
+        abilityTable.put(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_NOTIFY.getName(), true);
+        Mockito.when(connection.getAbilityTable()).thenReturn(abilityTable);
+        Mockito.when(connection.getMetaInfo()).thenReturn(
+                new ConnectionMeta(connectionId, "127.0.0.1", "127.0.0.1", 8888, 9848, "GRPC", "", "",
+                        new HashMap<>()));
+        Mockito.when(connectionManager.getConnection(connectionId)).thenReturn(connection);
+        Mockito.when(tpsControlManager.check(any())).thenReturn(new TpsCheckResponse(true, 200, "success"));
+        
+        rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey));
+        
+        verify(rpcPushService, timeout(3000L))
+                .pushWithCallback(eq(connectionId), any(ConfigChangeNotifyRequest.class), any(), any());
+        TimeUnit.MILLISECONDS.sleep(200L);
+        verify(rpcPushService, Mockito.never())
+                .pushWithCallback(eq(connectionId), any(ConfigChangeBatchNotifyRequest.class), any(), any());
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConfigContentCacheTest {
+    
+    @Test
+    public void testDisabled() {
+        ConfigContentCache contentCache = new ConfigContentCache(0L);
+        assertFalse(contentCache.isEnabled());
+        contentCache.put("groupKey", "md5", "content".getBytes(StandardCharsets.UTF_8));
+        assertNull(contentCache.get("groupKey", "md5"));
+        assertEquals(0L, contentCache.size());
+    }
+    
+    @Test
+    public void testPutAndGet() {
+        ConfigContentCache contentCache = new ConfigContentCache(1024L);
+        assertTrue(contentCache.isEnabled());
+        contentCache.put("groupKey", "md5", "content".getBytes(StandardCharsets.UTF_8));
+        assertArrayEquals("content".getBytes(StandardCharsets.UTF_8), contentCache.get("groupKey", "md5"));
+        assertNull(contentCache.get("groupKey", "otherMd5"));
+        assertNull(contentCache.get("groupKey", ""));
+        contentCache.invalidate("groupKey", "md5");
+        assertNull(contentCache.get("groupKey", "md5"));
+    }
+    
+    @Test
+    public void testEvictBySize() {
+        ConfigContentCache contentCache = new ConfigContentCache(100L);
+        contentCache.put("groupKey", "md5-1", new byte[60]);
+        contentCache.put("groupKey", "md5-2", new byte[60]);
+        assertEquals(1L, contentCache.size());
+        assertNull(contentCache.get("groupKey", "md5-1"));
+        assertEquals(60, contentCache.get("groupKey", "md5-2").length);
+    }
+    
+    @Test
+    public void testSameContentOfDifferentConfigs() {
+        ConfigContentCache contentCache = new ConfigContentCache(1024L);
+        byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+        contentCache.put("groupKey1", "md5", content);
+        contentCache.put("groupKey2", "md5", content);
+        assertEquals(2L, contentCache.size());
+        contentCache.invalidate("groupKey1", "md5");
+        assertNull(contentCache.get("groupKey1", "md5"));
+        assertArrayEquals(content, contentCache.get("groupKey2", "md5"));
+    }
+}
@@ -46,6 +46,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.lang.reflect.Field;
 import java.util.Arrays;
 
@@ -149,6 +150,8 @@ public class DumpProcessorTest {
         //check disk
         String contentFromDisk = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
         Assert.assertEquals(content, contentFromDisk);
+        Assert.assertArrayEquals(content.getBytes(StandardCharsets.UTF_8),
+                ConfigDiskServiceFactory.getInstance().getContentBytes(dataId, group, tenant));
         
         // remove
         Mockito.when(configInfoPersistService.findConfigInfo(eq(dataId), eq(group), eq(tenant))).thenReturn(null);
@@ -162,6 +165,7 @@ public class DumpProcessorTest {
         //check disk
         String contentFromDiskAfterRemove = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
         Assert.assertNull(contentFromDiskAfterRemove);
+        Assert.assertNull(ConfigDiskServiceFactory.getInstance().getContentBytes(dataId, group, tenant));
         
     }
     
@@ -52,6 +52,18 @@ public class DistroModuleStateBuilder implements ModuleStateBuilder {
         moduleState.newState(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS));
+        moduleState.newState(DistroConstants.DATA_VERIFY_TREE_BUCKETS_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TREE_BUCKETS, Integer.class,
+                        DistroConstants.DEFAULT_DATA_VERIFY_TREE_BUCKETS));
+        moduleState.newState(DistroConstants.DATA_LOAD_PARTITIONS_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_LOAD_PARTITIONS, Integer.class,
+                        DistroConstants.DEFAULT_DATA_LOAD_PARTITIONS));
+        moduleState.newState(DistroConstants.DATA_LOAD_PARALLELISM_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_LOAD_PARALLELISM, Integer.class,
+                        DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM));
+        moduleState.newState(DistroConstants.EXECUTE_WORK_STEALING_STATE,
+                EnvUtil.getProperty(DistroConstants.EXECUTE_WORK_STEALING, Boolean.class,
+                        DistroConstants.DEFAULT_EXECUTE_WORK_STEALING));
         return moduleState;
     }
     
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.core.distributed.distro;
 
 import com.alibaba.nacos.core.config.AbstractDynamicConfig;
+import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
 /**
@@ -40,15 +41,37 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long verifyTimeoutMillis = DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS;
     
+    private int verifyTreeBuckets = DistroConstants.DEFAULT_DATA_VERIFY_TREE_BUCKETS;
+    
     private long loadDataRetryDelayMillis = DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS;
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private int loadDataPartitions = DistroConstants.DEFAULT_DATA_LOAD_PARTITIONS;
+    
+    private int loadDataParallelism = DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM;
+    
+    /**
+     * Only read on startup, the distro execute task workers can't be changed at runtime.
+     */
+    private final boolean executeWorkStealing;
+    
     private DistroConfig() {
         super(DISTRO);
+        executeWorkStealing = getExecuteWorkStealingFromEnv();
         resetConfig();
     }
     
+    private static boolean getExecuteWorkStealingFromEnv() {
+        try {
+            return EnvUtil.getProperty(DistroConstants.EXECUTE_WORK_STEALING, Boolean.class,
+                    DistroConstants.DEFAULT_EXECUTE_WORK_STEALING);
+        } catch (Exception e) {
+            Loggers.DISTRO.warn("Get execute work stealing from env failed, will use default value", e);
+            return DistroConstants.DEFAULT_EXECUTE_WORK_STEALING;
+        }
+    }
+    
     @Override
     protected void getConfigFromEnv() {
         syncDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_DELAY_MILLISECONDS, Long.class,
@@ -61,10 +84,16 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS);
         verifyTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS);
+        verifyTreeBuckets = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TREE_BUCKETS, Integer.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_TREE_BUCKETS);
         loadDataRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        loadDataPartitions = EnvUtil.getProperty(DistroConstants.DATA_LOAD_PARTITIONS, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_PARTITIONS);
+        loadDataParallelism = EnvUtil.getProperty(DistroConstants.DATA_LOAD_PARALLELISM, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM);
     }
     
     public static DistroConfig getInstance() {
@@ -111,6 +140,14 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.verifyTimeoutMillis = verifyTimeoutMillis;
     }
     
+    public int getVerifyTreeBuckets() {
+        return verifyTreeBuckets;
+    }
+    
+    public void setVerifyTreeBuckets(int verifyTreeBuckets) {
+        this.verifyTreeBuckets = verifyTreeBuckets;
+    }
+    
     public long getLoadDataRetryDelayMillis() {
         return loadDataRetryDelayMillis;
     }
@@ -127,11 +164,33 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public int getLoadDataPartitions() {
+        return loadDataPartitions;
+    }
+    
+    public void setLoadDataPartitions(int loadDataPartitions) {
+        this.loadDataPartitions = loadDataPartitions;
+    }
+    
+    public int getLoadDataParallelism() {
+        return loadDataParallelism;
+    }
+    
+    public void setLoadDataParallelism(int loadDataParallelism) {
+        this.loadDataParallelism = loadDataParallelism;
+    }
+    
+    public boolean isExecuteWorkStealing() {
+        return executeWorkStealing;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
                 + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
-                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
-                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + '}';
+                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", verifyTreeBuckets=" + verifyTreeBuckets
+                + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
+                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + ", loadDataPartitions=" + loadDataPartitions
+                + ", loadDataParallelism=" + loadDataParallelism + ", executeWorkStealing=" + executeWorkStealing + '}';
     }
 }
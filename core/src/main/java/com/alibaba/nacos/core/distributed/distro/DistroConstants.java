@@ -55,6 +55,12 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS = 3000L;
     
+    public static final String DATA_VERIFY_TREE_BUCKETS = "nacos.core.protocol.distro.data.verify.treeBuckets";
+    
+    public static final String DATA_VERIFY_TREE_BUCKETS_STATE = "data_verify_treeBuckets";
+    
+    public static final int DEFAULT_DATA_VERIFY_TREE_BUCKETS = 256;
+    
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.load.retryDelayMs";
     
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE = "data_load_retryDelayMs";
@@ -67,4 +73,22 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_PARTITIONS = "nacos.core.protocol.distro.data.load.partitions";
+    
+    public static final String DATA_LOAD_PARTITIONS_STATE = "data_load_partitions";
+    
+    public static final int DEFAULT_DATA_LOAD_PARTITIONS = 16;
+    
+    public static final String DATA_LOAD_PARALLELISM = "nacos.core.protocol.distro.data.load.parallelism";
+    
+    public static final String DATA_LOAD_PARALLELISM_STATE = "data_load_parallelism";
+    
+    public static final int DEFAULT_DATA_LOAD_PARALLELISM = 4;
+    
+    public static final String EXECUTE_WORK_STEALING = "nacos.core.protocol.distro.execute.workStealing";
+    
+    public static final String EXECUTE_WORK_STEALING_STATE = "execute_workStealing";
+    
+    public static final boolean DEFAULT_EXECUTE_WORK_STEALING = false;
+    
 }
@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotPartition;
 
 import java.util.List;
 
@@ -57,6 +58,19 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get one partition of distro datum snapshot, the resource key of returned data should be {@link
+     * DistroSnapshotPartition#toResourceKey()}.
+     *
+     * <p>Return the whole snapshot by default for the storage which doesn't support partitioned snapshot.
+     *
+     * @param partition partition of snapshot
+     * @return datum of the partition
+     */
+    default DistroData getDatumSnapshot(DistroSnapshotPartition partition) {
+        return getDatumSnapshot();
+    }
+    
     /**
      * Get verify datum.
      *
@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotPartition;
 
 /**
  * Distro transport agent.
@@ -89,4 +90,18 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Get one partition of datum snapshot from target server.
+     *
+     * <p>Target server which doesn't support partitioned snapshot returns the whole snapshot, which can be recognized by
+     * {@link DistroSnapshotPartition#parse(String)} with the resource key of returned data.
+     *
+     * @param targetServer target server.
+     * @param partition    partition of snapshot
+     * @return distro data of the partition, or the whole snapshot
+     */
+    default DistroData getDatumSnapshot(String targetServer, DistroSnapshotPartition partition) {
+        return getDatumSnapshot(targetServer);
+    }
 }
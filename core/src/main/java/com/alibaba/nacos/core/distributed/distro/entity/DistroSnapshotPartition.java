@@ -0,0 +1,106 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+/**
+ * Partition of distro datum snapshot.
+ *
+ * <p>The snapshot is split into partitions by the hash of resource key, so that partitions can be loaded from different
+ * servers in parallel and processed one by one, instead of transporting and holding the whole snapshot at once.
+ *
+ * @author Nacos
+ */
+public class DistroSnapshotPartition {
+    
+    private static final String KEY_PREFIX = "snapshot#";
+    
+    private static final String KEY_SEPARATOR = "/";
+    
+    private final int index;
+    
+    private final int count;
+    
+    public DistroSnapshotPartition(int index, int count) {
+        if (count <= 0 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Illegal snapshot partition " + index + KEY_SEPARATOR + count);
+        }
+        this.index = index;
+        this.count = count;
+    }
+    
+    /**
+     * Parse the partition from the resource key of snapshot distro key.
+     *
+     * @param resourceKey resource key of snapshot distro key
+     * @return partition, or {@code null} if the resource key is not a partition key, such as the whole snapshot
+     */
+    public static DistroSnapshotPartition parse(String resourceKey) {
+        if (null == resourceKey || !resourceKey.startsWith(KEY_PREFIX)) {
+            return null;
+        }
+        String[] parts = resourceKey.substring(KEY_PREFIX.length()).split(KEY_SEPARATOR);
+        try {
+            return new DistroSnapshotPartition(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Whether the resource belongs to this partition.
+     *
+     * @param resourceKey resource key of distro data
+     * @return {@code true} if belongs to this partition
+     */
+    public boolean contains(String resourceKey) {
+        return (resourceKey.hashCode() & Integer.MAX_VALUE) % count == index;
+    }
+    
+    public String toResourceKey() {
+        return KEY_PREFIX + index + KEY_SEPARATOR + count;
+    }
+    
+    public int getIndex() {
+        return index;
+    }
+    
+    public int getCount() {
+        return count;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DistroSnapshotPartition that = (DistroSnapshotPartition) o;
+        return index == that.index && count == that.count;
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * index + count;
+    }
+    
+    @Override
+    public String toString() {
+        return toResourceKey();
+    }
+}
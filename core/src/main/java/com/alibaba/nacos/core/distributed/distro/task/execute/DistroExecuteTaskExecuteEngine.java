@@ -17,6 +17,8 @@
 package com.alibaba.nacos.core.distributed.distro.task.execute;
 
 import com.alibaba.nacos.common.task.engine.NacosExecuteTaskExecuteEngine;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.utils.Loggers;
 
 /**
@@ -27,6 +29,7 @@ import com.alibaba.nacos.core.utils.Loggers;
 public class DistroExecuteTaskExecuteEngine extends NacosExecuteTaskExecuteEngine {
     
     public DistroExecuteTaskExecuteEngine() {
-        super(DistroExecuteTaskExecuteEngine.class.getSimpleName(), Loggers.DISTRO);
+        super(DistroExecuteTaskExecuteEngine.class.getSimpleName(), Loggers.DISTRO, ThreadUtils.getSuitableThreadCount(1),
+                DistroConfig.getInstance().isExecuteWorkStealing());
     }
 }
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -24,12 +26,19 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotPartition;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Distro load data task.
@@ -89,7 +98,7 @@ public class DistroLoadDataTask implements Runnable {
         }
     }
     
-    private boolean loadAllDataSnapshotFromRemote(String resourceType) {
+    private boolean loadAllDataSnapshotFromRemote(String resourceType) throws Exception {
         DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(resourceType);
         DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(resourceType);
         if (null == transportAgent || null == dataProcessor) {
@@ -97,6 +106,16 @@ public class DistroLoadDataTask implements Runnable {
                     resourceType, transportAgent, dataProcessor);
             return false;
         }
+        boolean result = distroConfig.getLoadDataPartitions() > 1 ? loadPartitionedSnapshotFromRemote(resourceType,
+                transportAgent, dataProcessor) : loadWholeSnapshotFromRemote(resourceType, transportAgent, dataProcessor);
+        if (result) {
+            distroComponentHolder.findDataStorage(resourceType).finishInitial();
+        }
+        return result;
+    }
+    
+    private boolean loadWholeSnapshotFromRemote(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor) {
         for (Member each : memberManager.allMembersWithoutSelf()) {
             long startTime = System.currentTimeMillis();
             try {
@@ -110,7 +129,6 @@ public class DistroLoadDataTask implements Runnable {
                         .info("[DISTRO-INIT] load snapshot {} from {} result: {}", resourceType, each.getAddress(),
                                 result);
                 if (result) {
-                    distroComponentHolder.findDataStorage(resourceType).finishInitial();
                     return true;
                 }
             } catch (Exception e) {
@@ -120,6 +138,92 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    /**
+     * Load the snapshot by partitions from all members in parallel.
+     *
+     * <p>Each partition is loaded from the members in turn, starting from different members for different partitions
+     * to spread the load, and processed as soon as it arrives. The member which doesn't support partitioned snapshot
+     * returns the whole snapshot, which is processed only once and completes all partitions.
+     */
+    private boolean loadPartitionedSnapshotFromRemote(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor) throws Exception {
+        final List<Member> members = new ArrayList<>(memberManager.allMembersWithoutSelf());
+        final int partitionCount = distroConfig.getLoadDataPartitions();
+        final int parallelism = Math.max(1, Math.min(distroConfig.getLoadDataParallelism(), partitionCount));
+        MetricsMonitor.getDistroLoadTotalPartitions().set(partitionCount);
+        MetricsMonitor.getDistroLoadedPartitions().set(0);
+        MetricsMonitor.getDistroLoadedBytes().set(0);
+        long startTime = System.currentTimeMillis();
+        AtomicBoolean wholeSnapshotLoaded = new AtomicBoolean(false);
+        ExecutorService executor = ExecutorFactory
+                .newFixedExecutorService(parallelism, new NameThreadFactory("com.alibaba.nacos.core.distro.load"));
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>(partitionCount);
+            for (int i = 0; i < partitionCount; i++) {
+                DistroSnapshotPartition partition = new DistroSnapshotPartition(i, partitionCount);
+                futures.add(executor.submit(
+                        () -> loadPartition(resourceType, partition, members, transportAgent, dataProcessor,
+                                wholeSnapshotLoaded)));
+            }
+            boolean result = true;
+            for (Future<Boolean> each : futures) {
+                result &= each.get();
+            }
+            Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load {} partitions of snapshot {}, size is {}, result: {}",
+                    System.currentTimeMillis() - startTime, partitionCount, resourceType,
+                    MetricsMonitor.getDistroLoadedBytes().get(), result);
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private boolean loadPartition(String resourceType, DistroSnapshotPartition partition, List<Member> members,
+            DistroTransportAgent transportAgent, DistroDataProcessor dataProcessor, AtomicBoolean wholeSnapshotLoaded) {
+        for (int i = 0; i < members.size() && !wholeSnapshotLoaded.get(); i++) {
+            Member member = members.get((partition.getIndex() + i) % members.size());
+            try {
+                DistroData distroData = transportAgent.getDatumSnapshot(member.getAddress(), partition);
+                if (null == distroData) {
+                    continue;
+                }
+                String resourceKey = null == distroData.getDistroKey() ? null
+                        : distroData.getDistroKey().getResourceKey();
+                if (null == DistroSnapshotPartition.parse(resourceKey)) {
+                    if (processWholeSnapshot(resourceType, member, distroData, dataProcessor, wholeSnapshotLoaded)) {
+                        return true;
+                    }
+                } else if (dataProcessor.processSnapshot(distroData)) {
+                    MetricsMonitor.getDistroLoadedPartitions().incrementAndGet();
+                    MetricsMonitor.getDistroLoadedBytes().addAndGet(getDistroDataLength(distroData));
+                    return true;
+                }
+            } catch (Exception e) {
+                Loggers.DISTRO.error("[DISTRO-INIT] load snapshot {} partition {} from {} failed.", resourceType,
+                        partition, member.getAddress(), e);
+            }
+        }
+        return wholeSnapshotLoaded.get();
+    }
+    
+    private boolean processWholeSnapshot(String resourceType, Member member, DistroData distroData,
+            DistroDataProcessor dataProcessor, AtomicBoolean wholeSnapshotLoaded) {
+        synchronized (wholeSnapshotLoaded) {
+            if (wholeSnapshotLoaded.get()) {
+                return true;
+            }
+            Loggers.DISTRO.info("[DISTRO-INIT] {} doesn't support partitioned snapshot, load whole snapshot {}, size is {}",
+                    member.getAddress(), resourceType, getDistroDataLength(distroData));
+            boolean result = dataProcessor.processSnapshot(distroData);
+            if (result) {
+                MetricsMonitor.getDistroLoadedPartitions().set(MetricsMonitor.getDistroLoadTotalPartitions().get());
+                MetricsMonitor.getDistroLoadedBytes().addAndGet(getDistroDataLength(distroData));
+                wholeSnapshotLoaded.set(true);
+            }
+            return result;
+        }
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
@@ -47,12 +47,20 @@ public final class MetricsMonitor {
     private static final Timer RAFT_APPLY_READ_TIMER;
     
     private static AtomicInteger longConnection = new AtomicInteger();
+    
+    private static AtomicInteger distroLoadTotalPartitions = new AtomicInteger();
+    
+    private static AtomicInteger distroLoadedPartitions = new AtomicInteger();
+    
+    private static AtomicLong distroLoadedBytes = new AtomicLong();
 
     private static GrpcServerExecutorMetric sdkServerExecutorMetric = new GrpcServerExecutorMetric("grpcSdkServer");
 
     private static GrpcServerExecutorMetric clusterServerExecutorMetric = new GrpcServerExecutorMetric("grpcClusterServer");
 
     private static Map<String, AtomicInteger> moduleConnectionCnt = new ConcurrentHashMap<>();
+    
+    private static Map<String, EventPublisherMetric> eventPublisherMetrics = new ConcurrentHashMap<>();
 
     static {
         ImmutableTag immutableTag = new ImmutableTag("module", "core");
@@ -80,6 +88,21 @@ public final class MetricsMonitor {
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "longConnection"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, longConnection);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "distroLoadTotalPartitions"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, distroLoadTotalPartitions);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "distroLoadedPartitions"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, distroLoadedPartitions);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "distroLoadedBytes"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, distroLoadedBytes);
 
         tags = new ArrayList<>();
         tags.add(immutableTag);
@@ -133,6 +156,18 @@ public final class MetricsMonitor {
         return longConnection;
     }
     
+    public static AtomicInteger getDistroLoadTotalPartitions() {
+        return distroLoadTotalPartitions;
+    }
+    
+    public static AtomicInteger getDistroLoadedPartitions() {
+        return distroLoadedPartitions;
+    }
+    
+    public static AtomicLong getDistroLoadedBytes() {
+        return distroLoadedBytes;
+    }
+    
     public static void raftReadIndexFailed() {
         RAFT_READ_INDEX_FAILED.record(1);
     }
@@ -241,6 +276,71 @@ public final class MetricsMonitor {
         }
     }
 
+    /**
+     * Get the metric of event publisher, the gauges are registered when the event type first comes.
+     *
+     * @param eventType simple name of event type
+     * @return metric of event publisher
+     */
+    public static EventPublisherMetric getEventPublisherMetric(String eventType) {
+        return eventPublisherMetrics.computeIfAbsent(eventType, type -> {
+            EventPublisherMetric metric = new EventPublisherMetric();
+            List<Tag> tags = new ArrayList<>();
+            tags.add(new ImmutableTag("module", "core"));
+            tags.add(new ImmutableTag("event", type));
+            initEventPublisherMetric(tags, "queueSize", metric.getQueueSize());
+            initEventPublisherMetric(tags, "droppedCount", metric.getDroppedCount());
+            initEventPublisherMetric(tags, "callerRunsCount", metric.getCallerRunsCount());
+            initEventPublisherMetric(tags, "maxLatency", metric.getMaxLatency());
+            return metric;
+        });
+    }
+    
+    private static void initEventPublisherMetric(List<Tag> tags, String name, AtomicLong number) {
+        List<Tag> snapshotTags = new ArrayList<>(tags);
+        snapshotTags.add(new ImmutableTag("name", name));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "event_publisher", snapshotTags, number);
+    }
+    
+    public static class EventPublisherMetric {
+        
+        /**
+         * event count in ring buffer.
+         */
+        private final AtomicLong queueSize = new AtomicLong();
+        
+        /**
+         * event count dropped when the ring buffer is full.
+         */
+        private final AtomicLong droppedCount = new AtomicLong();
+        
+        /**
+         * event count notified by publishing thread when the ring buffer is full.
+         */
+        private final AtomicLong callerRunsCount = new AtomicLong();
+        
+        /**
+         * max publish-to-notify latency in microseconds.
+         */
+        private final AtomicLong maxLatency = new AtomicLong();
+        
+        public AtomicLong getQueueSize() {
+            return queueSize;
+        }
+        
+        public AtomicLong getDroppedCount() {
+            return droppedCount;
+        }
+        
+        public AtomicLong getCallerRunsCount() {
+            return callerRunsCount;
+        }
+        
+        public AtomicLong getMaxLatency() {
+            return maxLatency;
+        }
+    }
+    
     /**
      * refresh all module connection count.
      *
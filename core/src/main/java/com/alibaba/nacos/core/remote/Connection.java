@@ -16,7 +16,10 @@
 
 package com.alibaba.nacos.core.remote;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.Requester;
+import com.alibaba.nacos.api.remote.request.Request;
 
 import java.util.Map;
 
@@ -66,6 +69,20 @@ public abstract class Connection implements Requester {
      */
     public abstract boolean isConnected();
     
+    /**
+     * Send request asynchronously with the encoded request body, the encoded body is shared by connections and will
+     * not be modified. Connections which can't reuse the encoded body send the request directly.
+     *
+     * @param request         request.
+     * @param encodedBody     request body encoded without request id.
+     * @param requestCallBack callback of request.
+     * @throws NacosException exception throw.
+     */
+    public void asyncRequest(Request request, byte[] encodedBody, RequestCallBack requestCallBack)
+            throws NacosException {
+        asyncRequest(request, requestCallBack);
+    }
+    
     /**
      * Update last Active Time to now.
      */
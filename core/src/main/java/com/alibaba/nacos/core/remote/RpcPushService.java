@@ -49,10 +49,24 @@ public class RpcPushService {
      */
     public void pushWithCallback(String connectionId, ServerRequest request, PushCallBack requestCallBack,
             Executor executor) {
+        pushWithCallback(connectionId, request, null, requestCallBack, executor);
+    }
+    
+    /**
+     * push response with encoded request body, which can be shared by pushes to different connections.
+     *
+     * @param connectionId    connectionId.
+     * @param request         request.
+     * @param encodedBody     request body encoded without request id, null means encoding request for this push.
+     * @param requestCallBack requestCallBack.
+     * @param executor        executor of callback.
+     */
+    public void pushWithCallback(String connectionId, ServerRequest request, byte[] encodedBody,
+            PushCallBack requestCallBack, Executor executor) {
         Connection connection = connectionManager.getConnection(connectionId);
         if (connection != null) {
             try {
-                connection.asyncRequest(request, new AbstractRequestCallBack(requestCallBack.getTimeout()) {
+                AbstractRequestCallBack callBack = new AbstractRequestCallBack(requestCallBack.getTimeout()) {
                     
                     @Override
                     public Executor getExecutor() {
@@ -72,7 +86,12 @@ public class RpcPushService {
                     public void onException(Throwable e) {
                         requestCallBack.onFail(e);
                     }
-                });
+                };
+                if (null == encodedBody) {
+                    connection.asyncRequest(request, callBack);
+                } else {
+                    connection.asyncRequest(request, encodedBody, callBack);
+                }
             } catch (ConnectionAlreadyClosedException e) {
                 connectionManager.unregister(connectionId);
                 requestCallBack.onSuccess();
@@ -68,6 +68,10 @@ public class GrpcConnection extends Connection {
      * @throws NacosException NacosException
      */
     public void sendRequestNoAck(Request request) throws NacosException {
+        sendRequestNoAck(request, null);
+    }
+    
+    private void sendRequestNoAck(Request request, byte[] encodedBody) throws NacosException {
         sendQueueBlockCheck();
         final AtomicReference<NacosRuntimeException> exception = new AtomicReference<>();
         final DefaultRequestFuture future = new DefaultRequestFuture(this.getMetaInfo().getConnectionId(), "0");
@@ -75,7 +79,8 @@ public class GrpcConnection extends Connection {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 try {
-                    Payload payload = GrpcUtils.convert(request);
+                    Payload payload = null == encodedBody ? GrpcUtils.convert(request)
+                            : GrpcUtils.convert(request, encodedBody);
                     traceIfNecessary(payload);
                     streamObserver.onNext(payload);
                     future.setResponse(new Response() {
@@ -151,6 +156,11 @@ public class GrpcConnection extends Connection {
     }
     
     private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack) throws NacosException {
+        return sendRequestInner(request, null, callBack);
+    }
+    
+    private DefaultRequestFuture sendRequestInner(Request request, byte[] encodedBody, RequestCallBack callBack)
+            throws NacosException {
         final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
         request.setRequestId(requestId);
         
@@ -158,7 +168,7 @@ public class GrpcConnection extends Connection {
                 callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId));
         
         RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture);
-        sendRequestNoAck(request);
+        sendRequestNoAck(request, encodedBody);
         return defaultPushFuture;
     }
     
@@ -184,6 +194,12 @@ public class GrpcConnection extends Connection {
         sendRequestInner(request, requestCallBack);
     }
     
+    @Override
+    public void asyncRequest(Request request, byte[] encodedBody, RequestCallBack requestCallBack)
+            throws NacosException {
+        sendRequestInner(request, encodedBody, requestCallBack);
+    }
+    
     @Override
     public void close() {
         String connectionId = null;
@@ -63,5 +63,13 @@ public class DistroModuleStateBuilderTest {
                 states.get(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS,
                 states.get(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_VERIFY_TREE_BUCKETS,
+                states.get(DistroConstants.DATA_VERIFY_TREE_BUCKETS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_LOAD_PARTITIONS,
+                states.get(DistroConstants.DATA_LOAD_PARTITIONS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM,
+                states.get(DistroConstants.DATA_LOAD_PARALLELISM_STATE));
+        assertEquals(DistroConstants.DEFAULT_EXECUTE_WORK_STEALING,
+                states.get(DistroConstants.EXECUTE_WORK_STEALING_STATE));
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DistroSnapshotPartitionTest {
+    
+    @Test
+    public void testParse() {
+        DistroSnapshotPartition partition = new DistroSnapshotPartition(3, 16);
+        Assert.assertEquals("snapshot#3/16", partition.toResourceKey());
+        Assert.assertEquals(partition, DistroSnapshotPartition.parse(partition.toResourceKey()));
+        Assert.assertNull(DistroSnapshotPartition.parse("SNAPSHOT"));
+        Assert.assertNull(DistroSnapshotPartition.parse(null));
+        Assert.assertNull(DistroSnapshotPartition.parse("snapshot#3"));
+        Assert.assertNull(DistroSnapshotPartition.parse("snapshot#16/16"));
+    }
+    
+    @Test
+    public void testContains() {
+        int count = 4;
+        String resourceKey = "1.1.1.1:8848#true";
+        int matched = 0;
+        for (int i = 0; i < count; i++) {
+            if (new DistroSnapshotPartition(i, count).contains(resourceKey)) {
+                matched++;
+            }
+        }
+        Assert.assertEquals(1, matched);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalPartition() {
+        new DistroSnapshotPartition(1, 1);
+    }
+}
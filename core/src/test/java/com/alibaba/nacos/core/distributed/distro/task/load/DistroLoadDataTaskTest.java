@@ -26,6 +26,9 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotPartition;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import junit.framework.TestCase;
 import org.junit.Before;
@@ -42,6 +45,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -95,13 +101,13 @@ public class DistroLoadDataTaskTest extends TestCase {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
-        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
     
     @Test
     public void testRun() {
+        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask.run();
         Map<String, Boolean> loadCompletedMap = (Map<String, Boolean>) ReflectionTestUtils
                 .getField(distroLoadDataTask, "loadCompletedMap");
@@ -109,4 +115,44 @@ public class DistroLoadDataTaskTest extends TestCase {
         assertTrue(loadCompletedMap.containsKey(type));
         verify(distroTransportAgent).getDatumSnapshot(any(String.class));
     }
+    
+    @Test
+    public void testRunWithPartitions() {
+        when(distroConfig.getLoadDataPartitions()).thenReturn(4);
+        when(distroConfig.getLoadDataParallelism()).thenReturn(2);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), any(DistroSnapshotPartition.class)))
+                .thenAnswer(invocation -> {
+                    DistroSnapshotPartition partition = invocation.getArgument(1);
+                    return new DistroData(new DistroKey(partition.toResourceKey(), type), new byte[1]);
+                });
+        when(distroDataProcessor.processSnapshot(any(DistroData.class))).thenReturn(true);
+        distroLoadDataTask.run();
+        Map<String, Boolean> loadCompletedMap = (Map<String, Boolean>) ReflectionTestUtils
+                .getField(distroLoadDataTask, "loadCompletedMap");
+        assertTrue(loadCompletedMap.get(type));
+        verify(distroTransportAgent, times(4)).getDatumSnapshot(any(String.class), any(DistroSnapshotPartition.class));
+        verify(distroTransportAgent, never()).getDatumSnapshot(any(String.class));
+        verify(distroDataProcessor, times(4)).processSnapshot(any(DistroData.class));
+        verify(distroDataStorage).finishInitial();
+        assertEquals(4, MetricsMonitor.getDistroLoadedPartitions().get());
+        assertEquals(4L, MetricsMonitor.getDistroLoadedBytes().get());
+    }
+    
+    @Test
+    public void testRunWithPartitionsFromOldServer() {
+        when(distroConfig.getLoadDataPartitions()).thenReturn(4);
+        when(distroConfig.getLoadDataParallelism()).thenReturn(4);
+        DistroData wholeSnapshot = new DistroData(new DistroKey("SNAPSHOT", type), new byte[8]);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), any(DistroSnapshotPartition.class)))
+                .thenReturn(wholeSnapshot);
+        when(distroDataProcessor.processSnapshot(wholeSnapshot)).thenReturn(true);
+        distroLoadDataTask.run();
+        Map<String, Boolean> loadCompletedMap = (Map<String, Boolean>) ReflectionTestUtils
+                .getField(distroLoadDataTask, "loadCompletedMap");
+        assertTrue(loadCompletedMap.get(type));
+        verify(distroDataProcessor).processSnapshot(eq(wholeSnapshot));
+        verify(distroDataStorage).finishInitial();
+        assertEquals(4, MetricsMonitor.getDistroLoadedPartitions().get());
+        assertEquals(8L, MetricsMonitor.getDistroLoadedBytes().get());
+    }
 }
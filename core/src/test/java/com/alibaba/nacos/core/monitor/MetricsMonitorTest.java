@@ -75,6 +75,16 @@ public class MetricsMonitorTest {
         Assert.assertEquals(MetricsMonitor.getSdkServerExecutorMetric().getCompletedTaskCount().get(), 1);
     }
 
+    @Test
+    public void testEventPublisherMetric() {
+        MetricsMonitor.EventPublisherMetric metric = MetricsMonitor.getEventPublisherMetric("TestEvent");
+        metric.getQueueSize().set(1);
+        metric.getDroppedCount().set(2);
+        Assert.assertSame(metric, MetricsMonitor.getEventPublisherMetric("TestEvent"));
+        Assert.assertEquals(1, MetricsMonitor.getEventPublisherMetric("TestEvent").getQueueSize().get());
+        Assert.assertEquals(2, MetricsMonitor.getEventPublisherMetric("TestEvent").getDroppedCount().get());
+    }
+
     @Test
     public void testClusterServerExecutorMetric() {
         MetricsMonitor.getClusterServerExecutorMetric().getPoolSize().set(1);
@@ -17,9 +17,13 @@
 package com.alibaba.nacos.core.remote.grpc;
 
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
@@ -37,6 +41,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -170,6 +175,25 @@ public class GrpcConnectionTest {
         }
     }
     
+    @Test
+    public void testAsyncRequestWithEncodedBody() throws Exception {
+        Mockito.doReturn(new DefaultEventLoop()).when(channel).eventLoop();
+        Mockito.doReturn(true).when(streamObserver).isReady();
+        PayloadRegistry.init();
+        NotifySubscriberRequest request = NotifySubscriberRequest
+                .buildNotifySubscriberRequest(new ServiceInfo("G@@S"), 1L);
+        byte[] encodedBody = GrpcUtils.encodeRequestBody(request);
+        connection.asyncRequest(request, encodedBody, null);
+        ArgumentCaptor<Payload> captor = ArgumentCaptor.forClass(Payload.class);
+        Mockito.verify(streamObserver).onNext(captor.capture());
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(captor.getValue());
+        Assert.assertNotNull(actual.getRequestId());
+        Assert.assertEquals(request.getRequestId(), actual.getRequestId());
+        Assert.assertEquals(1L, actual.getRevision());
+        Assert.assertEquals("S", actual.getServiceInfo().getName());
+        RpcAckCallbackSynchronizer.clearFuture(connection.getMetaInfo().getConnectionId(), actual.getRequestId());
+    }
+    
     @Test
     public void testBusy() {
         controlManagerCenterMockedStatic = Mockito.mockStatic(ControlManagerCenter.class);
@@ -48,15 +48,19 @@ public class DistroClientComponentRegistry {
     
     private final ClusterRpcClientProxy clusterRpcClientProxy;
     
+    private final DistroClientVerifyTree verifyTree;
+    
     public DistroClientComponentRegistry(ServerMemberManager serverMemberManager, DistroProtocol distroProtocol,
             DistroComponentHolder componentHolder, DistroTaskEngineHolder taskEngineHolder,
-            ClientManagerDelegate clientManager, ClusterRpcClientProxy clusterRpcClientProxy) {
+            ClientManagerDelegate clientManager, ClusterRpcClientProxy clusterRpcClientProxy,
+            DistroClientVerifyTree verifyTree) {
         this.serverMemberManager = serverMemberManager;
         this.distroProtocol = distroProtocol;
         this.componentHolder = componentHolder;
         this.taskEngineHolder = taskEngineHolder;
         this.clientManager = clientManager;
         this.clusterRpcClientProxy = clusterRpcClientProxy;
+        this.verifyTree = verifyTree;
     }
     
     /**
@@ -65,9 +69,10 @@ public class DistroClientComponentRegistry {
      */
     @PostConstruct
     public void doRegister() {
-        DistroClientDataProcessor dataProcessor = new DistroClientDataProcessor(clientManager, distroProtocol);
+        DistroClientDataProcessor dataProcessor = new DistroClientDataProcessor(clientManager, distroProtocol,
+                verifyTree);
         DistroTransportAgent transportAgent = new DistroClientTransportAgent(clusterRpcClientProxy,
-                serverMemberManager);
+                serverMemberManager, verifyTree);
         DistroClientTaskFailedHandler taskFailedHandler = new DistroClientTaskFailedHandler(taskEngineHolder);
         componentHolder.registerDataStorage(DistroClientDataProcessor.TYPE, dataProcessor);
         componentHolder.registerDataProcessor(dataProcessor);
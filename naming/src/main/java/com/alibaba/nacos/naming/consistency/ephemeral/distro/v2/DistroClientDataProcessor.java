@@ -25,6 +25,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotPartition;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -45,6 +46,7 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -63,11 +65,15 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     private final DistroProtocol distroProtocol;
     
+    private final DistroClientVerifyTree verifyTree;
+    
     private volatile boolean isFinishInitial;
     
-    public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
+    public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol,
+            DistroClientVerifyTree verifyTree) {
         this.clientManager = clientManager;
         this.distroProtocol = distroProtocol;
+        this.verifyTree = verifyTree;
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
@@ -261,8 +267,20 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public DistroData getDatumSnapshot() {
+        return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), serializeSnapshot(null));
+    }
+    
+    @Override
+    public DistroData getDatumSnapshot(DistroSnapshotPartition partition) {
+        return new DistroData(new DistroKey(partition.toResourceKey(), TYPE), serializeSnapshot(partition));
+    }
+    
+    private byte[] serializeSnapshot(DistroSnapshotPartition partition) {
         List<ClientSyncData> datum = new LinkedList<>();
         for (String each : clientManager.allClientId()) {
+            if (null != partition && !partition.contains(each)) {
+                continue;
+            }
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
@@ -271,12 +289,14 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
         ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
         snapshot.setClientSyncDataList(datum);
-        byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
-        return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), data);
+        return ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
     }
     
     @Override
     public List<DistroData> getVerifyData() {
+        if (verifyTree.isEnabled()) {
+            return Collections.singletonList(verifyTree.buildDigestData());
+        }
         List<DistroData> result = null;
         for (String each : clientManager.allClientId()) {
             Client client = clientManager.getClient(each);
@@ -31,6 +31,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotPartition;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
@@ -39,6 +40,7 @@ import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.monitor.NamingTpsMonitor;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 
 /**
@@ -52,10 +54,13 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
     
     private final ServerMemberManager memberManager;
     
+    private final DistroClientVerifyTree verifyTree;
+    
     public DistroClientTransportAgent(ClusterRpcClientProxy clusterRpcClientProxy,
-            ServerMemberManager serverMemberManager) {
+            ServerMemberManager serverMemberManager, DistroClientVerifyTree verifyTree) {
         this.clusterRpcClientProxy = clusterRpcClientProxy;
         this.memberManager = serverMemberManager;
+        this.verifyTree = verifyTree;
     }
     
     @Override
@@ -147,8 +152,15 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
             return;
         }
         try {
-            DistroVerifyCallbackWrapper wrapper = new DistroVerifyCallbackWrapper(targetServer,
-                    verifyData.getDistroKey().getResourceKey(), callback, member);
+            RequestCallBack<Response> wrapper;
+            if (DistroClientVerifyTree.isTreeVerifyData(verifyData)) {
+                // tree verify data is verified against the data received from the same source.
+                verifyData.getDistroKey().setTargetServer(memberManager.getSelf().getAddress());
+                wrapper = new DistroVerifyTreeCallbackWrapper(targetServer, verifyData, callback, member);
+            } else {
+                wrapper = new DistroVerifyCallbackWrapper(targetServer, verifyData.getDistroKey().getResourceKey(),
+                        callback, member);
+            }
             clusterRpcClientProxy.asyncRequest(member, request, wrapper);
         } catch (NacosException nacosException) {
             callback.onFailed(nacosException);
@@ -184,12 +196,23 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
     
     @Override
     public DistroData getDatumSnapshot(String targetServer) {
+        return requestDatumSnapshot(targetServer, new DistroDataRequest());
+    }
+    
+    @Override
+    public DistroData getDatumSnapshot(String targetServer, DistroSnapshotPartition partition) {
+        DistroDataRequest request = new DistroDataRequest();
+        // Servers which don't know the partition ignore the data and return the whole snapshot.
+        request.setDistroData(new DistroData(new DistroKey(partition.toResourceKey(), DistroClientDataProcessor.TYPE), new byte[0]));
+        return requestDatumSnapshot(targetServer, request);
+    }
+    
+    private DistroData requestDatumSnapshot(String targetServer, DistroDataRequest request) {
         Member member = memberManager.find(targetServer);
         if (checkTargetServerStatusUnhealthy(member)) {
             throw new DistroException(
                     String.format("[DISTRO] Cancel get snapshot caused by target server %s unhealthy", targetServer));
         }
-        DistroDataRequest request = new DistroDataRequest();
         request.setDataOperation(DataOperation.SNAPSHOT);
         try {
             Response response = clusterRpcClientProxy
@@ -302,4 +325,97 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
             distroCallback.onFailed(e);
         }
     }
+    
+    private class DistroVerifyTreeCallbackWrapper implements RequestCallBack<Response> {
+        
+        private final String targetServer;
+        
+        private final DistroData verifyData;
+        
+        private final DistroCallback distroCallback;
+        
+        private final Member member;
+        
+        private DistroVerifyTreeCallbackWrapper(String targetServer, DistroData verifyData,
+                DistroCallback distroCallback, Member member) {
+            this.targetServer = targetServer;
+            this.verifyData = verifyData;
+            this.distroCallback = distroCallback;
+            this.member = member;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return GlobalExecutor.getCallbackExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return DistroConfig.getInstance().getVerifyTimeoutMillis();
+        }
+        
+        @Override
+        public void onResponse(Response response) {
+            if (!checkResponse(response)) {
+                onFailedResponse();
+                return;
+            }
+            DistroData responseData = ((DistroDataResponse) response).getDistroData();
+            if (DistroClientVerifyTree.isDigestData(verifyData)) {
+                onDigestResponse(responseData);
+            } else {
+                onBucketResponse(responseData);
+            }
+        }
+        
+        private void onFailedResponse() {
+            if (DistroClientVerifyTree.isDigestData(verifyData)) {
+                Loggers.DISTRO.info("Target {} can't verify by hash tree, verify clients one by one", targetServer);
+                for (DistroData each : verifyTree.getClientVerifyData()) {
+                    syncVerifyData(each, targetServer, distroCallback);
+                }
+            } else {
+                NamingTpsMonitor.distroVerifyFail(member.getAddress(), member.getIp());
+                distroCallback.onFailed(null);
+            }
+        }
+        
+        private void onDigestResponse(DistroData remoteDigest) {
+            if (null == remoteDigest) {
+                NamingTpsMonitor.distroVerifySuccess(member.getAddress(), member.getIp());
+                distroCallback.onSuccess();
+                return;
+            }
+            List<DistroData> mismatchedBuckets = verifyTree.getMismatchedBucketData(remoteDigest);
+            if (mismatchedBuckets.isEmpty()) {
+                distroCallback.onSuccess();
+                return;
+            }
+            Loggers.DISTRO.info("Target {} has {} mismatched verify buckets", targetServer, mismatchedBuckets.size());
+            for (DistroData each : mismatchedBuckets) {
+                syncVerifyData(each, targetServer, distroCallback);
+            }
+        }
+        
+        private void onBucketResponse(DistroData remoteBucket) {
+            List<DistroClientVerifyInfo> failedClients = verifyTree.getFailedClients(remoteBucket);
+            if (failedClients.isEmpty()) {
+                NamingTpsMonitor.distroVerifySuccess(member.getAddress(), member.getIp());
+                distroCallback.onSuccess();
+                return;
+            }
+            for (DistroClientVerifyInfo each : failedClients) {
+                Loggers.DISTRO.info("Target {} verify client {} failed, sync new client", targetServer,
+                        each.getClientId());
+                NotifyCenter.publishEvent(new ClientEvent.ClientVerifyFailedEvent(each.getClientId(), targetServer));
+            }
+            NamingTpsMonitor.distroVerifyFail(member.getAddress(), member.getIp());
+            distroCallback.onFailed(null);
+        }
+        
+        @Override
+        public void onException(Throwable e) {
+            distroCallback.onFailed(e);
+        }
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Verify information of the clients in one bucket of the verify hash tree.
+ *
+ * <p>The request carries all clients of the bucket, and the response carries the clients which failed to verify.
+ *
+ * @author Nacos
+ */
+public class DistroClientVerifyBucket implements Serializable {
+    
+    private static final long serialVersionUID = 8466107185407716324L;
+    
+    private int bucketCount;
+    
+    private int index;
+    
+    private List<DistroClientVerifyInfo> verifyInfos;
+    
+    public DistroClientVerifyBucket() {
+    }
+    
+    public DistroClientVerifyBucket(int bucketCount, int index, List<DistroClientVerifyInfo> verifyInfos) {
+        this.bucketCount = bucketCount;
+        this.index = index;
+        this.verifyInfos = verifyInfos;
+    }
+    
+    public int getBucketCount() {
+        return bucketCount;
+    }
+    
+    public void setBucketCount(int bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+    
+    public int getIndex() {
+        return index;
+    }
+    
+    public void setIndex(int index) {
+        this.index = index;
+    }
+    
+    public List<DistroClientVerifyInfo> getVerifyInfos() {
+        return verifyInfos;
+    }
+    
+    public void setVerifyInfos(List<DistroClientVerifyInfo> verifyInfos) {
+        this.verifyInfos = verifyInfos;
+    }
+}
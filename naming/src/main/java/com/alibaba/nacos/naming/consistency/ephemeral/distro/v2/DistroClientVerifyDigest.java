@@ -0,0 +1,82 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+
+/**
+ * Digest of the hash tree over the revisions of the clients which one server is responsible for.
+ *
+ * <p>The request digest only carries the root hash. The response carries the bucket hashes of the receiver if the
+ * root hash mismatches, so that the sender can descend into the mismatched buckets.
+ *
+ * @author Nacos
+ */
+public class DistroClientVerifyDigest implements Serializable {
+    
+    private static final long serialVersionUID = -3528160462637452190L;
+    
+    private int bucketCount;
+    
+    private int clientCount;
+    
+    private long rootHash;
+    
+    private long[] bucketHashes;
+    
+    public DistroClientVerifyDigest() {
+    }
+    
+    public DistroClientVerifyDigest(int bucketCount, int clientCount, long rootHash, long[] bucketHashes) {
+        this.bucketCount = bucketCount;
+        this.clientCount = clientCount;
+        this.rootHash = rootHash;
+        this.bucketHashes = bucketHashes;
+    }
+    
+    public int getBucketCount() {
+        return bucketCount;
+    }
+    
+    public void setBucketCount(int bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+    
+    public int getClientCount() {
+        return clientCount;
+    }
+    
+    public void setClientCount(int clientCount) {
+        this.clientCount = clientCount;
+    }
+    
+    public long getRootHash() {
+        return rootHash;
+    }
+    
+    public void setRootHash(long rootHash) {
+        this.rootHash = rootHash;
+    }
+    
+    public long[] getBucketHashes() {
+        return bucketHashes;
+    }
+    
+    public void setBucketHashes(long[] bucketHashes) {
+        this.bucketHashes = bucketHashes;
+    }
+}
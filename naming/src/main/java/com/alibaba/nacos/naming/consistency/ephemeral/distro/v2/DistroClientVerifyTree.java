@@ -0,0 +1,357 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hash tree verification of distro clients.
+ *
+ * <p>The clients which one server is responsible for are hashed into buckets by client id, the hash of each bucket is
+ * the sum of the hashes of client id and revision, and the root hash is the sum of all buckets. The sender only sends
+ * the root hash in steady state; the receiver computes the hashes over the clients it verified from the sender before,
+ * with the local revisions, and returns its bucket hashes if the root mismatches. Then only the clients in the
+ * mismatched buckets are sent, and the clients failed to verify are synced as the per-client verification does.
+ *
+ * <p>The receiver renews all clients verified from the sender when the root hash matches, so the tree verification
+ * also keeps the synced clients alive.
+ *
+ * @author Nacos
+ */
+@Component
+public class DistroClientVerifyTree {
+    
+    public static final String DIGEST_KEY = "verifyTree";
+    
+    private static final String BUCKET_KEY_PREFIX = DIGEST_KEY + "#";
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private static final long REVISION_MULTIPLIER = 0x9e3779b97f4a7c15L;
+    
+    private static final long MIX_MULTIPLIER_1 = 0xff51afd7ed558ccdL;
+    
+    private static final long MIX_MULTIPLIER_2 = 0xc4ceb9fe1a85ec53L;
+    
+    private static final int MIX_SHIFT = 33;
+    
+    /**
+     * The verified clients of the sender which has not verified for a long time will be removed.
+     */
+    private static final long REMOTE_TREE_EXPIRED_MILLIS = 10 * 60 * 1000L;
+    
+    private final ClientManager clientManager;
+    
+    /**
+     * The latest tree built by {@link #buildDigestData()}, used to find the clients of mismatched buckets.
+     */
+    private volatile LocalTree localTree;
+    
+    /**
+     * sender address -> clients verified from the sender.
+     */
+    private final ConcurrentMap<String, RemoteTree> remoteTrees = new ConcurrentHashMap<>();
+    
+    public DistroClientVerifyTree(ClientManagerDelegate clientManager) {
+        this.clientManager = clientManager;
+    }
+    
+    public boolean isEnabled() {
+        return DistroConfig.getInstance().getVerifyTreeBuckets() > 0;
+    }
+    
+    /**
+     * Whether the distro data is the digest or bucket of the tree verification.
+     *
+     * @param distroData distro data
+     * @return {@code true} if the data is used by tree verification
+     */
+    public static boolean isTreeVerifyData(DistroData distroData) {
+        return null != distroData && null != distroData.getDistroKey() && null != distroData.getDistroKey()
+                .getResourceKey() && distroData.getDistroKey().getResourceKey().startsWith(DIGEST_KEY);
+    }
+    
+    /**
+     * Whether the distro data is the digest of the tree verification.
+     *
+     * @param distroData distro data
+     * @return {@code true} if the data is the digest
+     */
+    public static boolean isDigestData(DistroData distroData) {
+        return isTreeVerifyData(distroData) && DIGEST_KEY.equals(distroData.getDistroKey().getResourceKey());
+    }
+    
+    /**
+     * Build the tree of the responsible clients and the digest data to send.
+     *
+     * @return digest distro data
+     */
+    public DistroData buildDigestData() {
+        LocalTree tree = new LocalTree(DistroConfig.getInstance().getVerifyTreeBuckets());
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (null == client || !client.isEphemeral() || !clientManager.isResponsibleClient(client)) {
+                continue;
+            }
+            tree.add(client.getClientId(), client.getRevision());
+        }
+        localTree = tree;
+        DistroClientVerifyDigest digest = new DistroClientVerifyDigest(tree.bucketCount, tree.clientCount,
+                tree.rootHash(), null);
+        return buildVerifyData(DIGEST_KEY, serializer().serialize(digest));
+    }
+    
+    /**
+     * Get the per-client verify data of the latest tree, used for the target server which doesn't support the tree
+     * verification.
+     *
+     * @return per-client verify data
+     */
+    public List<DistroData> getClientVerifyData() {
+        LocalTree tree = localTree;
+        if (null == tree) {
+            return Collections.emptyList();
+        }
+        List<DistroData> result = new LinkedList<>();
+        for (List<DistroClientVerifyInfo> bucket : tree.buckets) {
+            for (DistroClientVerifyInfo each : bucket) {
+                result.add(buildVerifyData(each.getClientId(), serializer().serialize(each)));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get the bucket data whose hash mismatches the bucket hashes returned by the receiver.
+     *
+     * @param remoteDigest digest data returned by the receiver
+     * @return bucket data to send
+     */
+    public List<DistroData> getMismatchedBucketData(DistroData remoteDigest) {
+        DistroClientVerifyDigest digest = serializer()
+                .deserialize(remoteDigest.getContent(), DistroClientVerifyDigest.class);
+        LocalTree tree = localTree;
+        if (null == tree || null == digest.getBucketHashes() || tree.bucketCount != digest.getBucketCount()) {
+            // The tree is rebuilt with other bucket count, verify in next round.
+            return Collections.emptyList();
+        }
+        List<DistroData> result = new LinkedList<>();
+        for (int i = 0; i < tree.bucketCount; i++) {
+            if (tree.bucketHashes[i] != digest.getBucketHashes()[i]) {
+                DistroClientVerifyBucket bucket = new DistroClientVerifyBucket(tree.bucketCount, i, tree.buckets.get(i));
+                result.add(buildVerifyData(BUCKET_KEY_PREFIX + i, serializer().serialize(bucket)));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get the clients failed to verify from the bucket data returned by the receiver.
+     *
+     * @param remoteBucket bucket data returned by the receiver
+     * @return verify info of failed clients
+     */
+    public List<DistroClientVerifyInfo> getFailedClients(DistroData remoteBucket) {
+        if (null == remoteBucket || null == remoteBucket.getContent()) {
+            return Collections.emptyList();
+        }
+        DistroClientVerifyBucket bucket = serializer()
+                .deserialize(remoteBucket.getContent(), DistroClientVerifyBucket.class);
+        return null == bucket.getVerifyInfos() ? Collections.emptyList() : bucket.getVerifyInfos();
+    }
+    
+    /**
+     * Process the digest or bucket data received from sender.
+     *
+     * @param distroData    digest or bucket data
+     * @param sourceAddress address of sender
+     * @return data to response, {@code null} if the digest matches
+     */
+    public DistroData processVerifyData(DistroData distroData, String sourceAddress) {
+        if (isDigestData(distroData)) {
+            return processDigest(distroData, sourceAddress);
+        }
+        return processBucket(distroData, sourceAddress);
+    }
+    
+    private DistroData processDigest(DistroData distroData, String sourceAddress) {
+        removeExpiredRemoteTrees();
+        DistroClientVerifyDigest digest = serializer()
+                .deserialize(distroData.getContent(), DistroClientVerifyDigest.class);
+        RemoteTree tree = remoteTrees.computeIfAbsent(sourceAddress, key -> new RemoteTree());
+        synchronized (tree) {
+            tree.touch(digest.getBucketCount());
+            List<DistroClientVerifyInfo> verifiedClients = new ArrayList<>(digest.getClientCount());
+            long[] bucketHashes = new long[tree.bucketCount];
+            for (int i = 0; i < tree.bucketCount; i++) {
+                for (String each : tree.bucketClients.get(i)) {
+                    Client client = clientManager.getClient(each);
+                    if (null != client) {
+                        bucketHashes[i] += hash(each, client.getRevision());
+                        verifiedClients.add(new DistroClientVerifyInfo(each, client.getRevision()));
+                    }
+                }
+            }
+            long rootHash = 0L;
+            for (long each : bucketHashes) {
+                rootHash += each;
+            }
+            if (rootHash == digest.getRootHash() && verifiedClients.size() == digest.getClientCount()) {
+                for (DistroClientVerifyInfo each : verifiedClients) {
+                    clientManager.verifyClient(each);
+                }
+                return null;
+            }
+            DistroClientVerifyDigest result = new DistroClientVerifyDigest(tree.bucketCount, verifiedClients.size(),
+                    rootHash, bucketHashes);
+            return buildVerifyData(DIGEST_KEY, serializer().serialize(result));
+        }
+    }
+    
+    private DistroData processBucket(DistroData distroData, String sourceAddress) {
+        DistroClientVerifyBucket bucket = serializer()
+                .deserialize(distroData.getContent(), DistroClientVerifyBucket.class);
+        List<DistroClientVerifyInfo> verifyInfos =
+                null == bucket.getVerifyInfos() ? Collections.emptyList() : bucket.getVerifyInfos();
+        List<DistroClientVerifyInfo> failedClients = new LinkedList<>();
+        Set<String> bucketClients = new HashSet<>(verifyInfos.size());
+        for (DistroClientVerifyInfo each : verifyInfos) {
+            bucketClients.add(each.getClientId());
+            if (!clientManager.verifyClient(each)) {
+                failedClients.add(each);
+            }
+        }
+        RemoteTree tree = remoteTrees.computeIfAbsent(sourceAddress, key -> new RemoteTree());
+        synchronized (tree) {
+            tree.touch(bucket.getBucketCount());
+            if (bucket.getIndex() >= 0 && bucket.getIndex() < tree.bucketCount) {
+                tree.bucketClients.set(bucket.getIndex(), bucketClients);
+            }
+        }
+        DistroClientVerifyBucket result = new DistroClientVerifyBucket(bucket.getBucketCount(), bucket.getIndex(),
+                failedClients);
+        return buildVerifyData(distroData.getDistroKey().getResourceKey(), serializer().serialize(result));
+    }
+    
+    private void removeExpiredRemoteTrees() {
+        long expiredTime = System.currentTimeMillis() - REMOTE_TREE_EXPIRED_MILLIS;
+        remoteTrees.values().removeIf(each -> each.lastActiveTime < expiredTime);
+    }
+    
+    private DistroData buildVerifyData(String resourceKey, byte[] content) {
+        DistroData result = new DistroData(new DistroKey(resourceKey, DistroClientDataProcessor.TYPE), content);
+        result.setType(DataOperation.VERIFY);
+        return result;
+    }
+    
+    private Serializer serializer() {
+        return ApplicationUtils.getBean(Serializer.class);
+    }
+    
+    private static int bucketIndex(String clientId, int bucketCount) {
+        return (clientId.hashCode() & Integer.MAX_VALUE) % bucketCount;
+    }
+    
+    private static long hash(String clientId, long revision) {
+        long result = FNV_OFFSET_BASIS;
+        for (int i = 0; i < clientId.length(); i++) {
+            result ^= clientId.charAt(i);
+            result *= FNV_PRIME;
+        }
+        result ^= revision * REVISION_MULTIPLIER;
+        result = (result ^ (result >>> MIX_SHIFT)) * MIX_MULTIPLIER_1;
+        result = (result ^ (result >>> MIX_SHIFT)) * MIX_MULTIPLIER_2;
+        return result ^ (result >>> MIX_SHIFT);
+    }
+    
+    private static class LocalTree {
+        
+        private final int bucketCount;
+        
+        private final long[] bucketHashes;
+        
+        private final List<List<DistroClientVerifyInfo>> buckets;
+        
+        private int clientCount;
+        
+        private LocalTree(int bucketCount) {
+            this.bucketCount = bucketCount;
+            this.bucketHashes = new long[bucketCount];
+            this.buckets = new ArrayList<>(bucketCount);
+            for (int i = 0; i < bucketCount; i++) {
+                buckets.add(new LinkedList<>());
+            }
+        }
+        
+        private void add(String clientId, long revision) {
+            int index = bucketIndex(clientId, bucketCount);
+            bucketHashes[index] += hash(clientId, revision);
+            buckets.get(index).add(new DistroClientVerifyInfo(clientId, revision));
+            clientCount++;
+        }
+        
+        private long rootHash() {
+            long result = 0L;
+            for (long each : bucketHashes) {
+                result += each;
+            }
+            return result;
+        }
+    }
+    
+    private static class RemoteTree {
+        
+        private int bucketCount;
+        
+        private List<Set<String>> bucketClients = Collections.emptyList();
+        
+        private volatile long lastActiveTime;
+        
+        private void touch(int targetBucketCount) {
+            lastActiveTime = System.currentTimeMillis();
+            if (targetBucketCount == bucketCount || targetBucketCount <= 0) {
+                return;
+            }
+            // The bucket count of sender changed, all clients will be verified again.
+            bucketCount = targetBucketCount;
+            bucketClients = new ArrayList<>(targetBucketCount);
+            for (int i = 0; i < targetBucketCount; i++) {
+                bucketClients.add(Collections.emptySet());
+            }
+        }
+    }
+}
@@ -43,4 +43,34 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Whether push delta of instances to the clients which support it.
+     */
+    public static final String PUSH_DELTA_ENABLED = "nacos.naming.push.delta.enabled";
+    
+    public static final boolean DEFAULT_PUSH_DELTA_ENABLED = false;
+    
+    /**
+     * Minimum instance count of service to use delta push, smaller services are always pushed fully.
+     */
+    public static final String PUSH_DELTA_MIN_INSTANCES = "nacos.naming.push.delta.minInstances";
+    
+    public static final int DEFAULT_PUSH_DELTA_MIN_INSTANCES = 100;
+    
+    /**
+     * Count of threads which process the push delay tasks, tasks of one service are always processed by same thread.
+     * Only read on startup, changing it needs restarting the server.
+     */
+    public static final String PUSH_TASK_SHARDS = "nacos.naming.push.pushTaskShards";
+    
+    public static final int DEFAULT_PUSH_TASK_SHARDS = 1;
+    
+    /**
+     * Whether naming execute tasks, such as push execute tasks, are executed by work-stealing workers. Only read on
+     * startup, changing it needs restarting the server.
+     */
+    public static final String PUSH_WORK_STEALING_ENABLED = "nacos.naming.push.workStealing.enabled";
+    
+    public static final boolean DEFAULT_PUSH_WORK_STEALING_ENABLED = false;
 }
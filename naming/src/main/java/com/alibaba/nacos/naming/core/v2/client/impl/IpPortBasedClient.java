@@ -106,6 +106,7 @@ public class IpPortBasedClient extends AbstractClient {
             HealthCheckReactor.cancelCheck(beatCheckTask);
         } else {
             healthCheckTaskV2.setCancelled(true);
+            HealthCheckReactor.cancelCheck(healthCheckTaskV2);
         }
     }
     
@@ -22,8 +22,13 @@ import com.alibaba.nacos.common.notify.ShardedEventPublisher;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.ThreadUtils;
 import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alipay.sofa.jraft.util.concurrent.ConcurrentHashSet;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -34,6 +39,9 @@ import java.util.concurrent.Executor;
 /**
  * Event publisher for naming event.
  *
+ * <p>Events are drained from the queue in batch, and the events with same {@link Event#coalesceKey()} in one batch
+ * are delivered only once, such as the {@code ServiceChangedEvent} of one service during batch register.
+ *
  * @author xiweng.yy
  */
 public class NamingEventPublisher extends Thread implements ShardedEventPublisher {
@@ -42,6 +50,8 @@ public class NamingEventPublisher extends Thread implements ShardedEventPublishe
     
     private static final int DEFAULT_WAIT_TIME = 60;
     
+    private static final int DRAIN_BATCH_SIZE = 1024;
+    
     private final Map<Class<? extends Event>, Set<Subscriber<? extends Event>>> subscribes = new ConcurrentHashMap<>();
     
     private volatile boolean initialized = false;
@@ -152,15 +162,37 @@ public class NamingEventPublisher extends Thread implements ShardedEventPublishe
     }
     
     private void handleEvents() {
+        List<Event> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
         while (!shutdown) {
             try {
-                final Event event = queue.take();
-                handleEvent(event);
+                batch.add(queue.take());
+                queue.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+                handleBatchEvents(batch);
             } catch (InterruptedException e) {
                 Loggers.EVT_LOG.warn("Naming Event Publisher {} take event from queue failed:", this.publisherName, e);
                 // set the interrupted flag
                 Thread.currentThread().interrupt();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void handleBatchEvents(List<Event> batch) {
+        Set<Map.Entry<Class<? extends Event>, Object>> coalesceKeys = null;
+        for (Event each : batch) {
+            Object coalesceKey = each.coalesceKey();
+            if (null != coalesceKey) {
+                if (null == coalesceKeys) {
+                    coalesceKeys = new HashSet<>();
+                }
+                if (!coalesceKeys.add(new AbstractMap.SimpleImmutableEntry<>(each.getClass(), coalesceKey))) {
+                    MetricsMonitor.incrementNamingEventCoalesced();
+                    continue;
+                }
             }
+            MetricsMonitor.incrementNamingEventDelivered();
+            handleEvent(each);
         }
     }
     
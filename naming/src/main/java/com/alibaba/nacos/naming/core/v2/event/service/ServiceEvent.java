@@ -56,6 +56,16 @@ public class ServiceEvent extends Event {
                 service.incrementRevision();
             }
         }
+        
+        /**
+         * Subscribers only push the latest data of the service, so the changes of same service can be coalesced.
+         *
+         * @return service
+         */
+        @Override
+        public Object coalesceKey() {
+            return getService();
+        }
     }
     
     /**
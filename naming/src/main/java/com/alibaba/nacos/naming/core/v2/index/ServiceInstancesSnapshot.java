@@ -0,0 +1,167 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Versioned snapshot of the instances of one service, grouped by the publishing client.
+ *
+ * <p>The snapshot records the {@link com.alibaba.nacos.naming.core.v2.pojo.Service#getRevision()} it reflects and
+ * the clients which changed since then. If the metadata revision is not changed and the revision gap equals to the
+ * number of recorded changes, only the changed clients need to be re-parsed; otherwise the snapshot must be rebuilt
+ * from the indexes. The metadata revision check prevents a change not made by clients from being counted as a
+ * recorded change whose revision is not incremented yet.
+ *
+ * <p>Not thread safe for read and patch, callers should synchronize on the snapshot instance.
+ *
+ * @author Nacos
+ */
+public class ServiceInstancesSnapshot {
+    
+    private static final long UNINITIALIZED_REVISION = -1L;
+    
+    private final Map<String, List<Instance>> clientInstances = new HashMap<>();
+    
+    /**
+     * Instance -> reference count, the same instance might be published by different clients.
+     */
+    private final Map<Instance, Integer> instances = new LinkedHashMap<>();
+    
+    private final Map<String, Integer> clusters = new HashMap<>();
+    
+    private Set<String> changedClients = new HashSet<>();
+    
+    private long changedCount;
+    
+    private long revision = UNINITIALIZED_REVISION;
+    
+    private long metadataRevision = UNINITIALIZED_REVISION;
+    
+    /**
+     * Record one publisher change of the client.
+     *
+     * @param clientId id of changed client
+     */
+    public synchronized void recordChange(String clientId) {
+        changedClients.add(clientId);
+        changedCount++;
+    }
+    
+    /**
+     * Whether the snapshot can be patched to the target revision by the recorded changes.
+     *
+     * @param targetRevision         current revision of service
+     * @param targetMetadataRevision current metadata revision of service
+     * @return {@code true} if metadata is not changed and all changes between snapshot revision and target revision are
+     *     recorded
+     */
+    public synchronized boolean isPatchable(long targetRevision, long targetMetadataRevision) {
+        return UNINITIALIZED_REVISION != revision && targetMetadataRevision == metadataRevision
+                && targetRevision - revision == changedCount;
+    }
+    
+    /**
+     * Drain the recorded changed clients.
+     *
+     * @return changed clients since last drain
+     */
+    public synchronized Set<String> drainChangedClients() {
+        Set<String> result = changedClients;
+        changedClients = new HashSet<>();
+        changedCount = 0;
+        return result;
+    }
+    
+    /**
+     * Replace the instances published by the client.
+     *
+     * @param clientId        id of client
+     * @param latestInstances latest instances of client, empty means the client does not publish any more
+     */
+    public void putClientInstances(String clientId, List<Instance> latestInstances) {
+        removeClientInstances(clientId);
+        if (latestInstances.isEmpty()) {
+            return;
+        }
+        clientInstances.put(clientId, latestInstances);
+        for (Instance each : latestInstances) {
+            instances.merge(each, 1, Integer::sum);
+            clusters.merge(each.getClusterName(), 1, Integer::sum);
+        }
+    }
+    
+    /**
+     * Remove the instances published by the client.
+     *
+     * @param clientId id of client
+     */
+    public void removeClientInstances(String clientId) {
+        List<Instance> oldInstances = clientInstances.remove(clientId);
+        if (null == oldInstances) {
+            return;
+        }
+        for (Instance each : oldInstances) {
+            instances.computeIfPresent(each, (key, count) -> count > 1 ? count - 1 : null);
+            clusters.computeIfPresent(each.getClusterName(), (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+    
+    /**
+     * Clear all instances of the snapshot.
+     */
+    public void clear() {
+        clientInstances.clear();
+        instances.clear();
+        clusters.clear();
+    }
+    
+    public List<Instance> getInstances() {
+        return new ArrayList<>(instances.keySet());
+    }
+    
+    public Set<String> getClusters() {
+        return new HashSet<>(clusters.keySet());
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    public long getMetadataRevision() {
+        return metadataRevision;
+    }
+    
+    /**
+     * Set the revisions of service which the snapshot reflects.
+     *
+     * @param revision         revision of service
+     * @param metadataRevision metadata revision of service
+     */
+    public void setRevision(long revision, long metadataRevision) {
+        this.revision = revision;
+        this.metadataRevision = metadataRevision;
+    }
+}
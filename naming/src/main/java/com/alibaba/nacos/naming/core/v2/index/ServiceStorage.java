@@ -18,20 +18,27 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
 import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -43,10 +50,15 @@ import java.util.concurrent.ConcurrentMap;
 /**
  * Service storage.
  *
+ * <p>The instances of each service are kept in a {@link ServiceInstancesSnapshot}, which is patched by the changed
+ * clients recorded from {@link ClientOperationEvent}. Full rebuild from indexes only happens when the snapshot can't
+ * prove that all changes are recorded, such as the metadata revision of service changed by instance metadata or healthy
+ * status.
+ *
  * @author xiweng.yy
  */
 @Component
-public class ServiceStorage {
+public class ServiceStorage extends SmartSubscriber {
     
     private final ClientServiceIndexesManager serviceIndexesManager;
     
@@ -60,6 +72,8 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    private final ConcurrentMap<Service, ServiceInstancesSnapshot> serviceSnapshots;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +82,8 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceSnapshots = new ConcurrentHashMap<>();
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
     public Set<String> getClusters(Service service) {
@@ -89,9 +105,45 @@ public class ServiceStorage {
         return result;
     }
     
+    /**
+     * Remove cached data and instances snapshot of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceSnapshots.remove(service);
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ClientOperationEvent.ClientRegisterServiceEvent.class);
+        result.add(ClientOperationEvent.ClientDeregisterServiceEvent.class);
+        result.add(ClientOperationEvent.ClientReleaseEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ClientOperationEvent.ClientReleaseEvent) {
+            Client client = ((ClientOperationEvent.ClientReleaseEvent) event).getClient();
+            for (Service each : client.getAllPublishedService()) {
+                recordChange(each, client.getClientId());
+            }
+        } else if (event instanceof ClientOperationEvent) {
+            ClientOperationEvent operationEvent = (ClientOperationEvent) event;
+            recordChange(operationEvent.getService(), operationEvent.getClientId());
+        }
+    }
+    
+    private void recordChange(Service service, String clientId) {
+        ServiceInstancesSnapshot snapshot = serviceSnapshots.get(service);
+        // Snapshot not built yet, the first build will read the latest data from indexes.
+        if (null != snapshot) {
+            snapshot.recordChange(clientId);
+        }
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -104,27 +156,48 @@ public class ServiceStorage {
     }
     
     private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
-        Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
-            Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
+        ServiceInstancesSnapshot snapshot = serviceSnapshots
+                .computeIfAbsent(service, key -> new ServiceInstancesSnapshot());
+        synchronized (snapshot) {
+            // read revision before metadata revision, which is incremented first by the same change.
+            long revision = service.getRevision();
+            long metadataRevision = service.getMetadataRevision();
+            boolean patchable = snapshot.isPatchable(revision, metadataRevision);
+            Set<String> changedClients = snapshot.drainChangedClients();
+            if (!patchable) {
+                rebuildSnapshot(service, snapshot);
+                MetricsMonitor.incrementServiceStorageRebuild();
+            } else if (!changedClients.isEmpty()) {
+                for (String each : changedClients) {
+                    snapshot.putClientInstances(each, getClientInstances(each, service));
                 }
+                MetricsMonitor.incrementServiceStoragePatch();
             }
+            snapshot.setRevision(revision, metadataRevision);
+            // cache clusters of this service
+            serviceClusterIndex.put(service, snapshot.getClusters());
+            return snapshot.getInstances();
+        }
+    }
+    
+    private void rebuildSnapshot(Service service, ServiceInstancesSnapshot snapshot) {
+        snapshot.clear();
+        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
+            snapshot.putClientInstances(each, getClientInstances(each, service));
+        }
+    }
+    
+    private List<Instance> getClientInstances(String clientId, Service service) {
+        Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(clientId, service);
+        if (!instancePublishInfo.isPresent()) {
+            return Collections.emptyList();
+        }
+        InstancePublishInfo publishInfo = instancePublishInfo.get();
+        //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
+        if (publishInfo instanceof BatchInstancePublishInfo) {
+            return parseBatchInstance(service, (BatchInstancePublishInfo) publishInfo);
         }
-        // cache clusters of this service
-        serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
+        return Collections.singletonList(parseInstance(service, publishInfo));
     }
     
     /**
@@ -133,13 +206,11 @@ public class ServiceStorage {
      * @param batchInstancePublishInfo batchInstancePublishInfo
      * @return batch instance list
      */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
+    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo) {
         List<Instance> resultInstanceList = new ArrayList<>();
         List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
         for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+            resultInstanceList.add(parseInstance(service, instancePublishInfo));
         }
         return resultInstanceList;
     }
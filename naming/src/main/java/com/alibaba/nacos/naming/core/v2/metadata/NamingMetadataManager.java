@@ -115,6 +115,7 @@ public class NamingMetadataManager extends SmartSubscriber {
      * @param serviceMetadata new service metadata
      */
     public void updateServiceMetadata(Service service, ServiceMetadata serviceMetadata) {
+        service.incrementMetadataRevision();
         service.incrementRevision();
         serviceMetadataMap.put(service, serviceMetadata);
     }
@@ -41,6 +41,8 @@ public class Service implements Serializable {
     
     private final AtomicLong revision;
     
+    private final AtomicLong metadataRevision;
+    
     private long lastUpdatedTime;
     
     private Service(String namespace, String group, String name, boolean ephemeral) {
@@ -49,6 +51,7 @@ public class Service implements Serializable {
         this.name = name;
         this.ephemeral = ephemeral;
         revision = new AtomicLong();
+        metadataRevision = new AtomicLong();
         lastUpdatedTime = System.currentTimeMillis();
     }
     
@@ -80,6 +83,10 @@ public class Service implements Serializable {
         return revision.get();
     }
     
+    public long getMetadataRevision() {
+        return metadataRevision.get();
+    }
+    
     public long getLastUpdatedTime() {
         return lastUpdatedTime;
     }
@@ -92,6 +99,14 @@ public class Service implements Serializable {
         revision.incrementAndGet();
     }
     
+    /**
+     * Increment metadata revision for the changes of instances not made by client operations, such as instance metadata,
+     * service metadata and healthy status. It should be incremented before {@link #incrementRevision()} of the change.
+     */
+    public void incrementMetadataRevision() {
+        metadataRevision.incrementAndGet();
+    }
+    
     public String getGroupedServiceName() {
         return NamingUtils.getGroupedName(name, group);
     }
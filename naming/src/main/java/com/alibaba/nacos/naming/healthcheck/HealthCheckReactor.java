@@ -20,22 +20,25 @@ import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
 import com.alibaba.nacos.naming.healthcheck.interceptor.HealthCheckTaskInterceptWrapper;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
-import com.alibaba.nacos.naming.misc.Loggers;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Health check reactor.
  *
+ * <p>The periodic health check tasks of clients are scheduled by {@link HealthCheckWheelScheduler} and executed by the
+ * naming health executor.
+ *
  * @author nacos
  */
 @SuppressWarnings("PMD.ThreadPoolCreationRule")
 public class HealthCheckReactor {
     
-    private static Map<String, ScheduledFuture> futureMap = new ConcurrentHashMap<>();
+    private static final long BEAT_CHECK_DELAY_MILLIS = 5000L;
+    
+    private static final HealthCheckWheelScheduler SCHEDULER = new HealthCheckWheelScheduler(
+            "com.alibaba.nacos.naming.health.wheel", GlobalExecutor::executeNamingHealth);
     
     /**
      * Schedule health check task for v2.
@@ -45,7 +48,7 @@ public class HealthCheckReactor {
     public static void scheduleCheck(HealthCheckTaskV2 task) {
         task.setStartTime(System.currentTimeMillis());
         Runnable wrapperTask = new HealthCheckTaskInterceptWrapper(task);
-        GlobalExecutor.scheduleNamingHealth(wrapperTask, task.getCheckRtNormalized(), TimeUnit.MILLISECONDS);
+        SCHEDULER.schedule(task.getClient().getClientId(), wrapperTask, task.getCheckRtNormalized());
     }
     
     /**
@@ -57,8 +60,16 @@ public class HealthCheckReactor {
         Runnable wrapperTask =
                 task instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper((NacosHealthCheckTask) task)
                         : task;
-        futureMap.computeIfAbsent(task.taskKey(),
-                k -> GlobalExecutor.scheduleNamingHealth(wrapperTask, 5000, 5000, TimeUnit.MILLISECONDS));
+        SCHEDULER.scheduleWithFixedDelay(task.taskKey(), wrapperTask, BEAT_CHECK_DELAY_MILLIS, BEAT_CHECK_DELAY_MILLIS);
+    }
+    
+    /**
+     * Cancel health check task for v2.
+     *
+     * @param task health check task
+     */
+    public static void cancelCheck(HealthCheckTaskV2 task) {
+        SCHEDULER.cancel(task.getClient().getClientId());
     }
     
     /**
@@ -67,16 +78,7 @@ public class HealthCheckReactor {
      * @param task client beat check task
      */
     public static void cancelCheck(BeatCheckTask task) {
-        ScheduledFuture scheduledFuture = futureMap.get(task.taskKey());
-        if (scheduledFuture == null) {
-            return;
-        }
-        try {
-            scheduledFuture.cancel(true);
-            futureMap.remove(task.taskKey());
-        } catch (Exception e) {
-            Loggers.EVT_LOG.error("[CANCEL-CHECK] cancel failed!", e);
-        }
+        SCHEDULER.cancel(task.taskKey());
     }
     
     /**
@@ -0,0 +1,277 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed wheel scheduler of health check tasks.
+ *
+ * <p>Each task is keyed, such as by client, and placed into a wheel bucket by its deadline, so scheduling and
+ * cancellation are O(1) instead of O(log n) of the heap of {@link java.util.concurrent.ScheduledThreadPoolExecutor}.
+ * The wheel thread only moves the expired tasks to the executor, the tasks are still executed by the health check
+ * executor. The first delay of periodic tasks is jittered to spread the tasks of clients registered at the same time.
+ *
+ * <p>Lateness, the time between the deadline and the task being dispatched, is recorded into {@link MetricsMonitor}.
+ *
+ * @author Nacos
+ */
+public class HealthCheckWheelScheduler {
+    
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+    
+    private static final long DEFAULT_TICK_MILLIS = 100L;
+    
+    /**
+     * The first delay of periodic tasks is added by a random jitter in [0, delay / JITTER_FRACTION).
+     */
+    private static final int JITTER_FRACTION = 5;
+    
+    private final long tickNanos;
+    
+    private final int mask;
+    
+    private final Queue<WheelTask>[] wheel;
+    
+    private final Queue<WheelTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    
+    private final ConcurrentHashMap<String, WheelTask> keyedTasks = new ConcurrentHashMap<>();
+    
+    private final Executor executor;
+    
+    private final Thread workerThread;
+    
+    private final long startTime;
+    
+    private volatile boolean shutdown;
+    
+    private long tick;
+    
+    public HealthCheckWheelScheduler(String name, Executor executor) {
+        this(name, executor, DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+    
+    @SuppressWarnings("unchecked")
+    public HealthCheckWheelScheduler(String name, Executor executor, long tickMillis, int wheelSize) {
+        int size = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = size - 1;
+        this.wheel = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.executor = executor;
+        this.startTime = System.nanoTime();
+        this.workerThread = new NameThreadFactory(name).newThread(this::runWheel);
+        this.workerThread.start();
+    }
+    
+    /**
+     * Schedule a one-shot task of the key, the previous task of the key will be cancelled.
+     *
+     * @param key         key of task, such as client id
+     * @param task        task
+     * @param delayMillis delay in milliseconds
+     */
+    public void schedule(String key, Runnable task, long delayMillis) {
+        WheelTask wheelTask = new WheelTask(key, task, 0L);
+        WheelTask previous = keyedTasks.put(key, wheelTask);
+        if (null != previous) {
+            previous.cancelled = true;
+        }
+        addTask(wheelTask, delayMillis);
+    }
+    
+    /**
+     * Schedule a periodic task of the key if absent, the task is executed with fixed delay until cancelled.
+     *
+     * @param key          key of task, such as client id
+     * @param task         task
+     * @param initialDelay first delay in milliseconds, which will be added by a random jitter
+     * @param delay        delay between the termination of one execution and the commencement of the next
+     */
+    public void scheduleWithFixedDelay(String key, Runnable task, long initialDelay, long delay) {
+        WheelTask wheelTask = new WheelTask(key, task, Math.max(delay, 1L));
+        if (null != keyedTasks.putIfAbsent(key, wheelTask)) {
+            return;
+        }
+        long jitter = delay / JITTER_FRACTION > 0 ? ThreadLocalRandom.current().nextLong(delay / JITTER_FRACTION) : 0;
+        addTask(wheelTask, initialDelay + jitter);
+    }
+    
+    /**
+     * Cancel the task of the key, the cancelled task is removed from the wheel lazily.
+     *
+     * @param key key of task
+     * @return {@code true} if task of the key is cancelled
+     */
+    public boolean cancel(String key) {
+        WheelTask wheelTask = keyedTasks.remove(key);
+        if (null == wheelTask) {
+            return false;
+        }
+        wheelTask.cancelled = true;
+        return true;
+    }
+    
+    public int size() {
+        return keyedTasks.size();
+    }
+    
+    /**
+     * Shutdown the wheel, all scheduled tasks are discarded.
+     */
+    public void shutdown() {
+        shutdown = true;
+        keyedTasks.clear();
+        LockSupport.unpark(workerThread);
+    }
+    
+    private void addTask(WheelTask wheelTask, long delayMillis) {
+        wheelTask.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(delayMillis, 0L));
+        pendingTasks.add(wheelTask);
+    }
+    
+    private void runWheel() {
+        while (!shutdown) {
+            long tickDeadline = startTime + (tick + 1) * tickNanos;
+            long sleepNanos = tickDeadline - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            try {
+                transferPendingTasks();
+                expireBucket(wheel[(int) (tick & mask)], System.nanoTime());
+                MetricsMonitor.getHealthCheckScheduledTasks().set(keyedTasks.size());
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.error("[HEALTH-CHECK] health check wheel tick failed", e);
+            }
+            tick++;
+        }
+        for (Queue<WheelTask> each : wheel) {
+            each.clear();
+        }
+        pendingTasks.clear();
+    }
+    
+    private void transferPendingTasks() {
+        WheelTask wheelTask;
+        while (null != (wheelTask = pendingTasks.poll())) {
+            if (wheelTask.cancelled) {
+                continue;
+            }
+            long ticks = (wheelTask.deadline - startTime) / tickNanos;
+            // expired tasks are put into current bucket
+            long targetTick = Math.max(ticks, tick);
+            wheelTask.remainingRounds = (targetTick - tick) / wheel.length;
+            wheel[(int) (targetTick & mask)].add(wheelTask);
+        }
+    }
+    
+    private void expireBucket(Queue<WheelTask> bucket, long now) {
+        long maxLateness = -1L;
+        Iterator<WheelTask> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            WheelTask wheelTask = iterator.next();
+            if (wheelTask.cancelled) {
+                iterator.remove();
+            } else if (wheelTask.remainingRounds <= 0) {
+                iterator.remove();
+                long lateness = TimeUnit.NANOSECONDS.toMillis(now - wheelTask.deadline);
+                maxLateness = Math.max(maxLateness, lateness);
+                if (lateness > TimeUnit.NANOSECONDS.toMillis(tickNanos)) {
+                    MetricsMonitor.getHealthCheckLateTaskCount().incrementAndGet();
+                }
+                dispatch(wheelTask);
+            } else {
+                wheelTask.remainingRounds--;
+            }
+        }
+        if (maxLateness >= 0) {
+            MetricsMonitor.getHealthCheckMaxLateness().set(maxLateness);
+        }
+    }
+    
+    private void dispatch(WheelTask wheelTask) {
+        try {
+            executor.execute(wheelTask);
+        } catch (Throwable e) {
+            Loggers.SRV_LOG.error("[HEALTH-CHECK] dispatch health check task {} failed", wheelTask.key, e);
+            wheelTask.reschedule();
+        }
+    }
+    
+    private class WheelTask implements Runnable {
+        
+        private final String key;
+        
+        private final Runnable task;
+        
+        private final long period;
+        
+        private volatile boolean cancelled;
+        
+        private long deadline;
+        
+        /**
+         * Only accessed by wheel thread.
+         */
+        private long remainingRounds;
+        
+        private WheelTask(String key, Runnable task, long period) {
+            this.key = key;
+            this.task = task;
+            this.period = period;
+        }
+        
+        @Override
+        public void run() {
+            try {
+                if (!cancelled) {
+                    task.run();
+                }
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.error("[HEALTH-CHECK] health check task {} failed", key, e);
+            } finally {
+                reschedule();
+            }
+        }
+        
+        private void reschedule() {
+            if (period > 0) {
+                if (!cancelled && !shutdown) {
+                    addTask(this, period);
+                }
+            } else {
+                keyedTasks.remove(key, this);
+            }
+        }
+    }
+}
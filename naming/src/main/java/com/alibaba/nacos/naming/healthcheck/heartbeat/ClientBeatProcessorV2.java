@@ -19,6 +19,7 @@ package com.alibaba.nacos.naming.healthcheck.heartbeat;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.trace.event.naming.HealthStateChangeTraceEvent;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
@@ -56,7 +57,8 @@ public class ClientBeatProcessorV2 implements BeatProcessor {
         int port = rsInfo.getPort();
         String serviceName = NamingUtils.getServiceName(rsInfo.getServiceName());
         String groupName = NamingUtils.getGroupName(rsInfo.getServiceName());
-        Service service = Service.newService(namespace, groupName, serviceName, rsInfo.isEphemeral());
+        Service service = ServiceManager.getInstance()
+                .getSingleton(Service.newService(namespace, groupName, serviceName, rsInfo.isEphemeral()));
         HealthCheckInstancePublishInfo instance = (HealthCheckInstancePublishInfo) client.getInstancePublishInfo(service);
         if (instance.getIp().equals(ip) && instance.getPort() == port) {
             if (Loggers.EVT_LOG.isDebugEnabled()) {
@@ -67,7 +69,8 @@ public class ClientBeatProcessorV2 implements BeatProcessor {
                 instance.setHealthy(true);
                 Loggers.EVT_LOG.info("service: {} {POS} {IP-ENABLED} valid: {}:{}@{}, region: {}, msg: client beat ok",
                         rsInfo.getServiceName(), ip, port, rsInfo.getCluster(), UtilsAndCommons.LOCALHOST_SITE);
-                NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service));
+                service.incrementMetadataRevision();
+                NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
                 NotifyCenter.publishEvent(new ClientEvent.ClientChangedEvent(client));
                 NotifyCenter.publishEvent(new HealthStateChangeTraceEvent(System.currentTimeMillis(),
                         service.getNamespace(), service.getGroup(), service.getName(), instance.getIp(),
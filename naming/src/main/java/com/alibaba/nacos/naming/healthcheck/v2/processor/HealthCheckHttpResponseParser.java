@@ -0,0 +1,178 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Incremental parser of the HTTP response of health check.
+ *
+ * <p>Only the status code is needed by health check, the headers are kept until the end of headers to decide whether
+ * the connection can be reused, and the body is discarded without buffering.
+ *
+ * @author Nacos
+ */
+class HealthCheckHttpResponseParser {
+    
+    private static final int MAX_HEADER_SIZE = 8192;
+    
+    private static final int INIT_HEADER_SIZE = 256;
+    
+    private static final byte[] HEADER_END = "\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+    
+    private static final String HTTP_VERSION_PREFIX = "HTTP/";
+    
+    private static final int STATUS_LINE_MIN_PARTS = 2;
+    
+    private byte[] headers = new byte[INIT_HEADER_SIZE];
+    
+    private int headerLength;
+    
+    private boolean headerComplete;
+    
+    private int statusCode;
+    
+    private long bodyRemaining = -1L;
+    
+    private boolean reusable;
+    
+    /**
+     * Feed the received bytes.
+     *
+     * @param buffer received bytes in read mode, all bytes will be consumed
+     * @return {@code true} if the response is completed
+     * @throws IOException if the response is malformed
+     */
+    boolean feed(ByteBuffer buffer) throws IOException {
+        if (!headerComplete) {
+            int headerEnd = appendHeaders(buffer);
+            if (headerEnd < 0) {
+                return false;
+            }
+            parseHeaders(headerEnd);
+            // bytes after the end of headers are the beginning of body
+            long bodyReceived = headerLength - headerEnd;
+            if (bodyRemaining >= 0) {
+                bodyRemaining = Math.max(0L, bodyRemaining - bodyReceived);
+            }
+            headers = null;
+        } else if (bodyRemaining > 0) {
+            bodyRemaining -= Math.min(bodyRemaining, buffer.remaining());
+        }
+        buffer.position(buffer.limit());
+        // the length of body is unknown, such as chunked, complete after status code received and close connection.
+        return bodyRemaining <= 0;
+    }
+    
+    boolean hasReceived() {
+        return headerComplete || headerLength > 0;
+    }
+    
+    int getStatusCode() {
+        return statusCode;
+    }
+    
+    /**
+     * Whether the connection can be reused by next request after the response completed.
+     *
+     * @return {@code true} if the body is fully consumed and server keeps the connection alive
+     */
+    boolean isReusable() {
+        return reusable && bodyRemaining == 0;
+    }
+    
+    private int appendHeaders(ByteBuffer buffer) throws IOException {
+        int length = buffer.remaining();
+        if (headerLength + length > headers.length) {
+            int newLength = Math.min(MAX_HEADER_SIZE, Math.max(headers.length * 2, headerLength + length));
+            if (newLength < headerLength + length) {
+                length = newLength - headerLength;
+            }
+            headers = Arrays.copyOf(headers, newLength);
+        }
+        int searchFrom = Math.max(0, headerLength - HEADER_END.length + 1);
+        buffer.get(headers, headerLength, length);
+        headerLength += length;
+        for (int i = searchFrom; i + HEADER_END.length <= headerLength; i++) {
+            if (isHeaderEnd(i)) {
+                headerComplete = true;
+                return i + HEADER_END.length;
+            }
+        }
+        if (headerLength >= MAX_HEADER_SIZE) {
+            throw new IOException("http response headers too large");
+        }
+        return -1;
+    }
+    
+    private boolean isHeaderEnd(int offset) {
+        for (int i = 0; i < HEADER_END.length; i++) {
+            if (headers[offset + i] != HEADER_END[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void parseHeaders(int headerEnd) throws IOException {
+        String[] lines = new String(headers, 0, headerEnd, StandardCharsets.ISO_8859_1).split("\r\n");
+        String[] statusLine = lines[0].split(" ", 3);
+        if (statusLine.length < STATUS_LINE_MIN_PARTS || !statusLine[0].startsWith(HTTP_VERSION_PREFIX)) {
+            throw new IOException("invalid http status line: " + lines[0]);
+        }
+        try {
+            statusCode = Integer.parseInt(statusLine[1]);
+        } catch (NumberFormatException e) {
+            throw new IOException("invalid http status line: " + lines[0]);
+        }
+        boolean keepAlive = !"HTTP/1.0".equals(statusLine[0]);
+        boolean chunked = false;
+        long contentLength = -1L;
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String name = lines[i].substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = lines[i].substring(colon + 1).trim().toLowerCase(Locale.ROOT);
+            if ("content-length".equals(name)) {
+                try {
+                    contentLength = Long.parseLong(value);
+                } catch (NumberFormatException e) {
+                    throw new IOException("invalid content length: " + value);
+                }
+            } else if ("transfer-encoding".equals(name)) {
+                chunked = value.contains("chunked");
+            } else if ("connection".equals(name)) {
+                keepAlive = value.contains("keep-alive") || (keepAlive && !value.contains("close"));
+            }
+        }
+        if (isBodyless(statusCode)) {
+            contentLength = 0L;
+        }
+        reusable = keepAlive && !chunked && contentLength >= 0;
+        bodyRemaining = chunked ? -1L : contentLength;
+    }
+    
+    private boolean isBodyless(int code) {
+        return code / 100 == 1 || code == 204 || code == 304;
+    }
+}
@@ -20,31 +20,30 @@ import com.alibaba.nacos.api.naming.pojo.healthcheck.HealthCheckType;
 import com.alibaba.nacos.api.naming.pojo.healthcheck.impl.Http;
 import com.alibaba.nacos.common.http.Callback;
 import com.alibaba.nacos.common.http.HttpUtils;
-import com.alibaba.nacos.common.http.client.NacosAsyncRestTemplate;
-import com.alibaba.nacos.common.http.param.Header;
-import com.alibaba.nacos.common.http.param.Query;
 import com.alibaba.nacos.common.model.RestResult;
 import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
-import com.alibaba.nacos.naming.misc.HttpClientManager;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.misc.UtilsAndCommons;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import org.springframework.stereotype.Component;
 
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.HashMap;
 import java.util.Map;
 
 import static com.alibaba.nacos.common.constant.RequestUrlConstants.HTTP_PREFIX;
 import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
 
 /**
- * TCP health check processor for v2.x.
+ * HTTP health check processor for v2.x.
  *
- * <p>Current health check logic is same as v1.x. TODO refactor health check for v2.x.
+ * <p>Requests are sent by {@link NioHealthCheckEngine} with kept alive connections, the result is handled by the same
+ * logic as v1.x.
  *
  * @author xiweng.yy
  */
@@ -53,9 +52,6 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
     
     public static final String TYPE = HealthCheckType.HTTP.name();
     
-    private static final NacosAsyncRestTemplate ASYNC_REST_TEMPLATE = HttpClientManager
-            .getProcessorNacosAsyncRestTemplate();
-    
     private final HealthCheckCommonV2 healthCheckCommon;
     
     private final SwitchDomain switchDomain;
@@ -86,12 +82,13 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
             int ckPort = metadata.isUseInstancePortForCheck() ? instance.getPort() : metadata.getHealthyCheckPort();
             URL host = new URL(HTTP_PREFIX + instance.getIp() + ":" + ckPort);
             URL target = new URL(host, healthChecker.getPath());
-            Map<String, String> customHeaders = healthChecker.getCustomHeaders();
-            Header header = Header.newInstance();
-            header.addAll(customHeaders);
+            Map<String, String> headers = new HashMap<>(4);
+            headers.put("User-Agent", UtilsAndCommons.SERVER_VERSION);
+            headers.putAll(healthChecker.getCustomHeaders());
             
-            ASYNC_REST_TEMPLATE.get(target.toString(), header, Query.EMPTY, String.class,
-                    new HttpHealthCheckCallback(instance, task, service));
+            NioHealthCheckEngine.getInstance()
+                    .probeHttp(instance.getIp(), ckPort, target.getFile(), headers,
+                            new HttpHealthCheckCallback(instance, task, service));
             MetricsMonitor.getHttpHealthCheckMonitor().incrementAndGet();
         } catch (Throwable e) {
             instance.setCheckRt(switchDomain.getHttpHealthParams().getMax());
@@ -106,7 +103,7 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         return TYPE;
     }
     
-    private class HttpHealthCheckCallback implements Callback<String> {
+    private class HttpHealthCheckCallback implements Callback<String>, NioHealthCheckEngine.ProbeCallback {
         
         private final HealthCheckTaskV2 task;
         
@@ -172,7 +169,25 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         @Override
         public void onCancel() {
+            // too many checks in flight for the target, skip this round and check later.
+            instance.finishCheck();
+            healthCheckCommon
+                    .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getHttpHealthParams());
+        }
+        
+        @Override
+        public void onSuccess(int code) {
+            onReceive(new RestResult<>(code, null, null));
+        }
         
+        @Override
+        public void onFailure(Throwable throwable) {
+            onError(throwable);
+        }
+        
+        @Override
+        public void onRejected() {
+            onCancel();
         }
     }
 }
@@ -0,0 +1,685 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
+
+/**
+ * Non-blocking engine of TCP and HTTP health check.
+ *
+ * <p>All probes are driven by a few event loops, each loop owns one {@link Selector} (epoll on Linux) and the state of
+ * the targets pinned to it by address, so no lock is needed for the state of targets. For each target:
+ * <ul>
+ *     <li>the in-flight probes are limited, exceeded probes are rejected instead of queued;</li>
+ *     <li>the timeout adapts to the smoothed round trip time of the target, between the min timeout and the max
+ *     timeout of the probe type. The max timeouts default to the timeouts of the blocking checks, which are
+ *     {@link #DEFAULT_MAX_TCP_TIMEOUT_MILLIS} for TCP and {@link #DEFAULT_MAX_HTTP_TIMEOUT_MILLIS} (connect plus read)
+ *     for HTTP, and can be changed by {@code nacos.naming.health.nio.minTimeout},
+ *     {@code nacos.naming.health.nio.maxTcpTimeout} and {@code nacos.naming.health.nio.maxHttpTimeout};</li>
+ *     <li>HTTP connections are kept alive and reused by next probe, one stale reused connection is retried by a new
+ *     connection.</li>
+ * </ul>
+ * The state of target without any probe for a while is evicted, so the memory is bounded by active targets.
+ *
+ * @author Nacos
+ */
+public class NioHealthCheckEngine {
+    
+    public static final long DEFAULT_MIN_TIMEOUT_MILLIS = 100L;
+    
+    public static final long DEFAULT_MAX_TCP_TIMEOUT_MILLIS = 500L;
+    
+    public static final long DEFAULT_MAX_HTTP_TIMEOUT_MILLIS = 1000L;
+    
+    private static final String MIN_TIMEOUT_PROPERTY = "nacos.naming.health.nio.minTimeout";
+    
+    private static final String MAX_TCP_TIMEOUT_PROPERTY = "nacos.naming.health.nio.maxTcpTimeout";
+    
+    private static final String MAX_HTTP_TIMEOUT_PROPERTY = "nacos.naming.health.nio.maxHttpTimeout";
+    
+    private static final String MAX_PROBES_PER_TARGET_PROPERTY = "nacos.naming.health.nio.maxProbesPerTarget";
+    
+    private static final String MAX_IDLE_CONNECTIONS_PROPERTY = "nacos.naming.health.nio.maxIdleConnections";
+    
+    private static final String EVENT_LOOP_COUNT_PROPERTY = "nacos.naming.health.nio.eventLoops";
+    
+    private static final int DEFAULT_MAX_PROBES_PER_TARGET = 2;
+    
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 4096;
+    
+    private static final long IDLE_CONNECTION_TIMEOUT_MILLIS = 15000L;
+    
+    private static final long TARGET_EXPIRE_MILLIS = 60000L;
+    
+    private static final long EVICT_INTERVAL_MILLIS = 1000L;
+    
+    private static final int READ_BUFFER_SIZE = 4096;
+    
+    private static final int RTT_VARIANCE_FACTOR = 4;
+    
+    private static final String HOST_HEADER = "Host";
+    
+    private final EventLoop[] eventLoops;
+    
+    private final Executor callbackExecutor;
+    
+    private final int maxProbesPerTarget;
+    
+    private final int maxIdleConnections;
+    
+    private final AtomicInteger idleConnectionCount = new AtomicInteger();
+    
+    private final long minTimeout = getPropertyFromEnv(MIN_TIMEOUT_PROPERTY, Long.class, DEFAULT_MIN_TIMEOUT_MILLIS);
+    
+    private final long maxTcpTimeout = Math.max(minTimeout,
+            getPropertyFromEnv(MAX_TCP_TIMEOUT_PROPERTY, Long.class, DEFAULT_MAX_TCP_TIMEOUT_MILLIS));
+    
+    private final long maxHttpTimeout = Math.max(minTimeout,
+            getPropertyFromEnv(MAX_HTTP_TIMEOUT_PROPERTY, Long.class, DEFAULT_MAX_HTTP_TIMEOUT_MILLIS));
+    
+    public NioHealthCheckEngine(String name, int eventLoopCount, Executor callbackExecutor) {
+        this(name, eventLoopCount, callbackExecutor,
+                getPropertyFromEnv(MAX_PROBES_PER_TARGET_PROPERTY, Integer.class, DEFAULT_MAX_PROBES_PER_TARGET),
+                getPropertyFromEnv(MAX_IDLE_CONNECTIONS_PROPERTY, Integer.class, DEFAULT_MAX_IDLE_CONNECTIONS));
+    }
+    
+    public NioHealthCheckEngine(String name, int eventLoopCount, Executor callbackExecutor, int maxProbesPerTarget,
+            int maxIdleConnections) {
+        this.callbackExecutor = callbackExecutor;
+        this.maxProbesPerTarget = Math.max(1, maxProbesPerTarget);
+        this.maxIdleConnections = Math.max(0, maxIdleConnections);
+        this.eventLoops = new EventLoop[Math.max(1, eventLoopCount)];
+        NameThreadFactory threadFactory = new NameThreadFactory(name);
+        for (int i = 0; i < eventLoops.length; i++) {
+            eventLoops[i] = new EventLoop();
+            threadFactory.newThread(eventLoops[i]).start();
+        }
+    }
+    
+    public static NioHealthCheckEngine getInstance() {
+        return EngineHolder.INSTANCE;
+    }
+    
+    /**
+     * Probe whether the TCP port of target is connectable.
+     *
+     * @param ip       ip of target
+     * @param port     port of target
+     * @param callback callback of probe result, status code is always {@code 0}
+     */
+    public void probeTcp(String ip, int port, ProbeCallback callback) {
+        submit(new Probe(ip, port, null, callback));
+    }
+    
+    /**
+     * Probe target by HTTP GET request, the connection will be kept alive and reused.
+     *
+     * @param ip       ip of target
+     * @param port     port of target
+     * @param path     path and query of request
+     * @param headers  headers of request
+     * @param callback callback of probe result
+     */
+    public void probeHttp(String ip, int port, String path, Map<String, String> headers, ProbeCallback callback) {
+        StringBuilder request = new StringBuilder(128);
+        request.append("GET ").append(path.isEmpty() ? "/" : path).append(" HTTP/1.1\r\n");
+        if (null == headers || !headers.containsKey(HOST_HEADER)) {
+            request.append(HOST_HEADER).append(": ").append(ip).append(':').append(port).append("\r\n");
+        }
+        if (null != headers) {
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                request.append(entry.getKey()).append(": ").append(entry.getValue()).append("\r\n");
+            }
+        }
+        request.append("Connection: keep-alive\r\n\r\n");
+        submit(new Probe(ip, port, request.toString().getBytes(StandardCharsets.ISO_8859_1), callback));
+    }
+    
+    private void submit(Probe probe) {
+        int index = (probe.targetKey.hashCode() & Integer.MAX_VALUE) % eventLoops.length;
+        eventLoops[index].submit(probe);
+    }
+    
+    public int getTargetCount() {
+        int result = 0;
+        for (EventLoop each : eventLoops) {
+            result += each.targetCount;
+        }
+        return result;
+    }
+    
+    public int getIdleConnectionCount() {
+        return idleConnectionCount.get();
+    }
+    
+    /**
+     * Shutdown the engine, all connections will be closed and the in-flight probes will not be called back.
+     */
+    public void shutdown() {
+        for (EventLoop each : eventLoops) {
+            each.shutdown();
+        }
+    }
+    
+    private void dispatch(Runnable callback) {
+        try {
+            callbackExecutor.execute(callback);
+        } catch (Throwable e) {
+            SRV_LOG.error("[HEALTH-CHECK-V2] dispatch health check callback failed", e);
+        }
+    }
+    
+    /**
+     * Callback of probe, called by the callback executor of engine.
+     */
+    public interface ProbeCallback {
+        
+        /**
+         * Target responded.
+         *
+         * @param code HTTP status code, or {@code 0} for TCP probe
+         */
+        void onSuccess(int code);
+        
+        /**
+         * Probe failed, {@link SocketTimeoutException} for timeout, {@link ConnectException} for refused connection.
+         *
+         * @param throwable cause of failure
+         */
+        void onFailure(Throwable throwable);
+        
+        /**
+         * Probe is rejected because the in-flight probes of target exceed limit.
+         */
+        void onRejected();
+    }
+    
+    private static <T> T getPropertyFromEnv(String key, Class<T> targetType, T defaultValue) {
+        try {
+            return EnvUtil.getProperty(key, targetType, defaultValue);
+        } catch (Exception e) {
+            SRV_LOG.warn("Get {} from env failed, will use default value {}", key, defaultValue, e);
+            return defaultValue;
+        }
+    }
+    
+    private static class EngineHolder {
+        
+        private static final NioHealthCheckEngine INSTANCE = new NioHealthCheckEngine(
+                "com.alibaba.nacos.naming.health.nio",
+                getPropertyFromEnv(EVENT_LOOP_COUNT_PROPERTY, Integer.class, EnvUtil.getAvailableProcessors(0.25)),
+                GlobalExecutor::executeTcpSuperSense);
+    }
+    
+    private static class Probe {
+        
+        private final String targetKey;
+        
+        private final String ip;
+        
+        private final int port;
+        
+        private final byte[] request;
+        
+        private final ProbeCallback callback;
+        
+        private Target target;
+        
+        private SocketChannel channel;
+        
+        private ByteBuffer requestBuffer;
+        
+        private HealthCheckHttpResponseParser parser;
+        
+        private boolean reused;
+        
+        private boolean done;
+        
+        private long deadline;
+        
+        private long startTime;
+        
+        private Probe(String ip, int port, byte[] request, ProbeCallback callback) {
+            this.targetKey = ip + ":" + port;
+            this.ip = ip;
+            this.port = port;
+            this.request = request;
+            this.callback = callback;
+        }
+        
+        private boolean isHttp() {
+            return null != request;
+        }
+    }
+    
+    private static class Target {
+        
+        private final InetSocketAddress address;
+        
+        private final ArrayDeque<IdleConnection> idleConnections = new ArrayDeque<>(DEFAULT_MAX_PROBES_PER_TARGET);
+        
+        private int inflight;
+        
+        private long smoothedRtt = -1L;
+        
+        private long rttVariance;
+        
+        private long lastActiveTime;
+        
+        private Target(InetSocketAddress address) {
+            this.address = address;
+        }
+        
+        private long getTimeout(long minTimeout, long maxTimeout) {
+            if (smoothedRtt < 0) {
+                return maxTimeout;
+            }
+            long timeout = smoothedRtt + RTT_VARIANCE_FACTOR * rttVariance;
+            return Math.min(maxTimeout, Math.max(minTimeout, timeout));
+        }
+        
+        /**
+         * Update smoothed rtt and variance like TCP retransmission timer, see RFC 6298.
+         */
+        private void sampleRtt(long rtt) {
+            if (smoothedRtt < 0) {
+                smoothedRtt = rtt;
+                rttVariance = rtt / 2;
+            } else {
+                rttVariance = (3 * rttVariance + Math.abs(smoothedRtt - rtt)) / 4;
+                smoothedRtt = (7 * smoothedRtt + rtt) / 8;
+            }
+        }
+        
+        /**
+         * Timeout might be caused by a too aggressive timer, fall back to max timeout until the next success.
+         */
+        private void backoff() {
+            smoothedRtt = -1L;
+        }
+    }
+    
+    private static class IdleConnection {
+        
+        private final Target target;
+        
+        private final SocketChannel channel;
+        
+        private final long idleSince;
+        
+        private IdleConnection(Target target, SocketChannel channel, long idleSince) {
+            this.target = target;
+            this.channel = channel;
+            this.idleSince = idleSince;
+        }
+    }
+    
+    private class EventLoop implements Runnable {
+        
+        private final Queue<Probe> newProbes = new ConcurrentLinkedQueue<>();
+        
+        private final PriorityQueue<Probe> deadlines = new PriorityQueue<>(
+                Comparator.comparingLong(probe -> probe.deadline));
+        
+        private final Map<String, Target> targets = new HashMap<>();
+        
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        
+        private final AtomicBoolean wakenUp = new AtomicBoolean();
+        
+        private final Selector selector;
+        
+        private volatile boolean running = true;
+        
+        private volatile int targetCount;
+        
+        private long lastEvictTime = System.currentTimeMillis();
+        
+        private EventLoop() {
+            try {
+                selector = Selector.open();
+            } catch (IOException e) {
+                throw new IllegalStateException("Error while opening selector of health check", e);
+            }
+        }
+        
+        private void submit(Probe probe) {
+            newProbes.offer(probe);
+            if (wakenUp.compareAndSet(false, true)) {
+                selector.wakeup();
+            }
+        }
+        
+        private void shutdown() {
+            running = false;
+            selector.wakeup();
+        }
+        
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    long timeout = nextSelectTimeout();
+                    if (timeout > 0) {
+                        selector.select(timeout);
+                    } else {
+                        selector.selectNow();
+                    }
+                    wakenUp.set(false);
+                    processSelectedKeys();
+                    processNewProbes();
+                    long now = System.currentTimeMillis();
+                    processDeadlines(now);
+                    if (now - lastEvictTime >= EVICT_INTERVAL_MILLIS) {
+                        evictIdleTargets(now);
+                        lastEvictTime = now;
+                    }
+                } catch (Throwable e) {
+                    SRV_LOG.error("[HEALTH-CHECK-V2] error while processing NIO health check", e);
+                }
+            }
+            closeAll();
+        }
+        
+        private long nextSelectTimeout() {
+            if (!newProbes.isEmpty()) {
+                return 0L;
+            }
+            long now = System.currentTimeMillis();
+            long next = lastEvictTime + EVICT_INTERVAL_MILLIS;
+            Probe first = deadlines.peek();
+            if (null != first) {
+                next = Math.min(next, first.deadline);
+            }
+            return Math.max(0L, next - now);
+        }
+        
+        private void processNewProbes() {
+            Probe probe;
+            while (null != (probe = newProbes.poll())) {
+                Target target = targets.get(probe.targetKey);
+                if (null == target) {
+                    target = new Target(new InetSocketAddress(probe.ip, probe.port));
+                    targets.put(probe.targetKey, target);
+                    targetCount = targets.size();
+                }
+                if (target.inflight >= maxProbesPerTarget) {
+                    dispatch(probe.callback::onRejected);
+                    continue;
+                }
+                target.inflight++;
+                probe.target = target;
+                probe.startTime = System.currentTimeMillis();
+                probe.deadline = probe.startTime + target
+                        .getTimeout(minTimeout, probe.isHttp() ? maxHttpTimeout : maxTcpTimeout);
+                deadlines.add(probe);
+                start(probe);
+            }
+        }
+        
+        private void start(Probe probe) {
+            if (probe.isHttp()) {
+                IdleConnection idle = pollIdleConnection(probe.target);
+                if (null != idle) {
+                    probe.reused = true;
+                    probe.channel = idle.channel;
+                    try {
+                        startRequest(probe, idle.channel.keyFor(selector));
+                    } catch (Throwable e) {
+                        onChannelError(probe, e);
+                    }
+                    return;
+                }
+            }
+            connect(probe);
+        }
+        
+        private void connect(Probe probe) {
+            try {
+                SocketChannel channel = SocketChannel.open();
+                probe.channel = channel;
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                channel.socket().setSoLinger(false, -1);
+                SelectionKey key = channel.register(selector, 0, probe);
+                if (channel.connect(probe.target.address)) {
+                    onConnected(probe, key);
+                } else {
+                    key.interestOps(SelectionKey.OP_CONNECT);
+                }
+            } catch (Throwable e) {
+                fail(probe, e);
+            }
+        }
+        
+        private void onConnected(Probe probe, SelectionKey key) {
+            if (probe.isHttp()) {
+                startRequest(probe, key);
+            } else {
+                succeed(probe, 0, false);
+            }
+        }
+        
+        private void startRequest(Probe probe, SelectionKey key) {
+            probe.requestBuffer = ByteBuffer.wrap(probe.request);
+            probe.parser = new HealthCheckHttpResponseParser();
+            key.attach(probe);
+            key.interestOps(SelectionKey.OP_WRITE);
+        }
+        
+        private void processSelectedKeys() {
+            Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+            while (iterator.hasNext()) {
+                SelectionKey key = iterator.next();
+                iterator.remove();
+                Object attachment = key.attachment();
+                if (attachment instanceof IdleConnection) {
+                    // server closed or sent unexpected data on idle connection, it can't be reused.
+                    IdleConnection idle = (IdleConnection) attachment;
+                    if (idle.target.idleConnections.remove(idle)) {
+                        idleConnectionCount.decrementAndGet();
+                    }
+                    closeQuietly(idle.channel);
+                } else if (attachment instanceof Probe) {
+                    processProbe(key, (Probe) attachment);
+                }
+            }
+        }
+        
+        private void processProbe(SelectionKey key, Probe probe) {
+            if (probe.done) {
+                return;
+            }
+            SocketChannel channel = (SocketChannel) key.channel();
+            try {
+                if (key.isConnectable()) {
+                    channel.finishConnect();
+                    onConnected(probe, key);
+                    return;
+                }
+                if (key.isWritable()) {
+                    channel.write(probe.requestBuffer);
+                    if (!probe.requestBuffer.hasRemaining()) {
+                        key.interestOps(SelectionKey.OP_READ);
+                    }
+                    return;
+                }
+                if (key.isReadable()) {
+                    readResponse(probe, channel);
+                }
+            } catch (Throwable e) {
+                onChannelError(probe, e);
+            }
+        }
+        
+        private void readResponse(Probe probe, SocketChannel channel) throws IOException {
+            readBuffer.clear();
+            int read = channel.read(readBuffer);
+            if (read < 0) {
+                throw new IOException("connection closed by peer");
+            }
+            readBuffer.flip();
+            if (probe.parser.feed(readBuffer)) {
+                succeed(probe, probe.parser.getStatusCode(), probe.parser.isReusable());
+            }
+        }
+        
+        private void onChannelError(Probe probe, Throwable throwable) {
+            boolean nothingReceived = null == probe.parser || !probe.parser.hasReceived();
+            if (probe.reused && nothingReceived) {
+                // the kept alive connection has been closed by server, retry once with a new connection.
+                probe.reused = false;
+                closeQuietly(probe.channel);
+                connect(probe);
+                return;
+            }
+            fail(probe, throwable);
+        }
+        
+        private void processDeadlines(long now) {
+            Probe probe;
+            while (null != (probe = deadlines.peek()) && (probe.done || probe.deadline <= now)) {
+                deadlines.poll();
+                if (!probe.done) {
+                    probe.target.backoff();
+                    fail(probe, new SocketTimeoutException(
+                            (null == probe.channel || !probe.channel.isConnected() ? "connect" : "read")
+                                    + " timed out after " + (now - probe.startTime) + "ms"));
+                }
+            }
+        }
+        
+        private void succeed(Probe probe, int code, boolean reusable) {
+            long now = System.currentTimeMillis();
+            probe.target.sampleRtt(now - probe.startTime);
+            boolean pooled = false;
+            if (reusable && probe.target.idleConnections.size() < maxProbesPerTarget) {
+                pooled = idleConnectionCount.incrementAndGet() <= maxIdleConnections;
+                if (!pooled) {
+                    // only revert the increment of this probe.
+                    idleConnectionCount.decrementAndGet();
+                }
+            }
+            if (pooled) {
+                recycle(probe, now);
+            } else {
+                closeQuietly(probe.channel);
+            }
+            complete(probe, now);
+            dispatch(() -> probe.callback.onSuccess(code));
+        }
+        
+        private void recycle(Probe probe, long now) {
+            IdleConnection idle = new IdleConnection(probe.target, probe.channel, now);
+            SelectionKey key = probe.channel.keyFor(selector);
+            key.attach(idle);
+            key.interestOps(SelectionKey.OP_READ);
+            probe.target.idleConnections.offerLast(idle);
+        }
+        
+        private void fail(Probe probe, Throwable throwable) {
+            closeQuietly(probe.channel);
+            complete(probe, System.currentTimeMillis());
+            dispatch(() -> probe.callback.onFailure(throwable));
+        }
+        
+        private void complete(Probe probe, long now) {
+            probe.done = true;
+            probe.channel = null;
+            probe.target.inflight--;
+            probe.target.lastActiveTime = now;
+        }
+        
+        private IdleConnection pollIdleConnection(Target target) {
+            IdleConnection result;
+            while (null != (result = target.idleConnections.pollLast())) {
+                idleConnectionCount.decrementAndGet();
+                if (result.channel.isOpen()) {
+                    return result;
+                }
+            }
+            return null;
+        }
+        
+        private void evictIdleTargets(long now) {
+            Iterator<Target> iterator = targets.values().iterator();
+            while (iterator.hasNext()) {
+                Target target = iterator.next();
+                IdleConnection idle;
+                while (null != (idle = target.idleConnections.peekFirst())
+                        && now - idle.idleSince >= IDLE_CONNECTION_TIMEOUT_MILLIS) {
+                    target.idleConnections.pollFirst();
+                    idleConnectionCount.decrementAndGet();
+                    closeQuietly(idle.channel);
+                }
+                if (0 == target.inflight && target.idleConnections.isEmpty()
+                        && now - target.lastActiveTime >= TARGET_EXPIRE_MILLIS) {
+                    iterator.remove();
+                }
+            }
+            targetCount = targets.size();
+        }
+        
+        private void closeAll() {
+            for (SelectionKey each : selector.keys()) {
+                closeQuietly(each.channel());
+            }
+            for (Target each : targets.values()) {
+                idleConnectionCount.addAndGet(-each.idleConnections.size());
+            }
+            targets.clear();
+            targetCount = 0;
+            closeQuietly(selector);
+        }
+        
+        private void closeQuietly(Closeable closeable) {
+            if (null == closeable) {
+                return;
+            }
+            try {
+                closeable.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+}
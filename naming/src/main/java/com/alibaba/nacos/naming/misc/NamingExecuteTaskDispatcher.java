@@ -18,6 +18,8 @@ package com.alibaba.nacos.naming.misc;
 
 import com.alibaba.nacos.common.task.AbstractExecuteTask;
 import com.alibaba.nacos.common.task.engine.NacosExecuteTaskExecuteEngine;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
 /**
@@ -32,7 +34,8 @@ public class NamingExecuteTaskDispatcher {
     private final NacosExecuteTaskExecuteEngine executeEngine;
     
     private NamingExecuteTaskDispatcher() {
-        executeEngine = new NacosExecuteTaskExecuteEngine(EnvUtil.FUNCTION_MODE_NAMING, Loggers.SRV_LOG);
+        executeEngine = new NacosExecuteTaskExecuteEngine(EnvUtil.FUNCTION_MODE_NAMING, Loggers.SRV_LOG,
+                ThreadUtils.getSuitableThreadCount(1), PushConfig.getInstance().isWorkStealingEnabled());
     }
     
     public static NamingExecuteTaskDispatcher getInstance() {
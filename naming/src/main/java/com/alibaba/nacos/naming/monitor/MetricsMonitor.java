@@ -71,12 +71,32 @@ public class MetricsMonitor {
     
     private final AtomicInteger emptyPush = new AtomicInteger();
     
+    private final AtomicInteger deltaPush = new AtomicInteger();
+    
+    private final AtomicInteger pushPayloadCacheHit = new AtomicInteger();
+    
+    private final AtomicInteger pushSelectResultCacheHit = new AtomicInteger();
+    
     private final AtomicInteger serviceSubscribedEventQueueSize = new AtomicInteger();
     
     private final AtomicInteger serviceChangedEventQueueSize = new AtomicInteger();
     
     private final AtomicInteger pushPendingTaskCount = new AtomicInteger();
     
+    private final AtomicLong serviceStorageRebuildCount = new AtomicLong();
+    
+    private final AtomicLong serviceStoragePatchCount = new AtomicLong();
+    
+    private final AtomicLong namingEventDeliveredCount = new AtomicLong();
+    
+    private final AtomicLong namingEventCoalescedCount = new AtomicLong();
+    
+    private final AtomicInteger healthCheckScheduledTasks = new AtomicInteger();
+    
+    private final AtomicLong healthCheckLateTaskCount = new AtomicLong();
+    
+    private final AtomicLong healthCheckMaxLateness = new AtomicLong();
+    
     /**
      * version -> naming subscriber count.
      */
@@ -182,6 +202,18 @@ public class MetricsMonitor {
         return INSTANCE.emptyPush;
     }
     
+    public static AtomicInteger getDeltaPushMonitor() {
+        return INSTANCE.deltaPush;
+    }
+    
+    public static AtomicInteger getPushPayloadCacheHitMonitor() {
+        return INSTANCE.pushPayloadCacheHit;
+    }
+    
+    public static AtomicInteger getPushSelectResultCacheHitMonitor() {
+        return INSTANCE.pushSelectResultCacheHit;
+    }
+    
     public static AtomicInteger getTotalPushCountForAvg() {
         return INSTANCE.totalPushCountForAvg;
     }
@@ -198,6 +230,34 @@ public class MetricsMonitor {
         return INSTANCE.pushPendingTaskCount;
     }
     
+    public static AtomicLong getServiceStorageRebuildCount() {
+        return INSTANCE.serviceStorageRebuildCount;
+    }
+    
+    public static AtomicLong getServiceStoragePatchCount() {
+        return INSTANCE.serviceStoragePatchCount;
+    }
+    
+    public static AtomicLong getNamingEventDeliveredCount() {
+        return INSTANCE.namingEventDeliveredCount;
+    }
+    
+    public static AtomicLong getNamingEventCoalescedCount() {
+        return INSTANCE.namingEventCoalescedCount;
+    }
+    
+    public static AtomicInteger getHealthCheckScheduledTasks() {
+        return INSTANCE.healthCheckScheduledTasks;
+    }
+    
+    public static AtomicLong getHealthCheckLateTaskCount() {
+        return INSTANCE.healthCheckLateTaskCount;
+    }
+    
+    public static AtomicLong getHealthCheckMaxLateness() {
+        return INSTANCE.healthCheckMaxLateness;
+    }
+    
     public static AtomicLong getTotalPushCostForAvg() {
         return INSTANCE.totalPushCostForAvg;
     }
@@ -235,6 +295,34 @@ public class MetricsMonitor {
         INSTANCE.emptyPush.incrementAndGet();
     }
     
+    public static void incrementServiceStorageRebuild() {
+        INSTANCE.serviceStorageRebuildCount.incrementAndGet();
+    }
+    
+    public static void incrementServiceStoragePatch() {
+        INSTANCE.serviceStoragePatchCount.incrementAndGet();
+    }
+    
+    public static void incrementNamingEventDelivered() {
+        INSTANCE.namingEventDeliveredCount.incrementAndGet();
+    }
+    
+    public static void incrementNamingEventCoalesced() {
+        INSTANCE.namingEventCoalescedCount.incrementAndGet();
+    }
+    
+    public static void incrementDeltaPush() {
+        INSTANCE.deltaPush.incrementAndGet();
+    }
+    
+    public static void incrementPushPayloadCacheHit() {
+        INSTANCE.pushPayloadCacheHit.incrementAndGet();
+    }
+    
+    public static void incrementPushSelectResultCacheHit() {
+        INSTANCE.pushSelectResultCacheHit.incrementAndGet();
+    }
+    
     public static void incrementInstanceCount() {
         INSTANCE.ipCount.incrementAndGet();
     }
@@ -314,6 +402,9 @@ public class MetricsMonitor {
         getTotalPushMonitor().set(0);
         getFailedPushMonitor().set(0);
         getEmptyPushMonitor().set(0);
+        getDeltaPushMonitor().set(0);
+        getPushPayloadCacheHitMonitor().set(0);
+        getPushSelectResultCacheHitMonitor().set(0);
         getTotalPushCostForAvg().set(0);
         getTotalPushCountForAvg().set(0);
         getMaxPushCostMonitor().set(-1);
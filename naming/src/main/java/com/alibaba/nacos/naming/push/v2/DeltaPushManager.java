@@ -0,0 +1,192 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.UtilsAndCommons;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import com.alibaba.nacos.naming.pojo.Subscriber;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Delta push manager.
+ *
+ * <p>Records the latest service info pushed to each subscriber, and builds the delta request against it for the
+ * clients with ability {@link AbilityKey#SDK_CLIENT_SUPPORT_DELTA_PUSH}. The recorded data is updated when the request
+ * is sent and removed when the push failed, so that the retry push is a full push.
+ *
+ * @author Nacos
+ */
+@Component
+public class DeltaPushManager extends SmartSubscriber {
+    
+    /**
+     * Delta changes more than 1/N of the hosts is not cheaper than full push.
+     */
+    private static final int MAX_DELTA_FRACTION = 2;
+    
+    private final ConnectionManager connectionManager;
+    
+    /**
+     * clientId -> (namespace##groupedServiceName -> pushed data).
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, PushedData>> pushedDataMap = new ConcurrentHashMap<>();
+    
+    public DeltaPushManager(ConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
+    }
+    
+    /**
+     * Build push request for subscriber, delta request will be built if possible.
+     *
+     * @param clientId          id of client
+     * @param subscriber        subscriber
+     * @param actualServiceInfo service info which should be pushed to subscriber
+     * @param serviceRevision   revision of service
+     * @return notify subscriber request
+     */
+    public NotifySubscriberRequest buildPushRequest(String clientId, Subscriber subscriber,
+            ServiceInfo actualServiceInfo, long serviceRevision) {
+        String key = buildKey(subscriber.getNamespaceId(), subscriber.getServiceName());
+        if (!isDeltaPushAvailable(clientId, actualServiceInfo)) {
+            invalidate(clientId, key);
+            return NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo, serviceRevision);
+        }
+        ConcurrentMap<String, PushedData> clientPushedData = pushedDataMap
+                .computeIfAbsent(clientId, id -> new ConcurrentHashMap<>(4));
+        PushedData base = clientPushedData.get(key);
+        // make sure each push to the same subscriber has different revision.
+        long revision = null == base ? serviceRevision : Math.max(serviceRevision, base.getRevision() + 1);
+        clientPushedData.put(key, new PushedData(revision, new ArrayList<>(actualServiceInfo.getHosts())));
+        if (null != base) {
+            InstancesDelta delta = InstancesDelta.compute(base.getHosts(), actualServiceInfo.getHosts());
+            if (delta.size() * MAX_DELTA_FRACTION < actualServiceInfo.getHosts().size()) {
+                MetricsMonitor.incrementDeltaPush();
+                return NotifySubscriberRequest
+                        .buildNotifySubscriberDeltaRequest(copyWithHosts(actualServiceInfo, delta.getUpsertHosts()),
+                                delta.getRemovedHosts(), base.getRevision(), revision);
+            }
+        }
+        return NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo, revision);
+    }
+    
+    /**
+     * Invalidate the pushed data of subscriber, next push to the subscriber will be full push.
+     *
+     * @param clientId   id of client
+     * @param subscriber subscriber
+     */
+    public void invalidate(String clientId, Subscriber subscriber) {
+        invalidate(clientId, buildKey(subscriber.getNamespaceId(), subscriber.getServiceName()));
+    }
+    
+    private void invalidate(String clientId, String key) {
+        Map<String, PushedData> clientPushedData = pushedDataMap.get(clientId);
+        if (null != clientPushedData) {
+            clientPushedData.remove(key);
+        }
+    }
+    
+    private boolean isDeltaPushAvailable(String clientId, ServiceInfo actualServiceInfo) {
+        if (!PushConfig.getInstance().isDeltaPushEnabled()
+                || actualServiceInfo.getHosts().size() < PushConfig.getInstance().getDeltaPushMinInstances()) {
+            return false;
+        }
+        Connection connection = connectionManager.getConnection(clientId);
+        if (null == connection || null == connection.getAbilityTable()) {
+            return false;
+        }
+        return Boolean.TRUE.equals(connection.getAbilityTable().get(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_PUSH.getName()));
+    }
+    
+    private ServiceInfo copyWithHosts(ServiceInfo serviceInfo, List<Instance> hosts) {
+        ServiceInfo result = new ServiceInfo();
+        result.setName(serviceInfo.getName());
+        result.setGroupName(serviceInfo.getGroupName());
+        result.setClusters(serviceInfo.getClusters());
+        result.setCacheMillis(serviceInfo.getCacheMillis());
+        result.setLastRefTime(serviceInfo.getLastRefTime());
+        result.setChecksum(serviceInfo.getChecksum());
+        result.setAllIPs(serviceInfo.isAllIPs());
+        result.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        result.setHosts(hosts);
+        return result;
+    }
+    
+    private String buildKey(String namespace, String groupedServiceName) {
+        return namespace + UtilsAndCommons.NAMESPACE_SERVICE_CONNECTOR + groupedServiceName;
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ClientOperationEvent.ClientUnsubscribeServiceEvent.class);
+        result.add(ClientEvent.ClientDisconnectEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ClientEvent.ClientDisconnectEvent) {
+            pushedDataMap.remove(((ClientEvent.ClientDisconnectEvent) event).getClient().getClientId());
+        } else if (event instanceof ClientOperationEvent.ClientUnsubscribeServiceEvent) {
+            Service service = ((ClientOperationEvent) event).getService();
+            String clientId = ((ClientOperationEvent) event).getClientId();
+            invalidate(clientId, buildKey(service.getNamespace(), service.getGroupedServiceName()));
+        }
+    }
+    
+    private static class PushedData {
+        
+        private final long revision;
+        
+        private final List<Instance> hosts;
+        
+        private PushedData(long revision, List<Instance> hosts) {
+            this.revision = revision;
+            this.hosts = hosts;
+        }
+        
+        public long getRevision() {
+            return revision;
+        }
+        
+        public List<Instance> getHosts() {
+            return hosts;
+        }
+    }
+}
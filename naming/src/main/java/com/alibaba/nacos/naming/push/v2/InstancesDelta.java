@@ -0,0 +1,97 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Delta of instances between two pushed instance lists.
+ *
+ * <p>Instances in the storage snapshot are shared between pushes, so the unchanged instances are matched by identity
+ * first, only the remaining instances need to be compared by content.
+ *
+ * @author Nacos
+ */
+public class InstancesDelta {
+    
+    private final List<Instance> upsertHosts;
+    
+    private final List<Instance> removedHosts;
+    
+    private InstancesDelta(List<Instance> upsertHosts, List<Instance> removedHosts) {
+        this.upsertHosts = upsertHosts;
+        this.removedHosts = removedHosts;
+    }
+    
+    /**
+     * Compute delta from base instances to latest instances.
+     *
+     * @param baseHosts   base instances
+     * @param latestHosts latest instances
+     * @return delta
+     */
+    public static InstancesDelta compute(List<Instance> baseHosts, List<Instance> latestHosts) {
+        Set<Instance> remainBaseHosts = Collections.newSetFromMap(new IdentityHashMap<>(baseHosts.size()));
+        remainBaseHosts.addAll(baseHosts);
+        List<Instance> changedHosts = new ArrayList<>();
+        for (Instance each : latestHosts) {
+            if (!remainBaseHosts.remove(each)) {
+                changedHosts.add(each);
+            }
+        }
+        if (changedHosts.isEmpty() && remainBaseHosts.isEmpty()) {
+            return new InstancesDelta(Collections.emptyList(), Collections.emptyList());
+        }
+        Set<Instance> unchangedContents = new HashSet<>(remainBaseHosts);
+        Set<String> upsertKeys = new HashSet<>(changedHosts.size());
+        List<Instance> upsertHosts = new ArrayList<>(changedHosts.size());
+        for (Instance each : changedHosts) {
+            upsertKeys.add(NamingUtils.getInstanceKey(each));
+            // same content but different object, such as copied by healthy protection
+            if (!unchangedContents.contains(each)) {
+                upsertHosts.add(each);
+            }
+        }
+        List<Instance> removedHosts = new ArrayList<>();
+        for (Instance each : remainBaseHosts) {
+            if (!upsertKeys.contains(NamingUtils.getInstanceKey(each))) {
+                removedHosts.add(each);
+            }
+        }
+        return new InstancesDelta(upsertHosts, removedHosts);
+    }
+    
+    public List<Instance> getUpsertHosts() {
+        return upsertHosts;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+    
+    public int size() {
+        return upsertHosts.size() + removedHosts.size();
+    }
+}
@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.push.v2;
 
 import com.alibaba.nacos.core.config.AbstractDynamicConfig;
 import com.alibaba.nacos.naming.constants.PushConstants;
+import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
 /**
@@ -37,11 +38,47 @@ public class PushConfig extends AbstractDynamicConfig {
     
     private long pushTaskRetryDelay = PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY;
     
+    private boolean deltaPushEnabled = PushConstants.DEFAULT_PUSH_DELTA_ENABLED;
+    
+    private int deltaPushMinInstances = PushConstants.DEFAULT_PUSH_DELTA_MIN_INSTANCES;
+    
+    /**
+     * Only read on startup, the push delay task engine can't change its shards at runtime.
+     */
+    private final int pushTaskShards;
+    
+    /**
+     * Only read on startup, the naming execute task workers can't be changed at runtime.
+     */
+    private final boolean workStealingEnabled;
+    
     private PushConfig() {
         super(PUSH);
+        pushTaskShards = getPushTaskShardsFromEnv();
+        workStealingEnabled = getWorkStealingEnabledFromEnv();
         resetConfig();
     }
     
+    private static int getPushTaskShardsFromEnv() {
+        try {
+            return EnvUtil.getProperty(PushConstants.PUSH_TASK_SHARDS, Integer.class,
+                    PushConstants.DEFAULT_PUSH_TASK_SHARDS);
+        } catch (Exception e) {
+            Loggers.PUSH.warn("Get push task shards from env failed, will use default value", e);
+            return PushConstants.DEFAULT_PUSH_TASK_SHARDS;
+        }
+    }
+    
+    private static boolean getWorkStealingEnabledFromEnv() {
+        try {
+            return EnvUtil.getProperty(PushConstants.PUSH_WORK_STEALING_ENABLED, Boolean.class,
+                    PushConstants.DEFAULT_PUSH_WORK_STEALING_ENABLED);
+        } catch (Exception e) {
+            Loggers.PUSH.warn("Get work stealing enabled from env failed, will use default value", e);
+            return PushConstants.DEFAULT_PUSH_WORK_STEALING_ENABLED;
+        }
+    }
+    
     @Override
     protected void getConfigFromEnv() {
         pushTaskDelay = EnvUtil
@@ -50,12 +87,18 @@ public class PushConfig extends AbstractDynamicConfig {
                 .getProperty(PushConstants.PUSH_TASK_TIMEOUT, Long.class, PushConstants.DEFAULT_PUSH_TASK_TIMEOUT);
         pushTaskRetryDelay = EnvUtil.getProperty(PushConstants.PUSH_TASK_RETRY_DELAY, Long.class,
                 PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY);
+        deltaPushEnabled = EnvUtil.getProperty(PushConstants.PUSH_DELTA_ENABLED, Boolean.class,
+                PushConstants.DEFAULT_PUSH_DELTA_ENABLED);
+        deltaPushMinInstances = EnvUtil.getProperty(PushConstants.PUSH_DELTA_MIN_INSTANCES, Integer.class,
+                PushConstants.DEFAULT_PUSH_DELTA_MIN_INSTANCES);
     }
     
     @Override
     protected String printConfig() {
         return "PushConfig{" + "pushTaskDelay=" + pushTaskDelay + ", pushTaskTimeout=" + pushTaskTimeout
-                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + '}';
+                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + ", deltaPushEnabled=" + deltaPushEnabled
+                + ", deltaPushMinInstances=" + deltaPushMinInstances + ", pushTaskShards=" + pushTaskShards
+                + ", workStealingEnabled=" + workStealingEnabled + '}';
     }
     
     public static PushConfig getInstance() {
@@ -73,4 +116,20 @@ public class PushConfig extends AbstractDynamicConfig {
     public long getPushTaskRetryDelay() {
         return pushTaskRetryDelay;
     }
+    
+    public boolean isDeltaPushEnabled() {
+        return deltaPushEnabled;
+    }
+    
+    public int getDeltaPushMinInstances() {
+        return deltaPushMinInstances;
+    }
+    
+    public int getPushTaskShards() {
+        return pushTaskShards;
+    }
+    
+    public boolean isWorkStealingEnabled() {
+        return workStealingEnabled;
+    }
 }
@@ -36,9 +36,22 @@ public class PushDataWrapper {
     
     private final Map<String, Object> processedDatum;
     
+    private final long revision;
+    
+    private final PushPayloadCache payloadCache;
+    
+    private final PushSelectResultCache selectResultCache;
+    
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this(serviceMetadata, originalData, 0L);
+    }
+    
+    public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData, long revision) {
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
+        this.revision = revision;
+        this.payloadCache = new PushPayloadCache();
+        this.selectResultCache = new PushSelectResultCache(serviceMetadata, originalData);
         processedDatum = new HashMap<>(1);
     }
     
@@ -50,6 +63,18 @@ public class PushDataWrapper {
         return serviceMetadata;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public PushPayloadCache getPayloadCache() {
+        return payloadCache;
+    }
+    
+    public PushSelectResultCache getSelectResultCache() {
+        return selectResultCache;
+    }
+    
     public <T> Optional<T> getProcessedPushData(String key) {
         return Optional.ofNullable((T) processedDatum.get(key));
     }
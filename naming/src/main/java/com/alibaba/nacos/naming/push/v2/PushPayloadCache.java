@@ -0,0 +1,132 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache of encoded push request body for one {@link PushDataWrapper}.
+ *
+ * <p>Subscribers of the same service usually get the same selected instances, the full push requests to them only
+ * differ in request id, so the request body is encoded once and shared. The selected instances are compared by
+ * identity, which is cheap because selector and cluster filter don't copy the instances of push data.
+ *
+ * <p>Not thread safe, it should only be used by the thread executing the push task.
+ *
+ * @author Nacos
+ */
+public class PushPayloadCache {
+    
+    /**
+     * Subscribers with too many different selected results, such as selected by subscriber ip, can't share the body.
+     */
+    private static final int MAX_CACHED_BODY = 32;
+    
+    private final Map<PayloadKey, byte[]> encodedBodies = new HashMap<>(4);
+    
+    /**
+     * Get encoded body of the push request, the body is encoded and cached if not exist.
+     *
+     * @param request push request
+     * @return encoded body without request id, or {@code null} if the request can't share the encoded body
+     */
+    public byte[] getEncodedBody(NotifySubscriberRequest request) {
+        if (request.isDelta() || null == request.getServiceInfo()) {
+            return null;
+        }
+        PayloadKey key = new PayloadKey(request.getRevision(), request.getServiceInfo());
+        byte[] result = encodedBodies.get(key);
+        if (null != result) {
+            MetricsMonitor.incrementPushPayloadCacheHit();
+            return result;
+        }
+        if (encodedBodies.size() >= MAX_CACHED_BODY) {
+            return null;
+        }
+        result = GrpcUtils.encodeRequestBody(request);
+        encodedBodies.put(key, result);
+        return result;
+    }
+    
+    private static class PayloadKey {
+        
+        private final long revision;
+        
+        private final ServiceInfo serviceInfo;
+        
+        private final int hashCode;
+        
+        private PayloadKey(long revision, ServiceInfo serviceInfo) {
+            this.revision = revision;
+            this.serviceInfo = serviceInfo;
+            this.hashCode = computeHashCode();
+        }
+        
+        private int computeHashCode() {
+            int result = Long.hashCode(revision);
+            result = 31 * result + Objects.hashCode(serviceInfo.getClusters());
+            result = 31 * result + Boolean.hashCode(serviceInfo.isReachProtectionThreshold());
+            for (Instance each : serviceInfo.getHosts()) {
+                result = 31 * result + System.identityHashCode(each);
+            }
+            return result;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PayloadKey that = (PayloadKey) o;
+            return revision == that.revision && hashCode == that.hashCode
+                    && serviceInfo.isReachProtectionThreshold() == that.serviceInfo.isReachProtectionThreshold()
+                    && Objects.equals(serviceInfo.getClusters(), that.serviceInfo.getClusters())
+                    && isSameHosts(serviceInfo.getHosts(), that.serviceInfo.getHosts());
+        }
+        
+        private boolean isSameHosts(List<Instance> hosts, List<Instance> otherHosts) {
+            if (hosts.size() != otherHosts.size()) {
+                return false;
+            }
+            Iterator<Instance> iterator = otherHosts.iterator();
+            for (Instance each : hosts) {
+                if (each != iterator.next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
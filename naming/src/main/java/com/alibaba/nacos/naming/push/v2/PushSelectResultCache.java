@@ -0,0 +1,129 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.selector.Selector;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.selector.SelectorManager;
+import com.alibaba.nacos.naming.utils.ServiceUtil;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache of selected service info for one {@link PushDataWrapper}.
+ *
+ * <p>The push data is one revision of service and the selector of service is fixed, so subscribers with the same
+ * cluster and the same consumer key of selector get the same selected result. The result is selected once and shared
+ * by these subscribers, which also makes the encoded body shared by {@link PushPayloadCache}.
+ *
+ * <p>Not thread safe, it should only be used by the thread executing the push task.
+ *
+ * @author Nacos
+ */
+public class PushSelectResultCache {
+    
+    /**
+     * Subscribers with too many different consumer keys, such as selected by subscriber ip, can't share the result.
+     */
+    private static final int MAX_CACHED_RESULT = 64;
+    
+    private final ServiceMetadata serviceMetadata;
+    
+    private final ServiceInfo originalData;
+    
+    private final Map<SelectKey, ServiceInfo> results = new HashMap<>(4);
+    
+    public PushSelectResultCache(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this.serviceMetadata = serviceMetadata;
+        this.originalData = originalData;
+    }
+    
+    /**
+     * Select instances with healthy protection for subscriber, the result is cached and shared by subscribers with
+     * the same select key.
+     *
+     * @param subscriber  subscriber
+     * @param healthyOnly whether only select instance which healthy
+     * @param enableOnly  whether only select instance which enabled
+     * @return selected service info, should not be modified
+     */
+    public ServiceInfo select(Subscriber subscriber, boolean healthyOnly, boolean enableOnly) {
+        SelectKey key = new SelectKey(subscriber.getCluster(), healthyOnly, enableOnly, getConsumerKey(subscriber));
+        ServiceInfo result = results.get(key);
+        if (null != result) {
+            MetricsMonitor.incrementPushSelectResultCacheHit();
+            return result;
+        }
+        result = ServiceUtil
+                .selectInstancesWithHealthyProtection(originalData, serviceMetadata, healthyOnly, enableOnly, subscriber);
+        if (results.size() < MAX_CACHED_RESULT) {
+            results.put(key, result);
+        }
+        return result;
+    }
+    
+    private Object getConsumerKey(Subscriber subscriber) {
+        Selector selector = null == serviceMetadata ? null : serviceMetadata.getSelector();
+        if (null == selector) {
+            return StringUtils.EMPTY;
+        }
+        return ApplicationUtils.getBean(SelectorManager.class).getConsumerKey(selector, subscriber.getIp());
+    }
+    
+    private static class SelectKey {
+        
+        private final String cluster;
+        
+        private final boolean healthyOnly;
+        
+        private final boolean enableOnly;
+        
+        private final Object consumerKey;
+        
+        private SelectKey(String cluster, boolean healthyOnly, boolean enableOnly, Object consumerKey) {
+            this.cluster = cluster;
+            this.healthyOnly = healthyOnly;
+            this.enableOnly = enableOnly;
+            this.consumerKey = consumerKey;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SelectKey that = (SelectKey) o;
+            return healthyOnly == that.healthyOnly && enableOnly == that.enableOnly && Objects
+                    .equals(cluster, that.cluster) && Objects.equals(consumerKey, that.consumerKey);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(cluster, healthyOnly, enableOnly, consumerKey);
+        }
+    }
+}
@@ -21,9 +21,9 @@ import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.DeltaPushManager;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
-import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
 /**
@@ -36,14 +36,19 @@ public class PushExecutorRpcImpl implements PushExecutor {
     
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final DeltaPushManager deltaPushManager;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, DeltaPushManager deltaPushManager) {
         this.pushService = pushService;
+        this.deltaPushManager = deltaPushManager;
     }
     
     @Override
     public void doPush(String clientId, Subscriber subscriber, PushDataWrapper data) {
-        pushService.pushWithoutAck(clientId,
-                NotifySubscriberRequest.buildNotifySubscriberRequest(getServiceInfo(data, subscriber)));
+        // push without ack can't know whether client applied it, so next push must be full push.
+        deltaPushManager.invalidate(clientId, subscriber);
+        pushService.pushWithoutAck(clientId, NotifySubscriberRequest
+                .buildNotifySubscriberRequest(getServiceInfo(data, subscriber), data.getRevision()));
     }
     
     @Override
@@ -51,13 +56,53 @@ public class PushExecutorRpcImpl implements PushExecutor {
             NamingPushCallback callBack) {
         ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
         callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        NotifySubscriberRequest request = deltaPushManager
+                .buildPushRequest(clientId, subscriber, actualServiceInfo, data.getRevision());
+        byte[] encodedBody = data.getPayloadCache().getEncodedBody(request);
+        pushService.pushWithCallback(clientId, request, encodedBody,
+                new DeltaAwarePushCallback(clientId, subscriber, callBack), GlobalExecutor.getCallbackExecutor());
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
-        return ServiceUtil
-                .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
-                        subscriber);
+        return data.getSelectResultCache().select(subscriber, false, true);
+    }
+    
+    /**
+     * Invalidate the pushed data of subscriber when push failed, so that the retry push will be full push.
+     */
+    private class DeltaAwarePushCallback implements NamingPushCallback {
+        
+        private final String clientId;
+        
+        private final Subscriber subscriber;
+        
+        private final NamingPushCallback delegate;
+        
+        private DeltaAwarePushCallback(String clientId, Subscriber subscriber, NamingPushCallback delegate) {
+            this.clientId = clientId;
+            this.subscriber = subscriber;
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public long getTimeout() {
+            return delegate.getTimeout();
+        }
+        
+        @Override
+        public void onSuccess() {
+            delegate.onSuccess();
+        }
+        
+        @Override
+        public void onFail(Throwable e) {
+            deltaPushManager.invalidate(clientId, subscriber);
+            delegate.onFail(e);
+        }
+        
+        @Override
+        public void setActualServiceInfo(ServiceInfo serviceInfo) {
+            delegate.setActualServiceInfo(serviceInfo);
+        }
     }
 }
@@ -68,9 +68,7 @@ public class PushExecutorUdpImpl implements PushExecutor {
      * @return new service info for 1.x
      */
     private ServiceInfo replaceServiceInfoName(PushDataWrapper originalData, Subscriber subscriber) {
-        ServiceInfo serviceInfo = ServiceUtil
-                .selectInstancesWithHealthyProtection(originalData.getOriginalData(), originalData.getServiceMetadata(),
-                        false, true, subscriber);
+        ServiceInfo serviceInfo = originalData.getSelectResultCache().select(subscriber, false, true);
         ServiceInfo result = new ServiceInfo();
         result.setName(NamingUtils.getGroupedName(serviceInfo.getName(), serviceInfo.getGroupName()));
         result.setClusters(serviceInfo.getClusters());
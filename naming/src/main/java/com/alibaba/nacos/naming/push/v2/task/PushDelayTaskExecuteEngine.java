@@ -18,7 +18,7 @@ package com.alibaba.nacos.naming.push.v2.task;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
-import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
+import com.alibaba.nacos.common.task.engine.NacosDeadlineDelayTaskExecuteEngine;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
@@ -27,14 +27,18 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.NamingExecuteTaskDispatcher;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 
 /**
  * Nacos naming push delay task execute engine.
  *
+ * <p>Push tasks are processed by deadline and sharded by service, the shards are read on startup from
+ * {@link PushConfig#getPushTaskShards()}.
+ *
  * @author xiweng.yy
  */
-public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
+public class PushDelayTaskExecuteEngine extends NacosDeadlineDelayTaskExecuteEngine {
     
     private final ClientManager clientManager;
     
@@ -51,7 +55,8 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     public PushDelayTaskExecuteEngine(ClientManager clientManager, ClientServiceIndexesManager indexesManager,
                                       ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
                                       PushExecutor pushExecutor, SwitchDomain switchDomain) {
-        super(PushDelayTaskExecuteEngine.class.getSimpleName(), Loggers.PUSH);
+        super(PushDelayTaskExecuteEngine.class.getSimpleName(), 32, Loggers.PUSH, 100L,
+                PushConfig.getInstance().getPushTaskShards());
         this.clientManager = clientManager;
         this.indexesManager = indexesManager;
         this.serviceStorage = serviceStorage;
@@ -82,11 +87,11 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     }
     
     @Override
-    protected void processTasks() {
+    protected void processTasks(int shardIndex) {
         if (!switchDomain.isPushEnabled()) {
             return;
         }
-        super.processTasks();
+        super.processTasks(shardIndex);
     }
     
     private static class PushDelayTaskProcessor implements NacosTaskProcessor {
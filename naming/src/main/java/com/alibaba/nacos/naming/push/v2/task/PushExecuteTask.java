@@ -79,9 +79,11 @@ public class PushExecuteTask extends AbstractExecuteTask {
     }
     
     private PushDataWrapper generatePushData() {
+        // Read revision before data, so the pushed data is never older than the revision.
+        long revision = service.getRevision();
         ServiceInfo serviceInfo = delayTaskEngine.getServiceStorage().getPushData(service);
         ServiceMetadata serviceMetadata = delayTaskEngine.getMetadataManager().getServiceMetadata(service).orElse(null);
-        return new PushDataWrapper(serviceMetadata, serviceInfo);
+        return new PushDataWrapper(serviceMetadata, serviceInfo, revision);
     }
     
     private Collection<String> getTargetClientIds() {
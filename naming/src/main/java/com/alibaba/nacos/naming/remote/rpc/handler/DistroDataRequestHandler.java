@@ -22,10 +22,12 @@ import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotPartition;
 import com.alibaba.nacos.core.remote.RequestHandler;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientVerifyTree;
 import com.alibaba.nacos.naming.misc.Loggers;
 import org.springframework.stereotype.Component;
 
@@ -39,8 +41,11 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
     
     private final DistroProtocol distroProtocol;
     
-    public DistroDataRequestHandler(DistroProtocol distroProtocol) {
+    private final DistroClientVerifyTree verifyTree;
+    
+    public DistroDataRequestHandler(DistroProtocol distroProtocol, DistroClientVerifyTree verifyTree) {
         this.distroProtocol = distroProtocol;
+        this.verifyTree = verifyTree;
     }
     
     @Override
@@ -50,7 +55,7 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
                 case VERIFY:
                     return handleVerify(request.getDistroData(), meta);
                 case SNAPSHOT:
-                    return handleSnapshot();
+                    return handleSnapshot(request.getDistroData());
                 case ADD:
                 case CHANGE:
                 case DELETE:
@@ -71,15 +76,23 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
     
     private DistroDataResponse handleVerify(DistroData distroData, RequestMeta meta) {
         DistroDataResponse result = new DistroDataResponse();
+        if (DistroClientVerifyTree.isTreeVerifyData(distroData)) {
+            result.setDistroData(
+                    verifyTree.processVerifyData(distroData, distroData.getDistroKey().getTargetServer()));
+            return result;
+        }
         if (!distroProtocol.onVerify(distroData, meta.getClientIp())) {
             result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] distro data verify failed");
         }
         return result;
     }
     
-    private DistroDataResponse handleSnapshot() {
+    private DistroDataResponse handleSnapshot(DistroData requestData) {
         DistroDataResponse result = new DistroDataResponse();
-        DistroData distroData = distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE);
+        DistroSnapshotPartition partition = null == requestData || null == requestData.getDistroKey() ? null
+                : DistroSnapshotPartition.parse(requestData.getDistroKey().getResourceKey());
+        DistroData distroData = null == partition ? distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE)
+                : distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE, partition);
         result.setDistroData(distroData);
         return result;
     }
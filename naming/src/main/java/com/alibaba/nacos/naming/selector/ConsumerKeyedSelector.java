@@ -0,0 +1,37 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.selector;
+
+/**
+ * Selector whose select result only depends on part of the consumer information.
+ *
+ * <p>Consumers with equal consumer key get the same select result from the same providers, so the result can be
+ * selected once and shared by these consumers.
+ *
+ * @param <C> type of select context
+ * @author Nacos
+ */
+public interface ConsumerKeyedSelector<C> {
+    
+    /**
+     * Get the key of consumer which decides the select result.
+     *
+     * @param consumerContext select context which only contains the consumer
+     * @return key of consumer, should implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+     */
+    Object getConsumerKey(C consumerContext);
+}
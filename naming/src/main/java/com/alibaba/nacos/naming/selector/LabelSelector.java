@@ -26,13 +26,14 @@ import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.naming.selector.interpreter.ExpressionInterpreter;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * The {@link LabelSelector} will return the instances labels in {@link #labels} and providers' label value is same with consumer.
@@ -41,71 +42,115 @@ import java.util.stream.Collectors;
  * @author chenglu
  * @date 2021-07-16 16:26
  */
-public class LabelSelector<T extends Instance> extends AbstractCmdbSelector<T> {
+public class LabelSelector<T extends Instance> extends AbstractCmdbSelector<T>
+        implements ConsumerKeyedSelector<CmdbContext<T>> {
     
     private static final String TYPE = "label";
     
+    /**
+     * Consumer key of the consumers which miss any label, all providers will be returned to them.
+     */
+    private static final String ALL_PROVIDERS_KEY = "*";
+    
     /**
      * {@link Entity} labels key.
      */
     private Set<String> labels;
     
+    /**
+     * Immutable array of {@link #labels}, compiled once and used for all selects.
+     */
+    private transient volatile String[] compiledLabels;
+    
     public Set<String> getLabels() {
         return labels;
     }
     
     public void setLabels(Set<String> labels) {
         this.labels = labels;
+        this.compiledLabels = null;
     }
     
     @Override
     protected List<T> doSelect(CmdbContext<T> context) {
-        if (CollectionUtils.isEmpty(labels)) {
-            return context.getProviders()
-                    .stream()
-                    .map(CmdbContext.CmdbInstance::getInstance)
-                    .collect(Collectors.toList());
+        String[] consumerLabelValues = getConsumerLabelValues(context.getConsumer());
+        // if consumer misses any label, none of providers will match, then return all providers.
+        if (null == consumerLabelValues) {
+            return allProviders(context);
+        }
+        String[] compiled = getCompiledLabels();
+        List<T> result = new ArrayList<>();
+        for (CmdbContext.CmdbInstance<T> each : context.getProviders()) {
+            if (isMatched(compiled, consumerLabelValues, each.getEntity())) {
+                result.add(each.getInstance());
+            }
         }
-        CmdbContext.CmdbInstance<T> consumer = context.getConsumer();
-        Map<String, String> consumerLabels = Optional.ofNullable(consumer.getEntity())
-                .map(Entity::getLabels)
-                .orElse(Collections.emptyMap());
-        
-        // filter the instance if consumer and providers' label values equals.
-        List<T> result = context.getProviders()
-                .stream()
-                .filter(ci -> {
-                    Entity providerEntity = ci.getEntity();
-                    if (Objects.isNull(providerEntity)) {
-                        return false;
-                    }
-                    Map<String, String> providerLabels = Optional.ofNullable(ci.getEntity().getLabels())
-                            .orElse(Collections.emptyMap());
-                    return labels.stream()
-                            .allMatch(label -> {
-                                String consumerLabelValue = consumerLabels.get(label);
-                                if (StringUtils.isBlank(consumerLabelValue)) {
-                                    return false;
-                                }
-                                return Objects.equals(consumerLabelValue, providerLabels.get(label));
-                            });
-                })
-                .map(CmdbContext.CmdbInstance::getInstance)
-                .collect(Collectors.toList());
-        
         // if none match, then return all providers.
-        if (CollectionUtils.isEmpty(result)) {
-            return context.getProviders()
-                    .stream()
-                    .map(CmdbContext.CmdbInstance::getInstance)
-                    .collect(Collectors.toList());
+        return result.isEmpty() ? allProviders(context) : result;
+    }
+    
+    @Override
+    public Object getConsumerKey(CmdbContext<T> consumerContext) {
+        String[] consumerLabelValues = getConsumerLabelValues(consumerContext.getConsumer());
+        return null == consumerLabelValues ? ALL_PROVIDERS_KEY : Arrays.asList(consumerLabelValues);
+    }
+    
+    /**
+     * Get the label values of consumer in the order of compiled labels.
+     *
+     * @param consumer consumer
+     * @return label values, or {@code null} if consumer misses any label, empty if no label to match
+     */
+    private String[] getConsumerLabelValues(CmdbContext.CmdbInstance<T> consumer) {
+        String[] compiled = getCompiledLabels();
+        if (0 == compiled.length) {
+            return null;
+        }
+        Map<String, String> consumerLabels = Optional.ofNullable(consumer).map(CmdbContext.CmdbInstance::getEntity)
+                .map(Entity::getLabels).orElse(Collections.emptyMap());
+        String[] result = new String[compiled.length];
+        for (int i = 0; i < compiled.length; i++) {
+            result[i] = consumerLabels.get(compiled[i]);
+            if (StringUtils.isBlank(result[i])) {
+                return null;
+            }
+        }
+        return result;
+    }
+    
+    private boolean isMatched(String[] compiled, String[] consumerLabelValues, Entity providerEntity) {
+        if (Objects.isNull(providerEntity) || Objects.isNull(providerEntity.getLabels())) {
+            return false;
+        }
+        Map<String, String> providerLabels = providerEntity.getLabels();
+        for (int i = 0; i < compiled.length; i++) {
+            if (!consumerLabelValues[i].equals(providerLabels.get(compiled[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private String[] getCompiledLabels() {
+        String[] result = compiledLabels;
+        if (null == result) {
+            result = CollectionUtils.isEmpty(labels) ? new String[0] : labels.toArray(new String[0]);
+            compiledLabels = result;
+        }
+        return result;
+    }
+    
+    private List<T> allProviders(CmdbContext<T> context) {
+        List<T> result = new ArrayList<>(context.getProviders().size());
+        for (CmdbContext.CmdbInstance<T> each : context.getProviders()) {
+            result.add(each.getInstance());
         }
         return result;
     }
     
     @Override
     protected void doParse(String expression) throws NacosException {
-        this.labels = ExpressionInterpreter.parseExpression(expression);
+        setLabels(ExpressionInterpreter.parseExpression(expression));
     }
     
     @Override
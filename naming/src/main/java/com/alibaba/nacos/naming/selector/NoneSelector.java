@@ -29,7 +29,8 @@ import java.util.List;
  * @author chenglu
  * @date 2021-08-04 13:28
  */
-public class NoneSelector<T extends Instance> implements Selector<List<T>, List<T>, String> {
+public class NoneSelector<T extends Instance>
+        implements Selector<List<T>, List<T>, String>, ConsumerKeyedSelector<List<T>> {
     
     private static final String CONTEXT_TYPE = "NONE";
     
@@ -45,6 +46,11 @@ public class NoneSelector<T extends Instance> implements Selector<List<T>, List<
         return context;
     }
     
+    @Override
+    public Object getConsumerKey(List<T> consumerContext) {
+        return TYPE;
+    }
+    
     @Override
     public String getType() {
         return TYPE;
@@ -31,6 +31,7 @@ import javax.annotation.PostConstruct;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -172,4 +173,35 @@ public class SelectorManager {
             return providers;
         }
     }
+    
+    /**
+     * Get the key of consumer which decides the result of {@link #select(Selector, String, List)}. Consumers with equal
+     * key get the same result from the same providers, so the result can be shared.
+     *
+     * <p>If the selector is not {@link ConsumerKeyedSelector}, the consumer ip is the key.
+     *
+     * @param selector   {@link Selector}.
+     * @param consumerIp the consumer Ip address.
+     * @return key of consumer.
+     */
+    public Object getConsumerKey(Selector selector, String consumerIp) {
+        if (Objects.isNull(selector)) {
+            return StringUtils.EMPTY;
+        }
+        SelectorContextBuilder selectorContextBuilder = contextBuilders.get(selector.getContextType());
+        if (Objects.isNull(selectorContextBuilder)) {
+            // all providers will be returned by select.
+            return StringUtils.EMPTY;
+        }
+        if (!(selector instanceof ConsumerKeyedSelector)) {
+            return consumerIp;
+        }
+        try {
+            Object consumerContext = selectorContextBuilder.build(consumerIp, Collections.emptyList());
+            return ((ConsumerKeyedSelector) selector).getConsumerKey(consumerContext);
+        } catch (Exception e) {
+            Loggers.SRV_LOG.warn("[SelectorManager] get consumer key failed, will use consumer ip.", e);
+            return consumerIp;
+        }
+    }
 }
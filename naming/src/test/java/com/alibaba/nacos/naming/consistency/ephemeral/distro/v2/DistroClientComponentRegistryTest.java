@@ -54,6 +54,9 @@ public class DistroClientComponentRegistryTest extends TestCase {
     @Mock
     private ClusterRpcClientProxy clusterRpcClientProxy;
     
+    @Mock
+    private DistroClientVerifyTree verifyTree;
+    
     private DistroComponentHolder componentHolder;
     
     @Before
@@ -61,7 +64,7 @@ public class DistroClientComponentRegistryTest extends TestCase {
         componentHolder = new DistroComponentHolder();
         
         distroClientComponentRegistry = new DistroClientComponentRegistry(serverMemberManager, distroProtocol,
-                componentHolder, taskEngineHolder, clientManager, clusterRpcClientProxy);
+                componentHolder, taskEngineHolder, clientManager, clusterRpcClientProxy, verifyTree);
     }
     
     @Test
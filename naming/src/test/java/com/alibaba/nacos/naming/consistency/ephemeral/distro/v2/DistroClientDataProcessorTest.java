@@ -21,6 +21,7 @@ import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotPartition;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.client.Client;
@@ -83,11 +84,14 @@ public class DistroClientDataProcessorTest {
     @Mock
     private Serializer serializer;
     
+    @Mock
+    private DistroClientVerifyTree verifyTree;
+    
     private DistroClientDataProcessor distroClientDataProcessor;
     
     @Before
     public void setUp() throws Exception {
-        distroClientDataProcessor = new DistroClientDataProcessor(clientManager, distroProtocol);
+        distroClientDataProcessor = new DistroClientDataProcessor(clientManager, distroProtocol, verifyTree);
         EnvUtil.setIsStandalone(false);
         client = new ConnectionBasedClient(CLIENT_ID, true, 0L);
         when(clientManager.getClient(CLIENT_ID)).thenReturn(client);
@@ -266,6 +270,29 @@ public class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    public void testGetDatumSnapshotPartition() {
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        for (int i = 0; i < 2; i++) {
+            DistroSnapshotPartition partition = new DistroSnapshotPartition(i, 2);
+            DistroData actual = distroClientDataProcessor.getDatumSnapshot(partition);
+            assertEquals(partition.toResourceKey(), actual.getDistroKey().getResourceKey());
+            assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
+        }
+        // the client only belongs to one partition
+        verify(clientManager).getClient(CLIENT_ID);
+    }
+    
+    @Test
+    public void testGetVerifyDataByTree() {
+        DistroData digestData = new DistroData();
+        when(verifyTree.isEnabled()).thenReturn(true);
+        when(verifyTree.buildDigestData()).thenReturn(digestData);
+        List<DistroData> list = distroClientDataProcessor.getVerifyData();
+        assertEquals(1, list.size());
+        assertEquals(digestData, list.get(0));
+    }
+    
     @Test
     public void testGetVerifyData() {
         client.setRevision(10L);
@@ -41,6 +41,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.Collections;
+
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,6 +50,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -66,6 +69,9 @@ public class DistroClientTransportAgentTest {
     @Mock
     DistroCallback distroCallback;
     
+    @Mock
+    DistroClientVerifyTree verifyTree;
+    
     @InjectMocks
     DistroClientTransportAgent transportAgent;
     
@@ -339,6 +345,35 @@ public class DistroClientTransportAgentTest {
         verify(distroCallback).onFailed(null);
     }
     
+    @Test
+    public void testSyncVerifyDigestMatched() throws NacosException {
+        final DistroData verifyData = new DistroData(new DistroKey(DistroClientVerifyTree.DIGEST_KEY,
+                DistroClientDataProcessor.TYPE), new byte[0]);
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        transportAgent.syncVerifyData(verifyData, member.getAddress(), distroCallback);
+        verify(distroCallback).onSuccess();
+        verify(verifyTree, never()).getMismatchedBucketData(any());
+    }
+    
+    @Test
+    public void testSyncVerifyDigestToOldServer() throws NacosException {
+        final DistroData verifyData = new DistroData(new DistroKey(DistroClientVerifyTree.DIGEST_KEY,
+                DistroClientDataProcessor.TYPE), new byte[0]);
+        DistroData clientVerifyData = new DistroData(new DistroKey("clientId", DistroClientDataProcessor.TYPE),
+                new byte[0]);
+        when(verifyTree.getClientVerifyData()).thenReturn(Collections.singletonList(clientVerifyData));
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        response.setErrorInfo(ResponseCode.FAIL.getCode(), "TEST");
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        transportAgent.syncVerifyData(verifyData, member.getAddress(), distroCallback);
+        // fallback to verify the client one by one.
+        verify(clusterRpcClientProxy, times(2)).asyncRequest(eq(member), any(), any());
+        verify(distroCallback).onFailed(null);
+    }
+    
     @Test
     public void testSyncVerifyDataWithCallbackException() throws NacosException {
         DistroData verifyData = new DistroData();
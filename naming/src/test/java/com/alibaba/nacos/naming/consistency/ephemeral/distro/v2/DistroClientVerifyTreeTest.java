@@ -0,0 +1,141 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.serialize.HessianSerializer;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DistroClientVerifyTreeTest {
+    
+    private static final String SOURCE = "1.1.1.1:8848";
+    
+    private static final String CLIENT_A = "11111_1.1.1.1_3306";
+    
+    private static final String CLIENT_B = "22222_1.1.1.2_3306";
+    
+    @Mock
+    private ClientManagerDelegate senderClientManager;
+    
+    @Mock
+    private ClientManagerDelegate receiverClientManager;
+    
+    @Mock
+    private ConfigurableApplicationContext context;
+    
+    private ConnectionBasedClient receiverClientB;
+    
+    private DistroClientVerifyTree sender;
+    
+    private DistroClientVerifyTree receiver;
+    
+    @Before
+    public void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        when(context.getBean(Serializer.class)).thenReturn(new HessianSerializer());
+        ApplicationUtils.injectContext(context);
+        ConnectionBasedClient clientA = new ConnectionBasedClient(CLIENT_A, true, 1L);
+        ConnectionBasedClient clientB = new ConnectionBasedClient(CLIENT_B, true, 2L);
+        when(senderClientManager.allClientId()).thenReturn(Arrays.asList(CLIENT_A, CLIENT_B));
+        when(senderClientManager.getClient(CLIENT_A)).thenReturn(clientA);
+        when(senderClientManager.getClient(CLIENT_B)).thenReturn(clientB);
+        when(senderClientManager.isResponsibleClient(any())).thenReturn(true);
+        receiverClientB = new ConnectionBasedClient(CLIENT_B, false, 2L);
+        lenient().when(receiverClientManager.getClient(CLIENT_A))
+                .thenReturn(new ConnectionBasedClient(CLIENT_A, false, 1L));
+        lenient().when(receiverClientManager.getClient(CLIENT_B)).thenReturn(receiverClientB);
+        sender = new DistroClientVerifyTree(senderClientManager);
+        receiver = new DistroClientVerifyTree(receiverClientManager);
+    }
+    
+    @Test
+    public void testVerifyByTree() {
+        when(receiverClientManager.verifyClient(any())).thenReturn(true);
+        DistroData digest = sender.buildDigestData();
+        assertTrue(DistroClientVerifyTree.isDigestData(digest));
+        // receiver hasn't verified any client from sender.
+        DistroData remoteDigest = receiver.processVerifyData(digest, SOURCE);
+        assertNotNull(remoteDigest);
+        List<DistroData> buckets = sender.getMismatchedBucketData(remoteDigest);
+        assertTrue(buckets.size() > 0);
+        for (DistroData each : buckets) {
+            assertTrue(DistroClientVerifyTree.isTreeVerifyData(each));
+            assertTrue(sender.getFailedClients(receiver.processVerifyData(each, SOURCE)).isEmpty());
+        }
+        verify(receiverClientManager, times(2)).verifyClient(any());
+        // matched, all clients are renewed without sending any client.
+        assertNull(receiver.processVerifyData(sender.buildDigestData(), SOURCE));
+        verify(receiverClientManager, times(4)).verifyClient(any());
+    }
+    
+    @Test
+    public void testVerifyByTreeWithMismatchedClient() {
+        when(receiverClientManager.verifyClient(any())).thenReturn(true);
+        for (DistroData each : sender.getMismatchedBucketData(receiver.processVerifyData(sender.buildDigestData(),
+                SOURCE))) {
+            receiver.processVerifyData(each, SOURCE);
+        }
+        receiverClientB.setRevision(1L);
+        when(receiverClientManager.verifyClient(any())).thenAnswer(
+                invocation -> !CLIENT_B.equals(((DistroClientVerifyInfo) invocation.getArgument(0)).getClientId()));
+        DistroData remoteDigest = receiver.processVerifyData(sender.buildDigestData(), SOURCE);
+        assertNotNull(remoteDigest);
+        List<DistroData> buckets = sender.getMismatchedBucketData(remoteDigest);
+        assertEquals(1, buckets.size());
+        List<DistroClientVerifyInfo> failedClients = sender
+                .getFailedClients(receiver.processVerifyData(buckets.get(0), SOURCE));
+        assertEquals(1, failedClients.size());
+        assertEquals(CLIENT_B, failedClients.get(0).getClientId());
+        assertEquals(2L, failedClients.get(0).getRevision());
+    }
+    
+    @Test
+    public void testGetClientVerifyData() {
+        assertTrue(sender.getClientVerifyData().isEmpty());
+        sender.buildDigestData();
+        List<DistroData> verifyData = sender.getClientVerifyData();
+        assertEquals(2, verifyData.size());
+        for (DistroData each : verifyData) {
+            assertTrue(!DistroClientVerifyTree.isTreeVerifyData(each));
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.ThreadUtils;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -29,8 +30,10 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -96,6 +99,24 @@ public class NamingEventPublisherTest {
         verify(subscriber, atLeastOnce()).onEvent(testEvent);
     }
     
+    @Test
+    public void testCoalesceEvents() {
+        final long coalescedCount = MetricsMonitor.getNamingEventCoalescedCount().get();
+        TestEvent.TestCoalesceEvent first = new TestEvent.TestCoalesceEvent("a");
+        TestEvent.TestCoalesceEvent second = new TestEvent.TestCoalesceEvent("b");
+        // publish before subscriber added, so all events are drained in one batch.
+        namingEventPublisher.publish(first);
+        namingEventPublisher.publish(new TestEvent.TestCoalesceEvent("a"));
+        namingEventPublisher.publish(second);
+        namingEventPublisher.publish(new TestEvent.TestCoalesceEvent("a"));
+        namingEventPublisher.addSubscriber(subscriber, TestEvent.TestCoalesceEvent.class);
+        ThreadUtils.sleep(2000L);
+        verify(subscriber).onEvent(first);
+        verify(subscriber).onEvent(second);
+        verify(subscriber, times(2)).onEvent(any());
+        assertThat(MetricsMonitor.getNamingEventCoalescedCount().get() - coalescedCount, is(2L));
+    }
+    
     @Test
     public void getStatus() throws NacosException {
         namingEventPublisher.publish(new TestEvent());
@@ -31,4 +31,20 @@ class TestEvent extends Event {
         
         private static final long serialVersionUID = -3956191439344777407L;
     }
+    
+    static class TestCoalesceEvent extends TestEvent {
+        
+        private static final long serialVersionUID = -1537624391745512896L;
+        
+        private final String key;
+        
+        TestCoalesceEvent(String key) {
+            this.key = key;
+        }
+        
+        @Override
+        public Object coalesceKey() {
+            return key;
+        }
+    }
 }
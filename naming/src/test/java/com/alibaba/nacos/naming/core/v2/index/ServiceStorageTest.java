@@ -18,11 +18,16 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -34,6 +39,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -164,4 +170,97 @@ public class ServiceStorageTest {
         Assert.assertNotNull(instance);
     }
     
-}
\ No newline at end of file
+    @Test
+    public void testGetPushDataPatchedByRecordedChanges() {
+        Service service = ServiceManager.getInstance()
+                .getSingleton(Service.newService("namespaceId", "groupName", "patchedService"));
+        try {
+            mockClient("client1", service, new InstancePublishInfo("1.1.1.1", 8848));
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                    .thenReturn(Collections.singletonList("client1"));
+            final long rebuildCount = MetricsMonitor.getServiceStorageRebuildCount().get();
+            final long patchCount = MetricsMonitor.getServiceStoragePatchCount().get();
+            Assert.assertEquals(1, serviceStorage.getPushData(service).getHosts().size());
+            Assert.assertEquals(rebuildCount + 1, MetricsMonitor.getServiceStorageRebuildCount().get());
+            
+            mockClient("client2", service, new InstancePublishInfo("1.1.1.2", 8848));
+            serviceStorage.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, "client2"));
+            service.incrementRevision();
+            List<Instance> hosts = serviceStorage.getPushData(service).getHosts();
+            Assert.assertEquals(2, hosts.size());
+            Assert.assertEquals(rebuildCount + 1, MetricsMonitor.getServiceStorageRebuildCount().get());
+            Assert.assertEquals(patchCount + 1, MetricsMonitor.getServiceStoragePatchCount().get());
+            Mockito.verify(clientServiceIndexesManager).getAllClientsRegisteredService(service);
+            
+            Mockito.when(clientManagerDelegate.getClient("client1")).thenReturn(null);
+            serviceStorage.onEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(service, "client1"));
+            service.incrementRevision();
+            hosts = serviceStorage.getPushData(service).getHosts();
+            Assert.assertEquals(1, hosts.size());
+            Assert.assertEquals("1.1.1.2", hosts.get(0).getIp());
+            Assert.assertEquals(patchCount + 2, MetricsMonitor.getServiceStoragePatchCount().get());
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+        }
+    }
+    
+    @Test
+    public void testGetPushDataRebuildWhenChangeNotRecorded() {
+        Service service = ServiceManager.getInstance()
+                .getSingleton(Service.newService("namespaceId", "groupName", "rebuildService"));
+        try {
+            mockClient("client1", service, new InstancePublishInfo("1.1.1.1", 8848));
+            mockClient("client2", service, new InstancePublishInfo("1.1.1.2", 8848));
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                    .thenReturn(Collections.singletonList("client1"), Arrays.asList("client1", "client2"));
+            final long rebuildCount = MetricsMonitor.getServiceStorageRebuildCount().get();
+            Assert.assertEquals(1, serviceStorage.getPushData(service).getHosts().size());
+            // revision changed by other data such as instance metadata, snapshot should be rebuilt.
+            service.incrementRevision();
+            Assert.assertEquals(2, serviceStorage.getPushData(service).getHosts().size());
+            Assert.assertEquals(rebuildCount + 2, MetricsMonitor.getServiceStorageRebuildCount().get());
+            Assert.assertEquals(new HashSet<>(Collections.singletonList("DEFAULT")), serviceStorage.getClusters(service));
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+        }
+    }
+    
+    @Test
+    public void testGetPushDataRebuildWhenMetadataChangedWithRecordedChange() {
+        Service service = ServiceManager.getInstance()
+                .getSingleton(Service.newService("namespaceId", "groupName", "metadataChangedService"));
+        try {
+            mockClient("client1", service, new InstancePublishInfo("1.1.1.1", 8848));
+            mockClient("client2", service, new InstancePublishInfo("1.1.1.2", 8848));
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                    .thenReturn(Collections.singletonList("client1"), Arrays.asList("client1", "client2"));
+            final long rebuildCount = MetricsMonitor.getServiceStorageRebuildCount().get();
+            final long patchCount = MetricsMonitor.getServiceStoragePatchCount().get();
+            Assert.assertEquals(1, serviceStorage.getPushData(service).getHosts().size());
+            
+            // register of client2 is recorded, but its revision is not incremented yet when instance metadata changed.
+            serviceStorage.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, "client2"));
+            InstanceMetadata instanceMetadata = new InstanceMetadata();
+            instanceMetadata.setEnabled(false);
+            Mockito.when(namingMetadataManager.getInstanceMetadata(Mockito.eq(service), Mockito.any()))
+                    .thenReturn(Optional.of(instanceMetadata));
+            service.incrementMetadataRevision();
+            service.incrementRevision();
+            List<Instance> hosts = serviceStorage.getPushData(service).getHosts();
+            Assert.assertEquals(2, hosts.size());
+            Assert.assertFalse(hosts.get(0).isEnabled());
+            Assert.assertFalse(hosts.get(1).isEnabled());
+            Assert.assertEquals(rebuildCount + 2, MetricsMonitor.getServiceStorageRebuildCount().get());
+            Assert.assertEquals(patchCount, MetricsMonitor.getServiceStoragePatchCount().get());
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+        }
+    }
+    
+    private void mockClient(String clientId, Service service, InstancePublishInfo instancePublishInfo) {
+        instancePublishInfo.setCluster("DEFAULT");
+        Client client = Mockito.mock(Client.class);
+        Mockito.when(client.getInstancePublishInfo(service)).thenReturn(instancePublishInfo);
+        Mockito.when(clientManagerDelegate.getClient(clientId)).thenReturn(client);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HealthCheckWheelSchedulerTest {
+    
+    private HealthCheckWheelScheduler scheduler;
+    
+    @Before
+    public void setUp() {
+        scheduler = new HealthCheckWheelScheduler("test.wheel", Runnable::run, 10L, 8);
+    }
+    
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+    
+    @Test
+    public void testSchedule() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.currentTimeMillis();
+        // longer than one round of wheel
+        scheduler.schedule("test", latch::countDown, 200L);
+        assertEquals(1, scheduler.size());
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() - start >= 200L);
+        TimeUnit.MILLISECONDS.sleep(20);
+        assertEquals(0, scheduler.size());
+    }
+    
+    @Test
+    public void testScheduleReplacePreviousTask() throws InterruptedException {
+        AtomicInteger previous = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule("test", previous::incrementAndGet, 50L);
+        scheduler.schedule("test", latch::countDown, 50L);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertEquals(0, previous.get());
+    }
+    
+    @Test
+    public void testScheduleWithFixedDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        AtomicInteger duplicated = new AtomicInteger();
+        scheduler.scheduleWithFixedDelay("test", latch::countDown, 10L, 20L);
+        scheduler.scheduleWithFixedDelay("test", duplicated::incrementAndGet, 10L, 20L);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(0, duplicated.get());
+        assertEquals(1, scheduler.size());
+    }
+    
+    @Test
+    public void testCancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        scheduler.scheduleWithFixedDelay("test", count::incrementAndGet, 10L, 20L);
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertTrue(scheduler.cancel("test"));
+        assertFalse(scheduler.cancel("test"));
+        int executed = count.get();
+        assertTrue(executed > 0);
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertTrue(count.get() <= executed + 1);
+        assertEquals(0, scheduler.size());
+    }
+}
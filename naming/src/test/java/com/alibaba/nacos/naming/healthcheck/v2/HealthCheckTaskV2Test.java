@@ -68,6 +68,7 @@ public class HealthCheckTaskV2Test {
     @Test
     public void testDoHealthCheck() {
         when(ipPortBasedClient.getAllPublishedService()).thenReturn(returnService());
+        when(ipPortBasedClient.getClientId()).thenReturn("1.1.1.1:8848#false");
         
         healthCheckTaskV2.setCheckRtWorst(1);
         healthCheckTaskV2.setCheckRtLastLast(1);
@@ -108,6 +109,7 @@ public class HealthCheckTaskV2Test {
     
     @Test
     public void testAfterIntercept() {
+        when(ipPortBasedClient.getClientId()).thenReturn("1.1.1.1:8848#false");
         healthCheckTaskV2.afterIntercept();
     }
 }
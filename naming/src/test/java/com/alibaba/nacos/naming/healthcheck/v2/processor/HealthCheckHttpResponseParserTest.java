@@ -0,0 +1,85 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HealthCheckHttpResponseParserTest {
+    
+    @Test
+    public void testContentLengthResponseReusable() throws IOException {
+        HealthCheckHttpResponseParser parser = new HealthCheckHttpResponseParser();
+        assertFalse(parser.feed(buffer("HTTP/1.1 200 OK\r\nContent-Len")));
+        assertFalse(parser.feed(buffer("gth: 5\r\n\r\nab")));
+        assertTrue(parser.feed(buffer("cde")));
+        assertEquals(200, parser.getStatusCode());
+        assertTrue(parser.isReusable());
+    }
+    
+    @Test
+    public void testConnectionClose() throws IOException {
+        HealthCheckHttpResponseParser parser = new HealthCheckHttpResponseParser();
+        assertTrue(parser.feed(buffer("HTTP/1.1 503 Unavailable\r\nConnection: close\r\nContent-Length: 0\r\n\r\n")));
+        assertEquals(503, parser.getStatusCode());
+        assertFalse(parser.isReusable());
+    }
+    
+    @Test
+    public void testChunkedResponseNotReusable() throws IOException {
+        HealthCheckHttpResponseParser parser = new HealthCheckHttpResponseParser();
+        assertTrue(parser.feed(buffer("HTTP/1.1 404 Not Found\r\nTransfer-Encoding: chunked\r\n\r\n5\r\nabcde")));
+        assertEquals(404, parser.getStatusCode());
+        assertFalse(parser.isReusable());
+    }
+    
+    @Test
+    public void testHttp10KeepAlive() throws IOException {
+        HealthCheckHttpResponseParser parser = new HealthCheckHttpResponseParser();
+        assertTrue(parser.feed(buffer("HTTP/1.0 204 No Content\r\n\r\n")));
+        assertFalse(parser.isReusable());
+        parser = new HealthCheckHttpResponseParser();
+        assertTrue(parser.feed(buffer("HTTP/1.0 204 No Content\r\nConnection: Keep-Alive\r\n\r\n")));
+        assertTrue(parser.isReusable());
+    }
+    
+    @Test(expected = IOException.class)
+    public void testInvalidStatusLine() throws IOException {
+        new HealthCheckHttpResponseParser().feed(buffer("SSH-2.0-OpenSSH\r\n\r\n"));
+    }
+    
+    @Test(expected = IOException.class)
+    public void testHeadersTooLarge() throws IOException {
+        HealthCheckHttpResponseParser parser = new HealthCheckHttpResponseParser();
+        StringBuilder header = new StringBuilder("HTTP/1.1 200 OK\r\n");
+        while (header.length() < 9000) {
+            header.append("X-Padding: 0123456789\r\n");
+        }
+        parser.feed(buffer(header.toString()));
+    }
+    
+    private ByteBuffer buffer(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NioHealthCheckEngineTest {
+    
+    private static final String LOCALHOST = "127.0.0.1";
+    
+    private static final String OK_RESPONSE = "HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok";
+    
+    private NioHealthCheckEngine engine;
+    
+    private ServerSocket serverSocket;
+    
+    private final AtomicInteger acceptedCount = new AtomicInteger();
+    
+    @Before
+    public void setUp() throws IOException {
+        engine = new NioHealthCheckEngine("test.health.nio", 1, Runnable::run, 1, 16);
+        serverSocket = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST));
+    }
+    
+    @After
+    public void tearDown() throws IOException {
+        engine.shutdown();
+        serverSocket.close();
+    }
+    
+    @Test
+    public void testTcpConnected() throws Exception {
+        ResultCallback callback = new ResultCallback();
+        engine.probeTcp(LOCALHOST, serverSocket.getLocalPort(), callback);
+        assertEquals(0, callback.get());
+    }
+    
+    @Test
+    public void testTcpRefused() throws Exception {
+        int port = serverSocket.getLocalPort();
+        serverSocket.close();
+        ResultCallback callback = new ResultCallback();
+        engine.probeTcp(LOCALHOST, port, callback);
+        assertTrue(callback.getFailure() instanceof ConnectException);
+    }
+    
+    @Test
+    public void testHttpKeepAliveReused() throws Exception {
+        startHttpServer(OK_RESPONSE, false);
+        for (int i = 0; i < 3; i++) {
+            ResultCallback callback = new ResultCallback();
+            engine.probeHttp(LOCALHOST, serverSocket.getLocalPort(), "/health", Collections.emptyMap(), callback);
+            assertEquals(200, callback.get());
+        }
+        assertEquals(1, acceptedCount.get());
+        assertEquals(1, engine.getIdleConnectionCount());
+        assertEquals(1, engine.getTargetCount());
+    }
+    
+    @Test
+    public void testIdleConnectionCountNeverNegative() throws Exception {
+        engine.shutdown();
+        engine = new NioHealthCheckEngine("test.health.nio", 1, Runnable::run, 2, 1);
+        startHttpServer(OK_RESPONSE, false);
+        for (int round = 0; round < 3; round++) {
+            ResultCallback first = new ResultCallback();
+            ResultCallback second = new ResultCallback();
+            engine.probeHttp(LOCALHOST, serverSocket.getLocalPort(), "/health", Collections.emptyMap(), first);
+            engine.probeHttp(LOCALHOST, serverSocket.getLocalPort(), "/health", Collections.emptyMap(), second);
+            assertEquals(200, first.get());
+            assertEquals(200, second.get());
+            assertTrue(engine.getIdleConnectionCount() >= 0);
+            assertTrue(engine.getIdleConnectionCount() <= 1);
+        }
+    }
+    
+    @Test
+    public void testHttpClosedByServer() throws Exception {
+        startHttpServer(OK_RESPONSE, true);
+        for (int i = 0; i < 2; i++) {
+            ResultCallback callback = new ResultCallback();
+            engine.probeHttp(LOCALHOST, serverSocket.getLocalPort(), "/health", Collections.emptyMap(), callback);
+            assertEquals(200, callback.get());
+        }
+        assertEquals(2, acceptedCount.get());
+    }
+    
+    @Test
+    public void testHttpTimeoutAndRejected() throws Exception {
+        startHttpServer(null, false);
+        ResultCallback timeoutCallback = new ResultCallback();
+        ResultCallback rejectedCallback = new ResultCallback();
+        engine.probeHttp(LOCALHOST, serverSocket.getLocalPort(), "/health", Collections.emptyMap(), timeoutCallback);
+        engine.probeHttp(LOCALHOST, serverSocket.getLocalPort(), "/health", Collections.emptyMap(), rejectedCallback);
+        assertTrue(rejectedCallback.isRejected());
+        assertTrue(timeoutCallback.getFailure() instanceof SocketTimeoutException);
+    }
+    
+    private void startHttpServer(String response, boolean closeAfterResponse) {
+        Thread thread = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    acceptedCount.incrementAndGet();
+                    Thread worker = new Thread(() -> serve(socket, response, closeAfterResponse));
+                    worker.setDaemon(true);
+                    worker.start();
+                } catch (IOException ignore) {
+                }
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    private void serve(Socket socket, String response, boolean closeAfterResponse) {
+        try (Socket ignored = socket) {
+            InputStream input = socket.getInputStream();
+            OutputStream output = socket.getOutputStream();
+            int matched = 0;
+            int read;
+            while ((read = input.read()) >= 0) {
+                matched = (read == (matched % 2 == 0 ? '\r' : '\n')) ? matched + 1 : 0;
+                if (matched < 4) {
+                    continue;
+                }
+                matched = 0;
+                if (null == response) {
+                    continue;
+                }
+                output.write(response.getBytes(StandardCharsets.ISO_8859_1));
+                output.flush();
+                if (closeAfterResponse) {
+                    return;
+                }
+            }
+        } catch (IOException ignore) {
+        }
+    }
+    
+    private static class ResultCallback implements NioHealthCheckEngine.ProbeCallback {
+        
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        
+        @Override
+        public void onSuccess(int code) {
+            result.complete(code);
+        }
+        
+        @Override
+        public void onFailure(Throwable throwable) {
+            result.complete(throwable);
+        }
+        
+        @Override
+        public void onRejected() {
+            result.complete(Boolean.TRUE);
+        }
+        
+        private int get() throws Exception {
+            return (Integer) result.get(3, TimeUnit.SECONDS);
+        }
+        
+        private Throwable getFailure() throws Exception {
+            return (Throwable) result.get(3, TimeUnit.SECONDS);
+        }
+        
+        private boolean isRejected() throws Exception {
+            return Boolean.TRUE.equals(result.get(3, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.event.ServerConfigChangeEvent;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.naming.constants.PushConstants;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DeltaPushManagerTest {
+    
+    private static final String CLIENT_ID = "1.1.1.1:8848#true";
+    
+    private final Service service = Service.newService("N", "G", "S");
+    
+    private final Subscriber subscriber = new Subscriber("2.2.2.2:8080", "Nacos-Java-Client", "", "2.2.2.2", "N",
+            "G@@S", 0);
+    
+    @Mock
+    private ConnectionManager connectionManager;
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private Client client;
+    
+    private DeltaPushManager deltaPushManager;
+    
+    @Before
+    public void setUp() throws Exception {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(PushConstants.PUSH_DELTA_ENABLED, "true");
+        environment.setProperty(PushConstants.PUSH_DELTA_MIN_INSTANCES, "4");
+        EnvUtil.setEnvironment(environment);
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+        when(connectionManager.getConnection(CLIENT_ID)).thenReturn(connection);
+        when(connection.getAbilityTable()).thenReturn(
+                Collections.singletonMap(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_PUSH.getName(), true));
+        deltaPushManager = new DeltaPushManager(connectionManager);
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+    }
+    
+    @Test
+    public void testBuildDeltaPushRequest() {
+        NotifySubscriberRequest first = deltaPushManager
+                .buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 1L);
+        assertFalse(first.isDelta());
+        assertEquals(1L, first.getRevision());
+        ServiceInfo latest = buildServiceInfo(10);
+        latest.getHosts().get(0).setHealthy(false);
+        NotifySubscriberRequest second = deltaPushManager.buildPushRequest(CLIENT_ID, subscriber, latest, 2L);
+        assertTrue(second.isDelta());
+        assertEquals(1L, second.getBaseRevision());
+        assertEquals(2L, second.getRevision());
+        assertEquals(1, second.getServiceInfo().getHosts().size());
+        assertTrue(second.getRemovedHosts().isEmpty());
+    }
+    
+    @Test
+    public void testBuildFullPushRequestForLargeDelta() {
+        deltaPushManager.buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 1L);
+        ServiceInfo latest = buildServiceInfo(10);
+        latest.getHosts().subList(0, 5).forEach(each -> each.setHealthy(false));
+        NotifySubscriberRequest request = deltaPushManager.buildPushRequest(CLIENT_ID, subscriber, latest, 2L);
+        assertFalse(request.isDelta());
+        assertEquals(10, request.getServiceInfo().getHosts().size());
+    }
+    
+    @Test
+    public void testBuildFullPushRequestWithoutAbility() {
+        when(connection.getAbilityTable()).thenReturn(Collections.emptyMap());
+        deltaPushManager.buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 1L);
+        NotifySubscriberRequest request = deltaPushManager
+                .buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 2L);
+        assertFalse(request.isDelta());
+    }
+    
+    @Test
+    public void testBuildFullPushRequestForSmallService() {
+        deltaPushManager.buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(3), 1L);
+        NotifySubscriberRequest request = deltaPushManager
+                .buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(3), 2L);
+        assertFalse(request.isDelta());
+    }
+    
+    @Test
+    public void testRevisionIncreasedForSameServiceRevision() {
+        deltaPushManager.buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 1L);
+        NotifySubscriberRequest request = deltaPushManager
+                .buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 1L);
+        assertTrue(request.isDelta());
+        assertEquals(1L, request.getBaseRevision());
+        assertEquals(2L, request.getRevision());
+    }
+    
+    @Test
+    public void testInvalidate() {
+        deltaPushManager.buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 1L);
+        deltaPushManager.invalidate(CLIENT_ID, subscriber);
+        NotifySubscriberRequest request = deltaPushManager
+                .buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 2L);
+        assertFalse(request.isDelta());
+    }
+    
+    @Test
+    public void testOnUnsubscribeEvent() {
+        deltaPushManager.buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 1L);
+        deltaPushManager.onEvent(new ClientOperationEvent.ClientUnsubscribeServiceEvent(service, CLIENT_ID));
+        NotifySubscriberRequest request = deltaPushManager
+                .buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 2L);
+        assertFalse(request.isDelta());
+    }
+    
+    @Test
+    public void testOnDisconnectEvent() {
+        deltaPushManager.buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 1L);
+        when(client.getClientId()).thenReturn(CLIENT_ID);
+        deltaPushManager.onEvent(new ClientEvent.ClientDisconnectEvent(client, true));
+        NotifySubscriberRequest request = deltaPushManager
+                .buildPushRequest(CLIENT_ID, subscriber, buildServiceInfo(10), 2L);
+        assertFalse(request.isDelta());
+    }
+    
+    private ServiceInfo buildServiceInfo(int size) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Instance instance = new Instance();
+            instance.setIp("1.1.1." + i);
+            instance.setPort(8848);
+            instance.setClusterName("DEFAULT");
+            hosts.add(instance);
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+}
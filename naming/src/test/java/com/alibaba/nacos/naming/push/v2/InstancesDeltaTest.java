@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class InstancesDeltaTest {
+    
+    @Test
+    public void testComputeWithoutChange() {
+        List<Instance> base = Arrays.asList(buildInstance("1.1.1.1", 8848), buildInstance("1.1.1.2", 8848));
+        InstancesDelta delta = InstancesDelta.compute(base, new ArrayList<>(base));
+        assertEquals(0, delta.size());
+    }
+    
+    @Test
+    public void testComputeCopiedInstanceWithSameContent() {
+        Instance instance = buildInstance("1.1.1.1", 8848);
+        Instance copied = buildInstance("1.1.1.1", 8848);
+        InstancesDelta delta = InstancesDelta
+                .compute(Collections.singletonList(instance), Collections.singletonList(copied));
+        assertEquals(0, delta.size());
+    }
+    
+    @Test
+    public void testComputeUpsertAndRemove() {
+        Instance unchanged = buildInstance("1.1.1.1", 8848);
+        Instance removed = buildInstance("1.1.1.2", 8848);
+        Instance modified = buildInstance("1.1.1.3", 8848);
+        Instance modifiedLatest = buildInstance("1.1.1.3", 8848);
+        modifiedLatest.setHealthy(false);
+        Instance added = buildInstance("1.1.1.4", 8848);
+        InstancesDelta delta = InstancesDelta.compute(Arrays.asList(unchanged, removed, modified),
+                Arrays.asList(unchanged, modifiedLatest, added));
+        assertEquals(2, delta.getUpsertHosts().size());
+        assertSame(modifiedLatest, delta.getUpsertHosts().get(0));
+        assertSame(added, delta.getUpsertHosts().get(1));
+        assertEquals(1, delta.getRemovedHosts().size());
+        assertSame(removed, delta.getRemovedHosts().get(0));
+        assertEquals(3, delta.size());
+    }
+    
+    private Instance buildInstance(String ip, int port) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(port);
+        result.setClusterName("DEFAULT");
+        return result;
+    }
+}
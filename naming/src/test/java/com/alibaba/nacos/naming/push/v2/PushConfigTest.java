@@ -61,6 +61,15 @@ public class PushConfigTest {
         assertEquals(pushTaskRetryDelay, pushConfig.getPushTaskRetryDelay());
     }
     
+    @Test
+    public void testPushTaskShardsNotUpgraded() throws InterruptedException {
+        int pushTaskShards = pushConfig.getPushTaskShards();
+        mockEnvironment.setProperty(PushConstants.PUSH_TASK_SHARDS, String.valueOf(pushTaskShards + 1));
+        NotifyCenter.publishEvent(ServerConfigChangeEvent.newEvent());
+        TimeUnit.SECONDS.sleep(1);
+        assertEquals(pushTaskShards, pushConfig.getPushTaskShards());
+    }
+    
     @Test
     public void testInitConfigFormEnv()
             throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
@@ -0,0 +1,98 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class PushPayloadCacheTest {
+    
+    private PushPayloadCache payloadCache;
+    
+    private List<Instance> hosts;
+    
+    @Before
+    public void setUp() {
+        payloadCache = new PushPayloadCache();
+        hosts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Instance instance = new Instance();
+            instance.setIp("1.1.1." + i);
+            instance.setPort(8848);
+            hosts.add(instance);
+        }
+    }
+    
+    @Test
+    public void testGetEncodedBodyForSameSelectedHosts() {
+        byte[] first = payloadCache.getEncodedBody(buildRequest(new ArrayList<>(hosts), 1L));
+        byte[] second = payloadCache.getEncodedBody(buildRequest(new ArrayList<>(hosts), 1L));
+        assertSame(first, second);
+        NotifySubscriberRequest actual = JacksonUtils.toObj(first, NotifySubscriberRequest.class);
+        assertNull(actual.getRequestId());
+        assertEquals(1L, actual.getRevision());
+        assertEquals(3, actual.getServiceInfo().getHosts().size());
+    }
+    
+    @Test
+    public void testGetEncodedBodyForDifferentSelectedHosts() {
+        byte[] first = payloadCache.getEncodedBody(buildRequest(new ArrayList<>(hosts), 1L));
+        byte[] second = payloadCache.getEncodedBody(buildRequest(hosts.subList(0, 2), 1L));
+        assertNotSame(first, second);
+        List<Instance> copiedHosts = new ArrayList<>(hosts);
+        Instance copied = new Instance();
+        copied.setIp("1.1.1.0");
+        copied.setPort(8848);
+        copiedHosts.set(0, copied);
+        assertNotSame(first, payloadCache.getEncodedBody(buildRequest(copiedHosts, 1L)));
+    }
+    
+    @Test
+    public void testGetEncodedBodyForDifferentRevision() {
+        byte[] first = payloadCache.getEncodedBody(buildRequest(new ArrayList<>(hosts), 1L));
+        byte[] second = payloadCache.getEncodedBody(buildRequest(new ArrayList<>(hosts), 2L));
+        assertNotSame(first, second);
+    }
+    
+    @Test
+    public void testGetEncodedBodyForDeltaRequest() {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        serviceInfo.setHosts(hosts);
+        NotifySubscriberRequest request = NotifySubscriberRequest
+                .buildNotifySubscriberDeltaRequest(serviceInfo, Collections.emptyList(), 1L, 2L);
+        assertNull(payloadCache.getEncodedBody(request));
+    }
+    
+    private NotifySubscriberRequest buildRequest(List<Instance> selectedHosts, long revision) {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        serviceInfo.setHosts(selectedHosts);
+        return NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo, revision);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.selector.SelectorManager;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PushSelectResultCacheTest {
+    
+    @Mock
+    private SelectorManager selectorManager;
+    
+    @Mock
+    private ConfigurableApplicationContext context;
+    
+    private PushSelectResultCache selectResultCache;
+    
+    @Before
+    public void setUp() {
+        ApplicationUtils.injectContext(context);
+        when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
+        when(selectorManager.select(any(), any(), any())).then(invocation -> invocation.getArgument(2));
+        // consumers in the same network segment get the same select result.
+        when(selectorManager.getConsumerKey(any(), anyString()))
+                .then(invocation -> ((String) invocation.getArgument(1)).substring(0, 5));
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Instance instance = new Instance();
+            instance.setIp("1.1.1." + i);
+            instance.setPort(8848);
+            instance.setClusterName(0 == i ? "A" : "B");
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        selectResultCache = new PushSelectResultCache(new ServiceMetadata(), serviceInfo);
+    }
+    
+    @Test
+    public void testSelectShareResultForSameConsumerKey() {
+        ServiceInfo first = selectResultCache.select(buildSubscriber("2.2.2.1", ""), false, true);
+        ServiceInfo second = selectResultCache.select(buildSubscriber("2.2.2.2", ""), false, true);
+        assertSame(first, second);
+        assertEquals(3, first.getHosts().size());
+        verify(selectorManager, times(1)).select(any(), any(), any());
+    }
+    
+    @Test
+    public void testSelectForDifferentConsumerKey() {
+        ServiceInfo first = selectResultCache.select(buildSubscriber("2.2.2.1", ""), false, true);
+        ServiceInfo second = selectResultCache.select(buildSubscriber("3.3.3.1", ""), false, true);
+        assertNotSame(first, second);
+        verify(selectorManager, times(2)).select(any(), any(), any());
+    }
+    
+    @Test
+    public void testSelectForDifferentCluster() {
+        ServiceInfo first = selectResultCache.select(buildSubscriber("2.2.2.1", "A"), false, true);
+        ServiceInfo second = selectResultCache.select(buildSubscriber("2.2.2.1", "B"), false, true);
+        assertNotSame(first, second);
+        assertEquals(1, first.getHosts().size());
+        assertEquals(2, second.getHosts().size());
+    }
+    
+    private Subscriber buildSubscriber(String ip, String cluster) {
+        return new Subscriber(ip + ":0", "agent", "app", ip, "public", "G@@S", 0, cluster);
+    }
+}
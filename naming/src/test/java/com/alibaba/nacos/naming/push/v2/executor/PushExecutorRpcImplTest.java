@@ -24,6 +24,7 @@ import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.DeltaPushManager;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
@@ -44,8 +45,10 @@ import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -66,6 +69,9 @@ public class PushExecutorRpcImplTest {
     @Mock
     private SelectorManager selectorManager;
     
+    @Mock
+    private DeltaPushManager deltaPushManager;
+    
     @Mock
     private ConfigurableApplicationContext context;
     
@@ -80,11 +86,14 @@ public class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, deltaPushManager);
         EnvUtil.setEnvironment(new MockEnvironment());
         doAnswer(new CallbackAnswer()).when(pushService)
-                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), eq(pushCallBack),
-                        eq(GlobalExecutor.getCallbackExecutor()));
+                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), any(byte[].class),
+                        any(PushCallBack.class), eq(GlobalExecutor.getCallbackExecutor()));
+        when(deltaPushManager.buildPushRequest(eq(rpcClientId), eq(subscriber), any(ServiceInfo.class), anyLong()))
+                .then(invocationOnMock -> NotifySubscriberRequest
+                        .buildNotifySubscriberRequest(invocationOnMock.getArgument(2), invocationOnMock.getArgument(3)));
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
         when(selectorManager.select(any(), any(), any()))
@@ -95,12 +104,27 @@ public class PushExecutorRpcImplTest {
     public void testDoPush() {
         pushExecutor.doPush(rpcClientId, subscriber, pushData);
         verify(pushService).pushWithoutAck(eq(rpcClientId), any(NotifySubscriberRequest.class));
+        verify(deltaPushManager).invalidate(rpcClientId, subscriber);
     }
     
     @Test
     public void testDoPushWithCallback() {
         pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
         verify(pushCallBack).onSuccess();
+        verify(deltaPushManager, never()).invalidate(rpcClientId, subscriber);
+    }
+    
+    @Test
+    public void testDoPushWithCallbackFailedInvalidateDelta() {
+        RuntimeException exception = new RuntimeException("test");
+        doAnswer(invocationOnMock -> {
+            ((PushCallBack) invocationOnMock.getArgument(3)).onFail(exception);
+            return null;
+        }).when(pushService).pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), any(byte[].class),
+                any(PushCallBack.class), eq(GlobalExecutor.getCallbackExecutor()));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        verify(deltaPushManager).invalidate(rpcClientId, subscriber);
+        verify(pushCallBack).onFail(exception);
     }
     
     private class CallbackAnswer implements Answer<Void> {
@@ -109,7 +133,7 @@ public class PushExecutorRpcImplTest {
         public Void answer(InvocationOnMock invocationOnMock) throws Throwable {
             NotifySubscriberRequest pushRequest = invocationOnMock.getArgument(1);
             assertEquals(pushData.getOriginalData().toString(), pushRequest.getServiceInfo().toString());
-            PushCallBack callBack = invocationOnMock.getArgument(2);
+            PushCallBack callBack = invocationOnMock.getArgument(3);
             callBack.onSuccess();
             return null;
         }
@@ -22,8 +22,11 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientVerifyTree;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -53,6 +56,9 @@ public class DistroDataRequestHandlerTest {
     @Mock
     private DistroProtocol distroProtocol;
     
+    @Mock
+    private DistroClientVerifyTree verifyTree;
+    
     @Test
     public void testHandle() throws NacosException {
         Mockito.when(distroProtocol.onVerify(Mockito.any(), Mockito.anyString())).thenReturn(false);
@@ -83,4 +89,18 @@ public class DistroDataRequestHandlerTest {
         DistroDataResponse response4 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         Assert.assertNull(response4.getDistroData());
     }
+    
+    @Test
+    public void testHandleTreeVerify() throws NacosException {
+        DistroData remoteDigest = new DistroData();
+        DistroData digest = new DistroData(
+                new DistroKey(DistroClientVerifyTree.DIGEST_KEY, DistroClientDataProcessor.TYPE, "1.1.1.1:8848"),
+                new byte[0]);
+        Mockito.when(verifyTree.processVerifyData(digest, "1.1.1.1:8848")).thenReturn(remoteDigest);
+        DistroDataRequest distroDataRequest = new DistroDataRequest(digest, VERIFY);
+        DistroDataResponse response = distroDataRequestHandler.handle(distroDataRequest, new RequestMeta());
+        Assert.assertEquals(ResponseCode.SUCCESS.getCode(), response.getResultCode());
+        Assert.assertEquals(remoteDigest, response.getDistroData());
+        Mockito.verify(distroProtocol, Mockito.never()).onVerify(Mockito.any(), Mockito.anyString());
+    }
 }
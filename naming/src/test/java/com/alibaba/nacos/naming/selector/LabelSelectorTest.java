@@ -17,12 +17,20 @@
 
 package com.alibaba.nacos.naming.selector;
 
+import com.alibaba.nacos.api.cmdb.pojo.Entity;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.selector.Selector;
+import com.alibaba.nacos.api.selector.context.CmdbContext;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * {@link LabelSelector} unit test.
  *
@@ -49,4 +57,68 @@ public class LabelSelectorTest {
         Assert.assertTrue(labelSelector.getLabels().contains("A"));
         Assert.assertTrue(labelSelector.getLabels().contains("B"));
     }
+    
+    @Test
+    public void testSelect() throws NacosException {
+        LabelSelector<Instance> selector = (LabelSelector<Instance>) selectorManager
+                .parseSelector("label", "CONSUMER.label.A=PROVIDER.label.A &CONSUMER.label.B=PROVIDER.label.B");
+        CmdbContext<Instance> context = buildContext(labels("a1", "b1"), labels("a1", "b1"), labels("a1", "b2"), null);
+        List<Instance> result = selector.select(context);
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals("1.1.1.0", result.get(0).getIp());
+        // none matched, return all providers.
+        context = buildContext(labels("a2", "b1"), labels("a1", "b1"), labels("a1", "b2"), null);
+        Assert.assertEquals(3, selector.select(context).size());
+        // consumer misses label, return all providers.
+        context = buildContext(labels("a1", null), labels("a1", "b1"), labels("a1", "b2"), null);
+        Assert.assertEquals(3, selector.select(context).size());
+    }
+    
+    @Test
+    public void testGetConsumerKey() throws NacosException {
+        LabelSelector<Instance> selector = (LabelSelector<Instance>) selectorManager
+                .parseSelector("label", "CONSUMER.label.A=PROVIDER.label.A &CONSUMER.label.B=PROVIDER.label.B");
+        Object key = selector.getConsumerKey(buildContext(labels("a1", "b1")));
+        Assert.assertEquals(key, selector.getConsumerKey(buildContext(labels("a1", "b1"))));
+        Assert.assertNotEquals(key, selector.getConsumerKey(buildContext(labels("a1", "b2"))));
+        Assert.assertEquals(selector.getConsumerKey(buildContext(labels("a1", null))),
+                selector.getConsumerKey(buildContext(labels(null, "b1"))));
+    }
+    
+    private Map<String, String> labels(String valueA, String valueB) {
+        Map<String, String> result = new HashMap<>(2);
+        if (null != valueA) {
+            result.put("A", valueA);
+        }
+        if (null != valueB) {
+            result.put("B", valueB);
+        }
+        return result;
+    }
+    
+    @SafeVarargs
+    private final CmdbContext<Instance> buildContext(Map<String, String> consumerLabels,
+            Map<String, String>... providerLabels) {
+        CmdbContext<Instance> result = new CmdbContext<>();
+        result.setConsumer(buildCmdbInstance("127.0.0.1", consumerLabels));
+        List<CmdbContext.CmdbInstance<Instance>> providers = new ArrayList<>();
+        for (int i = 0; i < providerLabels.length; i++) {
+            providers.add(buildCmdbInstance("1.1.1." + i, providerLabels[i]));
+        }
+        result.setProviders(providers);
+        return result;
+    }
+    
+    private CmdbContext.CmdbInstance<Instance> buildCmdbInstance(String ip, Map<String, String> labels) {
+        Instance instance = new Instance();
+        instance.setIp(ip);
+        CmdbContext.CmdbInstance<Instance> result = new CmdbContext.CmdbInstance<>();
+        result.setInstance(instance);
+        if (null != labels) {
+            Entity entity = new Entity();
+            entity.setLabels(labels);
+            result.setEntity(entity);
+        }
+        return result;
+    }
 }